@@ -0,0 +1,82 @@
+package com.dt180g.project.benchmarks;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.abilities.AbilityInfo;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.characters.heroes.BaseHero;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.AppConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for attack resolution and character turns.
+ * Targets are kept alive between operations, so every operation performs the same amount of work.
+ * Run with {@code -prof gc} to report allocations per operation.
+ * @author Daniel Jönsson
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CombatBenchmark {
+    private static final long SEED = 42L;
+    private static final int AMOUNT_OF_ENEMIES = 12;
+
+    private GameEngine attackEngine;
+    private AbilityInfo groupAttack;
+    private BaseHero hero;
+    private BaseCharacter boss;
+
+    /**
+     * Sets up one battle against regular enemies, which attacks never kill, and one against the
+     * final boss, whose hit points are restored before every turn.
+     */
+    @Setup
+    public void setup() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+
+        attackEngine = new GameEngine(SEED);
+        attackEngine.produceEnemies(AMOUNT_OF_ENEMIES, false);
+        groupAttack = new AbilityInfo(AppConfig.ABILITY_WHIRLWIND, AppConfig.ABILITY_GROUP_TARGET, 0,
+                true, false, false);
+
+        GameEngine turnEngine = new GameEngine(SEED);
+        turnEngine.produceEnemies(0, true);
+        hero = turnEngine.getHeroes().get(0);
+        boss = turnEngine.getEnemies().get(0);
+    }
+
+    /**
+     * Measures {@code GameEngine.performCharacterAttack} for a group attack.
+     * @return whether the attack was performed.
+     */
+    @Benchmark
+    public boolean performCharacterAttack() {
+        return attackEngine.characterAttack(groupAttack);
+    }
+
+    /**
+     * Measures {@code BaseCharacter.executeActions} through a full hero turn.
+     * @return remaining hit points of the target.
+     */
+    @Benchmark
+    public int executeActions() {
+        hero.resetHeroStats();
+        boss.getCharacterStats().resetHitPoints();
+        hero.doTurn();
+        return boss.getHitPoints();
+    }
+}
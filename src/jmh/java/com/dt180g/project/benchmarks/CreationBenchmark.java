@@ -0,0 +1,84 @@
+package com.dt180g.project.benchmarks;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.characters.heroes.BaseHero;
+import com.dt180g.project.characters.heroes.Warrior;
+import com.dt180g.project.gear.Armor;
+import com.dt180g.project.gear.GearManager;
+import com.dt180g.project.gear.Weapon;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.AppConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for gear selection and character creation, which dominate setting up a battle.
+ * @author Daniel Jönsson
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CreationBenchmark {
+    private static final int AMOUNT_OF_ENEMIES = 12;
+
+    private GameEngine engine;
+
+    /**
+     * Sets up a battle to produce enemies for.
+     */
+    @Setup
+    public void setup() {
+        ActivityLogger.INSTANCE.setEnabled(false);
+        engine = new GameEngine(42L);
+    }
+
+    /**
+     * Measures {@code GearManager.getRandomWeapon} with a class restriction.
+     * @return the weapon.
+     */
+    @Benchmark
+    public Weapon getRandomWeapon() {
+        return GearManager.INSTANCE.getRandomWeapon(Warrior.class);
+    }
+
+    /**
+     * Measures {@code GearManager.getRandomArmorOfType}.
+     * @return the armor piece.
+     */
+    @Benchmark
+    public Armor getRandomArmorOfType() {
+        return GearManager.INSTANCE.getRandomArmorOfType(AppConfig.ARMOR_CHEST, Warrior.class);
+    }
+
+    /**
+     * Measures {@code GameEngine.produceEnemies} for a mid-campaign dungeon level.
+     * @return the amount of enemies.
+     */
+    @Benchmark
+    public int produceEnemies() {
+        engine.produceEnemies(AMOUNT_OF_ENEMIES, false);
+        return engine.getAmountOfEnemies();
+    }
+
+    /**
+     * Measures hero construction, including equipping gear.
+     * @return the hero.
+     */
+    @Benchmark
+    public BaseHero createWarrior() {
+        return new Warrior("Leila");
+    }
+}
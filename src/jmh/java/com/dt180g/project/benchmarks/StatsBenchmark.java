@@ -0,0 +1,64 @@
+package com.dt180g.project.benchmarks;
+
+import com.dt180g.project.characters.CharacterStats;
+import com.dt180g.project.stats.Attribute;
+import com.dt180g.project.stats.BaseStat;
+import com.dt180g.project.stats.CombatStat;
+import com.dt180g.project.stats.Trait;
+import com.dt180g.project.support.AppConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for stat lookups, which are performed several times for every attack.
+ * @author Daniel Jönsson
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StatsBenchmark {
+    private CharacterStats characterStats;
+    private BaseStat combatStat;
+
+    /**
+     * Sets up character stats of a warrior and a standalone combat stat.
+     */
+    @Setup
+    public void setup() {
+        characterStats = new CharacterStats(AppConfig.ATTRIBUTE_VALUES_WARRIOR_HERO);
+        combatStat = new CombatStat(AppConfig.COMBAT_STAT_PHYSICAL_POWER,
+                new Attribute(AppConfig.ATTRIBUTE_STRENGTH, 80),
+                new Trait(AppConfig.TRAIT_ATTACK_RATE, AppConfig.TRAIT_ATTACK_RATE_BASE_VALUE));
+    }
+
+    /**
+     * Measures {@code CharacterStats.getStatValue} for a combat stat.
+     * @return the stat value.
+     */
+    @Benchmark
+    public int getStatValue() {
+        return characterStats.getStatValue(AppConfig.COMBAT_STAT_ACTION_POINTS);
+    }
+
+    /**
+     * Measures {@code CombatStat.getBaseValue}.
+     * @return the base value.
+     */
+    @Benchmark
+    public int getBaseValue() {
+        return combatStat.getBaseValue();
+    }
+}
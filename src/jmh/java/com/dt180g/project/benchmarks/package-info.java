@@ -0,0 +1,4 @@
+/**
+ * Package for JMH benchmarks of the game's hot paths. Built with the {@code jmh} Maven profile.
+ */
+package com.dt180g.project.benchmarks;
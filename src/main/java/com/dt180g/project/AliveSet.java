@@ -0,0 +1,134 @@
+package com.dt180g.project;
+
+import com.dt180g.project.characters.BaseCharacter;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Container of the characters alive on one side of a battle, stored densely in an array.
+ * Characters are picked by index in constant time, and removed in constant time by moving the last
+ * character into the place of the removed one, so the order of the remaining characters is not kept.
+ * The position of every character is indexed by its id, which it gets when joining the battle,
+ * so only characters which have joined a battle can be added.
+ * @author Daniel Jönsson
+ * @param <E> the type of characters held.
+ */
+public final class AliveSet<E extends BaseCharacter> extends AbstractList<E> implements RandomAccess {
+    private Object[] elements = new Object[8];
+    private int size;
+    private int[] positions = new int[8];  // position of every character held, by id
+
+    /**
+     * Accessor to get the character at a position.
+     * @param index position of the character.
+     * @return the character.
+     * @throws IndexOutOfBoundsException if there is no such position.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(final int index) {
+        return (E) elements[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Accessor to get the amount of characters held.
+     * @return amount of characters.
+     */
+    @Override
+    public int size() { return size; }
+
+    /**
+     * Used to add a character last.
+     * @param character the character to add, which must have joined a battle.
+     * @return true, as the set changed.
+     * @throws IllegalArgumentException if the character has not joined a battle.
+     */
+    @Override
+    public boolean add(final E character) {
+        int id = character.getCharacterId();
+        if (id < 0) {
+            throw new IllegalArgumentException(character.getCharacterName() + " has not joined a battle");
+        }
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        if (id >= positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(id + 1, positions.length * 2));
+        }
+        elements[size] = character;
+        positions[id] = size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Used to remove the character at a position, which is taken by the last character.
+     * @param index position of the character.
+     * @return the character removed.
+     * @throws IndexOutOfBoundsException if there is no such position.
+     */
+    @Override
+    public E remove(final int index) {
+        E removed = get(index);
+        Object last = elements[--size];
+        elements[index] = last;
+        positions[((BaseCharacter) last).getCharacterId()] = index;
+        elements[size] = null;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Used to remove a character in constant time, looking its position up by id.
+     * @param o the character to remove.
+     * @return whether the character was held.
+     */
+    @Override
+    public boolean remove(final Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Used to find the position of a character in constant time, looking it up by id.
+     * @param o the character to find.
+     * @return position of the character, or -1 if not held.
+     */
+    @Override
+    public int indexOf(final Object o) {
+        if (!(o instanceof BaseCharacter character)) {
+            return -1;
+        }
+        int id = character.getCharacterId();
+        if (id < 0 || id >= positions.length) {
+            return -1;
+        }
+        int index = positions[id];
+        return (index < size && elements[index] == character) ? index : -1;
+    }
+
+    /**
+     * Descriptor method, used to determine if a character is held, in constant time.
+     * @param o the character to look for.
+     * @return whether the character is held.
+     */
+    @Override
+    public boolean contains(final Object o) { return indexOf(o) >= 0; }
+
+    /**
+     * Used to remove all characters.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+}
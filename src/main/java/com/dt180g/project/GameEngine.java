@@ -1,5 +1,6 @@
 package com.dt180g.project;
 
+import com.dt180g.project.abilities.AbilityDescriptor;
 import com.dt180g.project.abilities.AbilityInfo;
 import com.dt180g.project.characters.BaseCharacter;
 import com.dt180g.project.characters.enemies.BaseEnemy;
@@ -12,37 +13,73 @@ import com.dt180g.project.characters.heroes.Cleric;
 import com.dt180g.project.characters.heroes.Ranger;
 import com.dt180g.project.characters.heroes.Warrior;
 import com.dt180g.project.characters.heroes.Wizard;
+import com.dt180g.project.horde.Horde;
 import com.dt180g.project.support.ActivityLogger;
 import com.dt180g.project.support.AppConfig;
+import com.dt180g.project.support.EngineMetrics;
+import com.dt180g.project.support.RandomSource;
 import com.dt180g.project.support.Randomizer;
 
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
  * Entity responsible for game state and character activities.
+ * Each engine represents an independent battle, so several engines may run in parallel
+ * as long as every engine is confined to a single thread.
  * @author Erik Ström
  */
 public final class GameEngine {
-    /** Object instance. */
+    /** Default instance, used by the interactive game. */
     public static final GameEngine INSTANCE = new GameEngine();
-    private final List<BaseHero> heroes;
-    private final List<BaseEnemy> enemies = new LinkedList<>();
+    private final AliveSet<BaseHero> heroes = new AliveSet<>();
+    private final AliveSet<BaseEnemy> enemies = new AliveSet<>();
     private final List<String> enemyTypes;
+    private final RandomSource random;
+    private int[] targetScratch = new int[AppConfig.ABILITY_GROUP_TARGET];
+    private BaseCharacter[] deadScratch = new BaseCharacter[AppConfig.ABILITY_GROUP_TARGET];
+    private int characterCounter;  // source of character ids, restarted for every new game
+    private ActivityLogger logger = ActivityLogger.INSTANCE;
+    private final TurnScheduler scheduler = new TurnScheduler();
+    private Horde horde;  // enemies of a horde battle, held apart from the enemy characters
+    private final Supplier<List<BaseHero>> partyFactory;
 
     /**
-     * Constructor initialising needed members.
+     * Constructor initialising needed members, creating a separate battle with a fresh party of heroes.
+     * Randomness is seeded from system entropy.
      */
-    private GameEngine() {
-        heroes = Stream.of(
-                        new Warrior("Leila"), new Ranger("Allan"),
-                        new Wizard("Elvira"), new Cleric("Kevin"))
-                .collect(Collectors.toList());
+    public GameEngine() { this(new RandomSource(), GameEngine::createDefaultParty); }
+
+    /**
+     * Constructor creating a reproducible battle, where all randomness is drawn from the given seed.
+     * @param seed the seed of the battle.
+     */
+    public GameEngine(final long seed) { this(new RandomSource(seed), GameEngine::createDefaultParty); }
+
+    /**
+     * Constructor creating a reproducible battle fought by a party of choice, e.g. when analysing balance.
+     * @param seed the seed of the battle.
+     * @param partyFactory creates a fresh party for every new game, rolling gear from the source of the battle.
+     */
+    public GameEngine(final long seed, final Supplier<List<BaseHero>> partyFactory) {
+        this(new RandomSource(seed), partyFactory);
+    }
+
+    /**
+     * Constructor initialising needed members, creating a separate battle with a fresh party of heroes.
+     * @param random source of all randomness in the battle.
+     * @param partyFactory creates a fresh party for every new game.
+     */
+    private GameEngine(final RandomSource random, final Supplier<List<BaseHero>> partyFactory) {
+        this.random = random;
+        this.partyFactory = partyFactory;
+        newGame();
 
         enemyTypes = Stream.of(
                         AppConfig.ENEMY_SKELETON_WARRIOR, AppConfig.ENEMY_SKELETON_ARCHER, AppConfig.ENEMY_SKELETON_MAGE)
@@ -52,30 +89,123 @@ public final class GameEngine {
 
 
     /**
-     * Get index of targets for character ability.
+     * Used to start a new game, replacing all heroes with a fresh party and removing remaining enemies.
+     */
+    public void newGame() {
+        heroes.clear();
+        enemies.clear();
+        horde = null;
+        characterCounter = 0;
+        List<BaseHero> party;
+        RandomSource previous = Randomizer.INSTANCE.bind(random);  // gear rolls are drawn from this battle
+        try {
+            party = partyFactory.get();
+        } finally {
+            Randomizer.INSTANCE.bind(previous);
+        }
+        for (BaseHero hero : party) {
+            hero.joinBattle(this);  // characters are indexed by the id they get when joining
+            heroes.add(hero);
+        }
+    }
+
+    /**
+     * Used internally to create the party of the interactive game.
+     * @return the default party.
+     */
+    private static List<BaseHero> createDefaultParty() {
+        return Arrays.asList(
+                new Warrior("Leila"), new Ranger("Allan"),
+                new Wizard("Elvira"), new Cleric("Kevin"));
+    }
+
+    /**
+     * Used by characters joining the battle to get their id, assigned in the order characters join.
+     * @return an id unique within the current game.
+     */
+    public int nextCharacterId() { return characterCounter++; }
+
+    /**
+     * Used by a horde to reserve a block of consecutive ids for its enemies.
+     * @param amount the amount of ids to reserve.
+     * @return the first id of the block.
+     */
+    public int reserveCharacterIds(final int amount) {
+        int first = characterCounter;
+        characterCounter += amount;
+        return first;
+    }
+
+    /**
+     * Used to let a horde take the place of the enemies, whose attacks are then resolved by the horde.
+     * @param horde the horde to face, or null to face enemy characters again.
+     */
+    public void enterHorde(final Horde horde) {
+        enemies.clear();
+        this.horde = horde;
+    }
+
+    /**
+     * Accessor to get the horde faced by the heroes.
+     * @return the horde, or null if the heroes face enemy characters.
+     */
+    public Horde getHorde() { return horde; }
+
+    /**
+     * Accessor to get the logger recording the activity of this battle.
+     * @return the logger of the engine, the shared {@link ActivityLogger#INSTANCE} unless replaced.
+     */
+    public ActivityLogger getLogger() { return logger; }
+
+    /**
+     * Mutator to replace the logger of this battle, needed when engines log in parallel.
+     * @param logger the logger to record activity through, which must only be used by this engine's thread.
+     */
+    public void setLogger(final ActivityLogger logger) { this.logger = logger; }
+
+    /**
+     * Accessor to get the turn order of this battle, from which dead characters are removed as they die.
+     * @return the turn scheduler of the engine.
+     */
+    public TurnScheduler getTurnScheduler() { return scheduler; }
+
+    /**
+     * Used to schedule the turns of all remaining characters, heroes before enemies when equally fast.
+     * Called once the characters of a dungeon level are in place.
+     */
+    public void scheduleTurns() {
+        scheduler.reset(getAllCharacters());
+    }
+
+    /**
+     * Accessor to get the source of all randomness in this battle.
+     * @return the random source of the engine.
+     */
+    public RandomSource getRandomSource() { return random; }
+
+    /**
+     * Draw distinct index of targets for character ability into the scratch buffer of the engine.
+     * Targets are drawn without replacement, so an ability hits as many characters as it states, when there are.
      * @param amountOfTargets the number of targets needed
      * @param listSize size of container holding target characters
-     * @return container of integer positions
-     */
-    private List<Integer> getTargetIndexPos(final int amountOfTargets, final int listSize) {
-        // Create an IntStream with a range of [0, amountOfTargets)
-        return IntStream.range(0, amountOfTargets)
-                // Map each integer in the range to a random value using the provided Randomizer
-                .map(i -> Randomizer.INSTANCE.getRandomValue(listSize - 1))
-                // Convert the IntStream to a Stream<Integer> (boxing the primitive ints to Integer objects)
-                .boxed()
-                // Collect the stream elements into a List<Integer>
-                .collect(Collectors.toList());
+     * @return the number of targets drawn, held by the first slots of the scratch buffer
+     */
+    private int drawTargetIndexPos(final int amountOfTargets, final int listSize) {
+        if (targetScratch.length < amountOfTargets) {
+            targetScratch = new int[amountOfTargets];
+            deadScratch = new BaseCharacter[amountOfTargets];
+        }
+        return random.sampleDistinct(targetScratch, amountOfTargets, listSize);
     }
 
     /**
-     * Accessor to get hero characters.
+     * Accessor to get hero characters, which are not kept in party order once a hero dies.
      * @return list of remaining hero characters.
      */
     public List<BaseHero> getHeroes() { return heroes; }
 
     /**
-     * Accessor to get enemy characters.
+     * Accessor to get enemy characters, which are not kept in order once an enemy dies.
      * @return list of remaining enemy characters.
      */
     public List<BaseEnemy> getEnemies() { return enemies; }
@@ -84,7 +214,7 @@ public final class GameEngine {
      * Accessor to get amount of available enemy characters.
      * @return amount of remaining enemies.
      */
-    public int getAmountOfEnemies() { return enemies.size(); }
+    public int getAmountOfEnemies() { return enemies.size() + (horde == null ? 0 : horde.size()); }
 
     /**
      * Accessor to get amount of available hero characters.
@@ -116,7 +246,7 @@ public final class GameEngine {
      * Descriptor method, used to determine if there are enemies left.
      * @return whether there are enemies remaining.
      */
-    public boolean enemiesRemaining() { return !enemies.isEmpty(); }
+    public boolean enemiesRemaining() { return !enemies.isEmpty() || (horde != null && !horde.isEmpty()); }
 
     /**
      * Fill list of enemies with stated amount.
@@ -124,11 +254,28 @@ public final class GameEngine {
      * @param finalBoss whether final boss should be produced.
      */
     public void produceEnemies(final int amountOfEnemies, final boolean finalBoss) {
+        RandomSource previous = Randomizer.INSTANCE.bind(random);  // gear rolls are drawn from this battle
+        try {
+            createEnemies(amountOfEnemies, finalBoss);
+        } finally {
+            Randomizer.INSTANCE.bind(previous);
+        }
+    }
+
+    /**
+     * Used internally by Game Engine to fill list of enemies with stated amount.
+     * @param amountOfEnemies the amount of basic enemies to produce.
+     * @param finalBoss whether final boss should be produced.
+     */
+    private void createEnemies(final int amountOfEnemies, final boolean finalBoss) {
         enemies.clear(); // be sure we start with an empty list
+        horde = null;
 
         // If it's the final boss, add the LichLord and return
         if (finalBoss) {
-            enemies.add(new LichLord());
+            BaseEnemy boss = new LichLord();
+            boss.joinBattle(this);
+            enemies.add(boss);
             return;
         }
 
@@ -138,7 +285,7 @@ public final class GameEngine {
         // Generate 'amountOfEnemies' enemies
         IntStream.range(0, amountOfEnemies)
                 // Generate a random index based on the size of the enemyTypes list
-                .map(i -> Randomizer.INSTANCE.getRandomValue(enemyTypes.size() - 1))
+                .map(i -> random.getRandomValue(enemyTypes.size() - 1))
                 // Get the corresponding enemy type string from the enemyTypes list
                 .mapToObj(enemyTypes::get)
                 // For each randomly generated enemy type, create and add the enemy instance
@@ -154,7 +301,8 @@ public final class GameEngine {
                         case AppConfig.ENEMY_SKELETON_MAGE -> new SkeletonMage(enemyCounter);
                         default -> new SkeletonWarrior(enemyCounter);
                     };
-                    // Add the created enemy to the enemies list
+                    // Add the created enemy to the enemies list, as part of this battle
+                    enemy.joinBattle(this);
                     enemies.add(enemy);
                 });
     }
@@ -163,93 +311,120 @@ public final class GameEngine {
 
     /**
      * Used internally by Game Engine to perform character attacks.
-     * @param targetList list containing character types which the attack targets.
-     * @param abilityInfo information about the ability to base the attack.
+     * Resolution only works on primitives and the scratch buffer of the engine, and activity is logged as
+     * structured entries, so resolving attacks neither allocates nor formats text.
+     * The outcome summed over all targets is recorded in the {@link EngineMetrics}.
+     * @param targetList set of alive characters which the attack targets.
+     * @param amountOfTargets the number of targets of the attack.
+     * @param damage the damage of the attack, negative for healing.
+     * @param isMagic whether the attack is magical.
+     * @param isHeal whether the attack heals its targets.
      * @param critMultiplier multiplier for attack value (critical hit).
+     * @param byHeroes whether the attack is performed by a hero, which the outcome is recorded for.
      */
-    private void performCharacterAttack(final List<? extends BaseCharacter> targetList, final AbilityInfo abilityInfo,
-                                        final int critMultiplier) {
-
-        List<Integer> targetIndexes = getTargetIndexPos(abilityInfo.getAmountOfTargets(), targetList.size());
-
-        targetIndexes.stream()
-                .map(targetList::get)
-                .distinct()
-                .forEach(character -> {
-                    final int critUpperBound = 9;
-                    boolean addCrit = Randomizer.INSTANCE.getRandomValue(1, critUpperBound) <= AppConfig.CRIT_CHANCE;
-                    int damage = addCrit ? abilityInfo.getDamage() * critMultiplier : abilityInfo.getDamage();
-
-                    String baseInfo = String.format("%s%s", addCrit ? "[CRITICAL HIT] " : "", character.getCharacterName());
-
-                    if (abilityInfo.isHeal()) {
-                        int healedHp = character.registerHealing(-damage);
-                        ActivityLogger.INSTANCE.logHealing(String.format("%s receives %+d points of healing and has %d HP left",
-                                baseInfo, -damage, healedHp));
-                    } else {
-                        List<Integer> damageInfo = character.registerDamage(damage, abilityInfo.isMagic());
-                        String logInfo = String.format("%s deflects %d points of damage taking %d as direct hit",
-                                baseInfo, damageInfo.get(0), damageInfo.get(1));
-
-                        if (character.getHitPoints() < 1) {
-                            ActivityLogger.INSTANCE.logDeath(String.format("%s causing death (%d HP)",
-                                    logInfo, character.getHitPoints()));
-                        } else {
-                            ActivityLogger.INSTANCE.logDamage(String.format("%s and has %d HP left",
-                                    logInfo, character.getHitPoints()));
-                        }
-                    }
-                });
+    private void performCharacterAttack(final AliveSet<? extends BaseCharacter> targetList, final int amountOfTargets,
+                                        final int damage, final boolean isMagic, final boolean isHeal,
+                                        final int critMultiplier, final boolean byHeroes) {
+
+        int amountDrawn = drawTargetIndexPos(amountOfTargets, targetList.size());
+        int amountOfDead = 0;
+        int amountOfCrits = 0;
+        long dealt = 0;
+        long taken = 0;
+
+        for (int i = 0; i < amountDrawn; i++) {
+            BaseCharacter character = targetList.get(targetScratch[i]);
+            boolean addCrit = random.getRandomValue(1, AppConfig.CRIT_ROLL_UPPER_BOUND) <= AppConfig.CRIT_CHANCE;
+            int totalDamage = addCrit ? damage * critMultiplier : damage;
+            amountOfCrits += addCrit ? 1 : 0;
+
+            if (isHeal) {
+                int healedHp = character.registerHealing(-totalDamage);
+                logger.logHealing(character.getCharacterId(), character.getCharacterName(), addCrit,
+                        -totalDamage, healedHp);
+            } else {
+                int directHit = character.registerDamage(totalDamage, isMagic);
+                dealt += totalDamage;
+                taken += directHit;
+                if (character.isDead()) {
+                    scheduler.remove(character);
+                    deadScratch[amountOfDead++] = character;
+                }
+                logger.logHit(character.getCharacterId(), character.getCharacterName(), addCrit,
+                        totalDamage - directHit, directHit, character.getHitPoints());
+            }
+        }
 
-        // Clean up dead characters from target list
-        targetList.removeIf(BaseCharacter::isDead);
-    }
+        EngineMetrics.INSTANCE.recordHits(byHeroes, amountOfCrits, dealt, taken, amountOfDead);
 
+        // Remove dead characters once all targets are resolved, as removal moves other characters
+        for (int i = 0; i < amountOfDead; i++) {
+            targetList.remove(deadScratch[i]);
+            deadScratch[i] = null;
+        }
+    }
 
     /**
-     * Used internally by Game Engine for hero specific attack.
+     * Used by client to request that the engine performs an attack.
      * @param abilityInfo information about the ability to base the attack.
      * @return whether the attack has been performed successfully.
      */
-    private boolean heroAttack(final AbilityInfo abilityInfo) {
-        if (enemies.isEmpty()) {
-            ActivityLogger.INSTANCE.logAttack("All enemies are dead...");
-            return false;
-        }
-
-        int amountOfTargets = abilityInfo.getAmountOfTargets();
-        String targets = (amountOfTargets == 1) ? "enemy" : "enemies";
-        ActivityLogger.INSTANCE.logAttack(String.format("%s targeting %d %s",
-                abilityInfo.getInformation(), amountOfTargets, targets));
-        performCharacterAttack(enemies, abilityInfo, AppConfig.HERO_CRIT_MULTIPLIER);
-        return true;
+    public boolean characterAttack(final AbilityInfo abilityInfo) {
+        return characterAttack(abilityInfo.getInformation(), abilityInfo.getAmountOfTargets(), abilityInfo.getDamage(),
+                abilityInfo.getTargetEnemies(), abilityInfo.isMagic(), abilityInfo.isHeal());
     }
 
     /**
-     * Used internally by Game Engine for enemy specific attack.
-     * @param abilityInfo information about the ability to base the attack.
+     * Used by client to request that the engine performs an attack described by a precomputed ability descriptor.
+     * @param descriptor the descriptor of the ability to base the attack.
+     * @param damage the damage of the attack, negative for healing.
+     * @param targetEnemies whether the attack targets enemies or heroes.
      * @return whether the attack has been performed successfully.
      */
-    private boolean enemyAttack(final AbilityInfo abilityInfo) {
-        if (heroes.isEmpty()) {
-            ActivityLogger.INSTANCE.logAttack("All heroes are dead...");
-            return false;
-        }
-
-        int amountOfTargets = abilityInfo.getAmountOfTargets();
-        String targets = (amountOfTargets == 1) ? "hero" : "heroes";
-        ActivityLogger.INSTANCE.logAttack(String.format("%s targeting %d %s",
-                abilityInfo.getInformation(), amountOfTargets, targets));
-        performCharacterAttack(heroes, abilityInfo, AppConfig.ENEMY_CRIT_MULTIPLIER);
-        return true;
+    public boolean characterAttack(final AbilityDescriptor descriptor, final int damage, final boolean targetEnemies) {
+        return characterAttack(descriptor.getInformation(), descriptor.getAmountOfTargets(), damage, targetEnemies,
+                descriptor.isMagic(), descriptor.isHeal());
     }
 
     /**
-     * Used by client to request that the engine performs an attack.
-     * @param abilityInfo information about the ability to base the attack.
+     * Used by client to request that the engine performs an attack, without wrapping it in an {@link AbilityInfo}.
+     * Healing targets the side of the character performing it, which the attack is recorded for.
+     * @param information description of the ability, used for logging.
+     * @param amountOfTargets the number of targets of the attack.
+     * @param damage the damage of the attack, negative for healing.
+     * @param targetEnemies whether the attack targets enemies or heroes.
+     * @param isMagic whether the attack is magical.
+     * @param isHeal whether the attack heals its targets.
      * @return whether the attack has been performed successfully.
      */
-    public boolean characterAttack(final AbilityInfo abilityInfo) {
-        return (abilityInfo.getTargetEnemies()) ? heroAttack(abilityInfo) : enemyAttack(abilityInfo);
+    public boolean characterAttack(final String information, final int amountOfTargets, final int damage,
+                                   final boolean targetEnemies, final boolean isMagic, final boolean isHeal) {
+        final boolean byHeroes = targetEnemies != isHeal;
+        if (targetEnemies) {
+            if (!enemiesRemaining()) {
+                logger.logAttack("All enemies are dead...");
+                return false;
+            }
+            logger.logAbility(information, amountOfTargets, false);
+            long timerStart = EngineMetrics.INSTANCE.startTimer();
+            if (horde != null) {
+                horde.receiveAttack(amountOfTargets, damage, isMagic, isHeal, AppConfig.HERO_CRIT_MULTIPLIER);
+            } else {
+                performCharacterAttack(enemies, amountOfTargets, damage, isMagic, isHeal,
+                        AppConfig.HERO_CRIT_MULTIPLIER, byHeroes);
+            }
+            EngineMetrics.INSTANCE.recordAttack(byHeroes, timerStart);
+        } else {
+            if (heroes.isEmpty()) {
+                logger.logAttack("All heroes are dead...");
+                return false;
+            }
+            logger.logAbility(information, amountOfTargets, true);
+            long timerStart = EngineMetrics.INSTANCE.startTimer();
+            performCharacterAttack(heroes, amountOfTargets, damage, isMagic, isHeal, AppConfig.ENEMY_CRIT_MULTIPLIER,
+                    byHeroes);
+            EngineMetrics.INSTANCE.recordAttack(byHeroes, timerStart);
+        }
+        return true;
     }
 }
@@ -2,8 +2,9 @@ package com.dt180g.project;
 
 import com.dt180g.project.characters.BaseCharacter;
 import com.dt180g.project.characters.heroes.BaseHero;
-import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.simulation.CampaignResult;
 import com.dt180g.project.support.AppConfig;
+import com.dt180g.project.support.EngineMetrics;
 import com.dt180g.project.support.IOHelper;
 
 import java.io.PrintStream;
@@ -19,29 +20,72 @@ import java.util.List;
  * @author Erik Ström
  */
 public class GameRunner {
-    private final GameEngine engine = GameEngine.INSTANCE;  // reference to game engine
+    private final GameEngine engine;                        // reference to game engine
     private final PrintStream out = System.out;             // our standard output stream
     private int currentDungeonLevel = AppConfig.DUNGEON_START_LEVEL;
     private int currentRound = 0;       // counter for the amount of rounds in level
     private boolean endGame = false;    // condition to end game
+    private final boolean interactive;  // whether user menus should be presented
+    private final int[] roundsPerLevel = new int[AppConfig.DUNGEON_START_LEVEL + 1];
+    private int levelsCleared = 0;      // counter for the amount of completed levels
+    private int stopLevel = 0;          // dungeon level to stop the campaign at, none by default
+    private int stopRound = 0;          // round within the stop level, stopping before the first round if zero
+    private boolean stopped = false;    // whether the campaign was stopped at its stop point
 
-    private interface CharacterType {  // for easy enumeration of character types
-        int ALL = 0;
-        int HEROES = 1;
-        int ENEMIES = 2;
+    /** Default constructor, creating an interactive game runner for the default game engine. */
+    public GameRunner() { this(GameEngine.INSTANCE, true); }
+
+    /**
+     * Constructor stating which engine to run and whether the user should be consulted between dungeon levels.
+     * A non-interactive runner always proceeds to the next level, which is used for headless simulations.
+     * @param engine the game engine running the battle.
+     * @param interactive whether user menus should be presented.
+     */
+    public GameRunner(final GameEngine engine, final boolean interactive) {
+        this.engine = engine;
+        this.interactive = interactive;
     }
 
-    /** Default constructor. */
-    public GameRunner() { }
+    /**
+     * Used to stop the campaign once the given round of a dungeon level has been played, leaving the battle
+     * in its state at that point. Used when replaying campaigns to inspect them.
+     * @param level the dungeon level to stop at, counting down from {@link AppConfig#DUNGEON_START_LEVEL}.
+     * @param round the round to stop after, or zero to stop once the level is entered.
+     * @throws IllegalArgumentException if the level does not exist or the round is negative.
+     */
+    public void stopAt(final int level, final int round) {
+        if (level < 1 || level > AppConfig.DUNGEON_START_LEVEL || round < 0) {
+            throw new IllegalArgumentException("No such stop point: level " + level + ", round " + round);
+        }
+        stopLevel = level;
+        stopRound = round;
+    }
+
+    /**
+     * Descriptor method, used to determine if the campaign was stopped at its stop point.
+     * @return whether the stop point was reached.
+     */
+    public boolean isStopped() { return stopped; }
+
+    /**
+     * Accessor to get the dungeon level the campaign is at.
+     * @return the current dungeon level.
+     */
+    public int getCurrentDungeonLevel() { return currentDungeonLevel; }
+
+    /**
+     * Accessor to get the last round played within the current dungeon level.
+     * @return the current round.
+     */
+    public int getCurrentRound() { return currentRound; }
 
     /**
-     * Used internally by Game Runner to access remaining characters from Game Engine.
-     * @param type type of characters which should be collected.
-     * @return list of characters which has been collected from engine.
+     * Used internally by Game Runner to check whether the stop point has been reached.
+     * @return whether the campaign should stop.
      */
-    private List<? extends BaseCharacter> getCharacters(final int type) {
-        return (type == CharacterType.ENEMIES) ? engine.getEnemies() : (type == CharacterType.HEROES)
-                ? engine.getHeroes() : engine.getAllCharacters();
+    private boolean reachedStopPoint() {
+        stopped = currentDungeonLevel == stopLevel && currentRound == stopRound;
+        return stopped;
     }
 
     /**
@@ -54,10 +98,12 @@ public class GameRunner {
 
     /**
      * Used internally by Game Runner to produce sub menu for hero details.
-     * User may choose to view details for specific hero, or all of them.
+     * User may choose to view details for specific hero, or all of them, listed in party order.
      */
     private void heroDetailsMenu() {
-        List<BaseHero> heroes = engine.getHeroes();
+        // The engine does not keep the order of its heroes once one dies, they joined in party order though
+        List<BaseHero> heroes = engine.getHeroes().stream()
+                .sorted(Comparator.comparingInt(BaseCharacter::getCharacterId)).toList();
         // Use Stream API to create the menuOptions list
         List<String> menuOptions = new ArrayList<>(heroes.stream().map(BaseHero::getCharacterName).toList());
         menuOptions.add("All");
@@ -84,9 +130,14 @@ public class GameRunner {
      * @return user input.
      */
     private int runUserMenu() {
+        if (!interactive) {  // headless runs always proceed to the next dungeon level
+            return 1;
+        }
+
         // The menu options for user navigation
         List<String> menuOptions = Arrays.asList("Run Dungeon Level " + currentDungeonLevel, "View Hero Details");
 
+        engine.getLogger().flush();  // let the battle log catch up before presenting the menu
         int input;
         do {
             out.printf(System.lineSeparator() + "****** %d HEROES LEFT, CHOOSE YOUR NEXT MOVE ******%n",
@@ -115,29 +166,21 @@ public class GameRunner {
     private void runRound() {
         ++currentRound;
 
-        final int repeatAmount = 15;
-        String filler = "*".repeat(repeatAmount);
-        String logInfo = String.format("%n%s DUNGEON LEVEL %d | ROUND %d | %d HEROES | %d ENEMIES %s",
-                filler, currentDungeonLevel, currentRound, engine.getAmountOfHeroes(),
-                engine.getAmountOfEnemies(), filler);
-        ActivityLogger.INSTANCE.logRoundInfo(logInfo);
-
-        // Get all characters, both heroes and enemies
-        List<? extends BaseCharacter> characters = getCharacters(CharacterType.ALL);
+        engine.getLogger().logRound(currentDungeonLevel, currentRound, engine.getAmountOfHeroes(),
+                engine.getAmountOfEnemies());
 
-        // Sort based on action points in descending order. Highest AP rate will act first
-        characters.sort(Comparator.comparingInt(BaseCharacter::getActionPoints).reversed());
+        // Characters act in order of action points, highest first, as kept by the scheduler of the engine
+        TurnScheduler scheduler = engine.getTurnScheduler();
+        scheduler.startRound();
 
-        for (BaseCharacter character : characters) {
+        BaseCharacter character;
+        while ((character = scheduler.nextTurn()) != null) {
             if (currentRound > 1) {  // replenish some AP and Energy for all characters
                 character.roundReset();
             }
 
-            if (character.isDead()) {  // ignore late updates regarding list removals
-                continue;
-            }
-
             character.doTurn();
+            scheduler.endTurn(character);
 
             if (!engine.heroesRemaining()) {
                 endGame = true;  // game over
@@ -167,11 +210,24 @@ public class GameRunner {
         }
 
         currentRound = 0;  // reset counter for the amount of rounds in level
-        while (engine.enemiesRemaining() && !endGame) {
+        engine.scheduleTurns();
+        while (!reachedStopPoint() && engine.enemiesRemaining() && !endGame) {
             runRound();  // do round
         }
+        if (stopped) {
+            return;
+        }
 
-        out.println();
+        roundsPerLevel[currentDungeonLevel] = currentRound;
+        EngineMetrics.INSTANCE.recordLevel(currentDungeonLevel, currentRound);
+        if (!engine.enemiesRemaining()) {
+            ++levelsCleared;
+        }
+
+        if (interactive) {
+            engine.getLogger().flush();
+            out.println();
+        }
     }
 
     /**
@@ -181,12 +237,9 @@ public class GameRunner {
     public void runGame() {
         IOHelper.printWelcomeHeader();
 
-        int difficulty = 0;
-        while (currentDungeonLevel > 0 && !endGame) {
-            runDungeonLevel(++difficulty);
-            --currentDungeonLevel;
-        }
+        runCampaign();
 
+        engine.getLogger().flush();
         out.println();
 
         if (!engine.enemiesRemaining()) {
@@ -195,4 +248,23 @@ public class GameRunner {
             IOHelper.printGameOverHeader();
         }
     }
+
+    /**
+     * Runs all dungeon levels of a single campaign, without printing any headers.
+     * Will stop early if user states to do so, or in the case all heroes are dead.
+     * @return summary of the campaign outcome.
+     */
+    public CampaignResult runCampaign() {
+        int difficulty = 0;
+        while (currentDungeonLevel > 0 && !endGame) {
+            runDungeonLevel(++difficulty);
+            if (stopped) {
+                break;
+            }
+            --currentDungeonLevel;
+        }
+
+        boolean victory = engine.heroesRemaining() && !engine.enemiesRemaining() && currentDungeonLevel == 0;
+        return new CampaignResult(victory, levelsCleared, roundsPerLevel.clone(), engine.getAmountOfHeroes());
+    }
 }
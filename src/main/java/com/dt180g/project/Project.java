@@ -1,5 +1,24 @@
 package com.dt180g.project;
 
+import com.dt180g.project.horde.HordeRunner;
+import com.dt180g.project.simulation.BalanceAnalyser;
+import com.dt180g.project.simulation.BatchRunner;
+import com.dt180g.project.simulation.PartyComposition;
+import com.dt180g.project.simulation.ReplayRunner;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.AppConfig;
+import com.dt180g.project.support.EngineMetrics;
+import com.dt180g.project.support.FileSink;
+import com.dt180g.project.support.LogSink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * The main starting point for Project.
  * Responsible for creation of game running entity and trigger its simulation.
@@ -10,9 +29,152 @@ public final class Project {
 
     /**
      * Create game running entity and trigger its simulation.
-     * @param args command arguments. Not relevant here.
+     * Stating {@value AppConfig#ARG_BATCH} followed by an amount runs that many campaigns headless,
+     * printing aggregated results instead of starting an interactive game. An optional third argument
+     * states the amount of worker threads, defaulting to the amount of available processors, and
+     * {@value AppConfig#ARG_SEED} followed by a seed makes the batch reproducible.
+     * {@value AppConfig#ARG_JOURNAL} followed by a directory writes the combat activity of the batch
+     * to binary journals in that directory.
+     * {@value AppConfig#ARG_REPLAY} followed by a seed replays that campaign, and when followed by a dungeon level
+     * and round as well, prints the state of all characters once that round has been played.
+     * {@value AppConfig#ARG_VERIFY} followed by a journal directory and a campaign index replays the campaign
+     * and compares it with the journal.
+     * {@value AppConfig#ARG_HORDE} followed by an amount lets the heroes face a horde of that many enemies,
+     * reproducible when {@value AppConfig#ARG_SEED} followed by a seed is stated as well.
+     * {@value AppConfig#ARG_ANALYSE} followed by an amount runs that many campaigns for every party composition stated
+     * by {@value AppConfig#ARG_PARTY}, or for every composition of the size stated by
+     * {@value AppConfig#ARG_PARTY_SIZE}, printing a balance report per composition. Without either, the default
+     * party is analysed. An optional third argument states the amount of worker threads.
+     * For an interactive game, {@value AppConfig#ARG_LOG_FILE} followed by a path writes the battle log
+     * to that file instead of the console.
+     * In every mode, runtime metrics are exported through JMX as {@value AppConfig#METRICS_OBJECT_NAME}.
+     * @param args command arguments.
      */
     public static void main(final String... args) {
+        EngineMetrics.INSTANCE.register();
+        if (args.length >= 2 && AppConfig.ARG_BATCH.equals(args[0])) {
+            System.out.println(createBatchRunner(Arrays.asList(args)).run());
+            return;
+        }
+        if (args.length >= 2 && AppConfig.ARG_REPLAY.equals(args[0])) {
+            ReplayRunner replay = new ReplayRunner(Long.parseLong(args[1]));
+            System.out.println((args.length >= 4)
+                    ? replay.replayTo(Integer.parseInt(args[2]), Integer.parseInt(args[3])) : replay.replay());
+            return;
+        }
+        if (args.length >= 3 && AppConfig.ARG_VERIFY.equals(args[0])) {
+            verifyReplay(Path.of(args[1]), Long.parseLong(args[2]));
+            return;
+        }
+        if (args.length >= 2 && AppConfig.ARG_HORDE.equals(args[0])) {
+            System.out.println(createHordeRunner(Arrays.asList(args)).run());
+            return;
+        }
+        if (args.length >= 2 && AppConfig.ARG_ANALYSE.equals(args[0])) {
+            createBalanceAnalyser(Arrays.asList(args)).run().forEach(System.out::println);
+            return;
+        }
+        if (args.length >= 2 && AppConfig.ARG_LOG_FILE.equals(args[0])) {
+            runWithLogFile(Path.of(args[1]));
+            return;
+        }
         new GameRunner().runGame();
     }
+
+    /**
+     * Used internally to run an interactive game, writing the battle log to a file.
+     * @param logFile the file to append the battle log to.
+     */
+    private static void runWithLogFile(final Path logFile) {
+        try (FileSink sink = new FileSink(logFile)) {
+            LogSink previous = ActivityLogger.INSTANCE.setSink(sink);
+            try {
+                new GameRunner().runGame();
+            } finally {
+                ActivityLogger.INSTANCE.setSink(previous);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Used internally to replay a journaled campaign and report whether it matches its journal.
+     * @param journal the journal directory of the batch.
+     * @param campaign index of the campaign within the batch.
+     */
+    private static void verifyReplay(final Path journal, final long campaign) {
+        try {
+            ReplayRunner replay = ReplayRunner.fromJournal(journal, campaign);
+            long divergence = replay.verify(journal, campaign);
+            System.out.println((divergence < 0)
+                    ? String.format("Campaign %d (seed %d) replays identically", campaign, replay.getSeed())
+                    : String.format("Campaign %d (seed %d) diverges from its journal at entry %d",
+                    campaign, replay.getSeed(), divergence));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Used internally to create a batch runner from command arguments.
+     * @param args command arguments, starting with {@value AppConfig#ARG_BATCH} and the amount of campaigns.
+     * @return the batch runner.
+     */
+    private static BatchRunner createBatchRunner(final List<String> args) {
+        int campaigns = Integer.parseInt(args.get(1));
+        int seedPos = args.indexOf(AppConfig.ARG_SEED);
+        int journalPos = args.indexOf(AppConfig.ARG_JOURNAL);
+        int threads = (args.size() > 2 && !args.get(2).startsWith("--"))
+                ? Integer.parseInt(args.get(2)) : Runtime.getRuntime().availableProcessors();
+
+        BatchRunner runner = (seedPos > 0 && seedPos + 1 < args.size())
+                ? new BatchRunner(campaigns, threads, Long.parseLong(args.get(seedPos + 1)))
+                : new BatchRunner(campaigns, threads);
+        if (journalPos > 0 && journalPos + 1 < args.size()) {
+            runner.setJournalDirectory(Path.of(args.get(journalPos + 1)));
+        }
+        return runner;
+    }
+
+    /**
+     * Used internally to create a horde runner from command arguments.
+     * @param args command arguments, starting with {@value AppConfig#ARG_HORDE} and the amount of enemies.
+     * @return the horde runner.
+     */
+    private static HordeRunner createHordeRunner(final List<String> args) {
+        int seedPos = args.indexOf(AppConfig.ARG_SEED);
+        long seed = (seedPos > 0 && seedPos + 1 < args.size())
+                ? Long.parseLong(args.get(seedPos + 1)) : ThreadLocalRandom.current().nextLong();
+        return new HordeRunner(Integer.parseInt(args.get(1)), seed);
+    }
+
+    /**
+     * Used internally to create a balance analyser from command arguments.
+     * @param args command arguments, starting with {@value AppConfig#ARG_ANALYSE} and the amount of campaigns.
+     * @return the balance analyser.
+     */
+    private static BalanceAnalyser createBalanceAnalyser(final List<String> args) {
+        long campaigns = Long.parseLong(args.get(1));
+        int seedPos = args.indexOf(AppConfig.ARG_SEED);
+        int sizePos = args.indexOf(AppConfig.ARG_PARTY_SIZE);
+        int threads = (args.size() > 2 && !args.get(2).startsWith("--"))
+                ? Integer.parseInt(args.get(2)) : Runtime.getRuntime().availableProcessors();
+        long seed = (seedPos > 0 && seedPos + 1 < args.size())
+                ? Long.parseLong(args.get(seedPos + 1)) : ThreadLocalRandom.current().nextLong();
+
+        List<PartyComposition> compositions = new ArrayList<>();
+        for (int i = 2; i + 1 < args.size(); i++) {
+            if (AppConfig.ARG_PARTY.equals(args.get(i))) {
+                compositions.add(PartyComposition.parse(args.get(i + 1)));
+            }
+        }
+        if (sizePos > 0 && sizePos + 1 < args.size()) {
+            compositions.addAll(PartyComposition.allOfSize(Integer.parseInt(args.get(sizePos + 1))));
+        }
+        if (compositions.isEmpty()) {
+            compositions.add(PartyComposition.parse(AppConfig.DEFAULT_PARTY));
+        }
+        return new BalanceAnalyser(compositions, campaigns, threads, seed);
+    }
 }
@@ -0,0 +1,231 @@
+package com.dt180g.project;
+
+import com.dt180g.project.characters.BaseCharacter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entity responsible for the turn order of a battle, where characters with more action points act first.
+ * Characters with equal action points act in the order they were scheduled in, heroes before enemies.
+ *
+ * <p>The order is kept incrementally, in two indexed binary max-heaps keyed on action points: one holding
+ * the characters still to act in the current round, and one collecting those who have acted, keyed on the
+ * action points they have left for the next round. A character only changes action points during its own
+ * turn, so every turn costs O(log n) and no round has to sort all characters. Characters are removed from
+ * either heap as soon as they die.
+ * @author Daniel Jönsson
+ */
+public final class TurnScheduler {
+    private static final int NOT_SCHEDULED = -1;
+    private BaseCharacter[] characters = new BaseCharacter[0];  // indexed by character id
+    private int[] actionPoints = new int[0];     // key of every scheduled character, by id
+    private int[] rank = new int[0];             // order the character was scheduled in, breaking ties
+    private int[] position = new int[0];         // position within its heap, by id
+    private boolean[] inCurrent = new boolean[0];  // whether the character is still to act this round
+    private int[] current = new int[0];          // heap of ids still to act in this round
+    private int currentSize;
+    private int[] next = new int[0];             // heap of ids which have acted, for the next round
+    private int nextSize;
+
+    /**
+     * Used to schedule a new set of characters, replacing all previous ones.
+     * Characters are keyed on their current action points, and will act in the next round started.
+     * @param scheduled the characters to schedule, in the order ties should be resolved.
+     */
+    public void reset(final List<? extends BaseCharacter> scheduled) {
+        int capacity = 0;
+        for (BaseCharacter character : scheduled) {
+            capacity = Math.max(capacity, character.getCharacterId() + 1);
+        }
+        if (characters.length < capacity) {
+            characters = new BaseCharacter[capacity];
+            actionPoints = new int[capacity];
+            rank = new int[capacity];
+            position = new int[capacity];
+            inCurrent = new boolean[capacity];
+        } else {
+            Arrays.fill(characters, null);
+        }
+        Arrays.fill(position, NOT_SCHEDULED);
+        if (current.length < scheduled.size()) {
+            current = new int[scheduled.size()];
+            next = new int[scheduled.size()];
+        }
+        currentSize = 0;
+        nextSize = 0;
+
+        int order = 0;
+        for (BaseCharacter character : scheduled) {
+            int id = character.getCharacterId();
+            characters[id] = character;
+            rank[id] = order++;
+            push(id, character.getActionPoints());
+        }
+    }
+
+    /**
+     * Used to start a new round, where every character scheduled for it acts once.
+     * Characters which did not get to act in the previous round keep their place in the order.
+     */
+    public void startRound() {
+        if (currentSize == 0) {  // the usual case: all characters acted, so the heaps swap roles
+            int[] heap = current;
+            current = next;
+            currentSize = nextSize;
+            next = heap;
+            nextSize = 0;
+            for (int i = 0; i < currentSize; i++) {
+                inCurrent[current[i]] = true;
+            }
+            return;
+        }
+        while (nextSize > 0) {
+            int id = next[0];
+            removeAt(false, 0);
+            insert(true, id);
+        }
+    }
+
+    /**
+     * Used to get the character acting next in the current round.
+     * The character is scheduled for the next round once its turn is ended through {@link #endTurn}.
+     * @return the character with most action points still to act, or null if the round is over.
+     */
+    public BaseCharacter nextTurn() {
+        if (currentSize == 0) {
+            return null;
+        }
+        int id = current[0];
+        removeAt(true, 0);
+        position[id] = NOT_SCHEDULED;
+        return characters[id];
+    }
+
+    /**
+     * Used to schedule a character for the next round once its turn is over,
+     * keyed on the action points it has left.
+     * @param character the character which has acted.
+     */
+    public void endTurn(final BaseCharacter character) {
+        int id = character.getCharacterId();
+        if (!character.isDead() && position[id] == NOT_SCHEDULED) {
+            push(id, character.getActionPoints());
+        }
+    }
+
+    /**
+     * Used to remove a character from the turn order, when it dies.
+     * @param character the character to remove, ignored if not scheduled.
+     */
+    public void remove(final BaseCharacter character) {
+        int id = character.getCharacterId();
+        if (id < 0 || id >= position.length || position[id] == NOT_SCHEDULED || characters[id] != character) {
+            return;
+        }
+        removeAt(inCurrent[id], position[id]);
+        position[id] = NOT_SCHEDULED;
+    }
+
+    /**
+     * Accessor to get the amount of characters scheduled, whether still to act in this round or not.
+     * @return amount of scheduled characters.
+     */
+    public int size() { return currentSize + nextSize; }
+
+    /**
+     * Used internally to add a character to the heap of the next round.
+     * @param id id of the character.
+     * @param key the action points of the character.
+     */
+    private void push(final int id, final int key) {
+        actionPoints[id] = key;
+        insert(false, id);
+    }
+
+    /**
+     * Used internally to add a character to one of the heaps.
+     * @param toCurrent whether to add to the heap of the current round.
+     * @param id id of the character.
+     */
+    private void insert(final boolean toCurrent, final int id) {
+        int[] heap = toCurrent ? current : next;
+        int pos = toCurrent ? currentSize++ : nextSize++;
+        inCurrent[id] = toCurrent;
+        heap[pos] = id;
+        position[id] = pos;
+        siftUp(heap, pos);
+    }
+
+    /**
+     * Used internally to remove the character at a position of one of the heaps.
+     * @param fromCurrent whether to remove from the heap of the current round.
+     * @param pos position of the character within the heap.
+     */
+    private void removeAt(final boolean fromCurrent, final int pos) {
+        int[] heap = fromCurrent ? current : next;
+        int last = fromCurrent ? --currentSize : --nextSize;
+        if (pos != last) {
+            heap[pos] = heap[last];
+            position[heap[pos]] = pos;
+            siftDown(heap, pos, last);
+            siftUp(heap, pos);
+        }
+    }
+
+    /**
+     * Used internally to compare the turn order of two characters.
+     * @param a id of the first character.
+     * @param b id of the second character.
+     * @return whether the first character acts before the second.
+     */
+    private boolean actsBefore(final int a, final int b) {
+        return actionPoints[a] != actionPoints[b] ? actionPoints[a] > actionPoints[b] : rank[a] < rank[b];
+    }
+
+    /**
+     * Used internally to move a character towards the top of its heap.
+     * @param heap the heap holding the character.
+     * @param pos position of the character.
+     */
+    private void siftUp(final int[] heap, final int pos) {
+        int id = heap[pos];
+        int child = pos;
+        while (child > 0) {
+            int parent = (child - 1) >>> 1;
+            if (!actsBefore(id, heap[parent])) {
+                break;
+            }
+            heap[child] = heap[parent];
+            position[heap[child]] = child;
+            child = parent;
+        }
+        heap[child] = id;
+        position[id] = child;
+    }
+
+    /**
+     * Used internally to move a character towards the bottom of its heap.
+     * @param heap the heap holding the character.
+     * @param pos position of the character.
+     * @param size amount of characters in the heap.
+     */
+    private void siftDown(final int[] heap, final int pos, final int size) {
+        int id = heap[pos];
+        int parent = pos;
+        int child;
+        while ((child = 2 * parent + 1) < size) {
+            if (child + 1 < size && actsBefore(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!actsBefore(heap[child], id)) {
+                break;
+            }
+            heap[parent] = heap[child];
+            position[heap[parent]] = parent;
+            parent = child;
+        }
+        heap[parent] = id;
+        position[id] = parent;
+    }
+}
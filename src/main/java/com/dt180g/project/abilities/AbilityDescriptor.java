@@ -0,0 +1,118 @@
+package com.dt180g.project.abilities;
+
+import com.dt180g.project.support.AppConfig;
+
+/**
+ * Immutable description of an ability, holding everything about it that stays the same between executions.
+ * A descriptor is created once per ability instance, so executing an ability formats no text and
+ * allocates nothing; only the damage of the attack is passed along with it.
+ * @author Daniel Jönsson
+ * @see BaseAbility
+ * @version 1.0
+ */
+public final class AbilityDescriptor {
+
+    /**Instance field variables*/
+    private final String name;
+    private final String information;
+    private final int actionPointCost;
+    private final int energyCost;
+    private final int amountOfTargets;
+    private final boolean magic;
+    private final boolean heal;
+
+    /**
+     * Constructs a descriptor, formatting the logged information of the ability from its name and costs.
+     *
+     * @param name the display name of the ability
+     * @param actionPointCost the action point cost of the ability
+     * @param energyCost the energy cost of the ability
+     * @param amountOfTargets the amount of targets affected by the ability
+     * @param magic whether the ability is magical
+     * @param heal whether the ability heals its targets
+     */
+    AbilityDescriptor(String name, int actionPointCost, int energyCost, int amountOfTargets,
+                      boolean magic, boolean heal){
+        this.name = name;
+        this.information = String.format("%s (-%d AP, -%d %s)", name, actionPointCost, energyCost,
+                AppConfig.TRAIT_ENERGY);
+        this.actionPointCost = actionPointCost;
+        this.energyCost = energyCost;
+        this.amountOfTargets = amountOfTargets;
+        this.magic = magic;
+        this.heal = heal;
+    }
+
+    /**
+     * Returns the display name of the ability.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the information logged when the ability is performed, i.e. its name followed by its costs.
+     *
+     * @return the ability information
+     */
+    public String getInformation() {
+        return information;
+    }
+
+    /**
+     * Returns the action point cost of the ability.
+     *
+     * @return the action point cost
+     */
+    public int getActionPointCost() {
+        return actionPointCost;
+    }
+
+    /**
+     * Returns the energy cost of the ability.
+     *
+     * @return the energy cost
+     */
+    public int getEnergyCost() {
+        return energyCost;
+    }
+
+    /**
+     * Returns the amount of targets affected by the ability.
+     *
+     * @return the amount of targets
+     */
+    public int getAmountOfTargets() {
+        return amountOfTargets;
+    }
+
+    /**
+     * Checks if the ability is magical.
+     *
+     * @return true if magical, false otherwise
+     */
+    public boolean isMagic() {
+        return magic;
+    }
+
+    /**
+     * Checks if the ability heals its targets.
+     *
+     * @return true if healing, false otherwise
+     */
+    public boolean isHeal() {
+        return heal;
+    }
+
+    /**
+     * String representation of the descriptor, which is the display name of the ability.
+     *
+     * @return the name
+     */
+    @Override
+    public String toString(){
+        return name;
+    }
+}
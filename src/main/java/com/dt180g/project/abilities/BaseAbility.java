@@ -7,7 +7,7 @@ import com.dt180g.project.support.AppConfig;
  * The base component class for all abilities in the game.
  * Abilities represent actions that characters can perform during combat, such as attacking or healing.
  * Each ability has an action point cost and an energy cost associated with it.
- * Abilities can be performed by invoking the characterAttack method in the {@link GameEngine} class.
+ * Abilities are performed by invoking the characterAttack method of the {@link GameEngine} running the battle.
  * @author Daniel Jönsson
  * @see AppConfig
  * @see GameEngine
@@ -16,6 +16,7 @@ import com.dt180g.project.support.AppConfig;
 public abstract class BaseAbility {
     private final int actionPointCost;
     private final int energyCost;
+    private AbilityDescriptor descriptor;
 
     /**
      * Constructs a new BaseAbility with the specified action point cost and energy cost.
@@ -30,17 +31,33 @@ public abstract class BaseAbility {
 
     /**
      * Performs the ability by invoking the characterAttack method in the GameEngine.
+     * Everything but the damage is taken from the descriptor of the ability, so nothing is formatted or allocated.
      *
-     * @param ability the name of the ability to be performed
-     * @param targets the number of targets affected by the ability
+     * @param engine the engine running the battle
      * @param damageOrHeal the amount of damage or healing caused by the ability
      * @param shouldTargetEnemy determines if the ability should target enemies or allies
      * @return true if the ability was successfully performed, false otherwise
      */
-    protected boolean performAbility(String ability, int targets, int damageOrHeal, boolean shouldTargetEnemy){
-        String formatAbility = String.format("%s (-%d AP, -%d %s)", ability, actionPointCost, energyCost, AppConfig.TRAIT_ENERGY);
-        return GameEngine.INSTANCE.characterAttack(
-                new AbilityInfo(formatAbility, targets, damageOrHeal, shouldTargetEnemy, isMagic(), isHeal()));
+    protected boolean performAbility(GameEngine engine, int damageOrHeal, boolean shouldTargetEnemy){
+        return engine.characterAttack(getDescriptor(), damageOrHeal, shouldTargetEnemy);
+    }
+
+    /**
+     * Returns the immutable descriptor of the ability, holding its name, costs, targets and flags.
+     * The descriptor is created on first use, as the name of an ability may depend on fields of its subclass
+     * which are not yet assigned while this constructor runs. It is immutable, so racing threads at worst create
+     * equal descriptors.
+     *
+     * @return the descriptor
+     */
+    public AbilityDescriptor getDescriptor() {
+        AbilityDescriptor current = descriptor;
+        if (current == null){
+            current = new AbilityDescriptor(toString(), actionPointCost, energyCost, getAmountOfTargets(),
+                    isMagic(), isHeal());
+            descriptor = current;
+        }
+        return current;
     }
 
     /**
@@ -85,9 +102,10 @@ public abstract class BaseAbility {
     /**
      * Executes the ability by performing the necessary actions.
      *
+     * @param engine the engine running the battle
      * @param baseAtk the base attack value of the character using the ability
      * @param shouldTargetEnemy determines if the ability should target enemies or allies
      * @return true if the ability was successfully executed, false otherwise
      */
-    public abstract boolean execute(int baseAtk, boolean shouldTargetEnemy);
+    public abstract boolean execute(GameEngine engine, int baseAtk, boolean shouldTargetEnemy);
 }
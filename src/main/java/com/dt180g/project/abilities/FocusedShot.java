@@ -1,5 +1,6 @@
 package com.dt180g.project.abilities;
 
+import com.dt180g.project.GameEngine;
 import com.dt180g.project.support.AppConfig;
 
 /**
@@ -43,9 +44,9 @@ public class FocusedShot extends BaseAbility{
 
     /**{@inheritDoc}*/
     @Override
-    public boolean execute(int baseAtk, boolean shouldTargetEnemy) {
+    public boolean execute(GameEngine engine, int baseAtk, boolean shouldTargetEnemy) {
         baseAtk *= AppConfig.SINGLE_TARGET_ABILITY_MULTIPLIER;
-        return super.performAbility(toString(), getAmountOfTargets(), baseAtk, shouldTargetEnemy);
+        return super.performAbility(engine, baseAtk, shouldTargetEnemy);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.dt180g.project.abilities;
 
+import com.dt180g.project.GameEngine;
 import com.dt180g.project.support.AppConfig;
 
 /**
@@ -41,8 +42,8 @@ public class Whirlwind extends BaseAbility{
 
     /**{@inheritDoc}*/
     @Override
-    public boolean execute(int baseAtk, boolean shouldTargetEnemy) {
-        return super.performAbility(toString(), getAmountOfTargets(), baseAtk, shouldTargetEnemy);
+    public boolean execute(GameEngine engine, int baseAtk, boolean shouldTargetEnemy) {
+        return super.performAbility(engine, baseAtk, shouldTargetEnemy);
     }
 
     /**
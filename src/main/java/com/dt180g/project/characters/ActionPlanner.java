@@ -0,0 +1,155 @@
+package com.dt180g.project.characters;
+
+import com.dt180g.project.abilities.BaseAbility;
+import com.dt180g.project.support.RandomSource;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * The {@code ActionPlanner} class plans the abilities a character performs during one turn.
+ * Only abilities the character can still afford are drawn, so no draw is wasted on an ability that would be
+ * skipped. The affordable abilities are kept as a bit set, which shrinks as the planned abilities spend the
+ * action points and energy of the character, and the turn ends early once nothing is affordable.
+ *
+ * <p>Every ability is drawn with a probability proportional to its weight. A planner holds no state between
+ * calls, so it can be shared by all characters fighting with the same abilities and weights.
+ *
+ * @author Daniel Jönsson
+ * @see BaseCharacter
+ * @version 1.0
+ */
+public final class ActionPlanner {
+    /** Most abilities a planner can choose from, one bit each in the affordable set. */
+    public static final int MAX_ABILITIES = Integer.SIZE;
+
+    /**Instance field variables*/
+    private final BaseAbility[] abilities;
+    private final int[] weights;
+
+    /**
+     * Constructs a planner drawing every ability with equal probability.
+     *
+     * @param abilities the abilities to choose from
+     * @throws IllegalArgumentException if there are more than {@link #MAX_ABILITIES} abilities
+     */
+    public ActionPlanner(List<BaseAbility> abilities){
+        this(abilities, ability -> 1);
+    }
+
+    /**
+     * Constructs a planner drawing abilities in proportion to their weights, which are looked up once.
+     * An ability with weight 0 is never drawn.
+     *
+     * @param abilities the abilities to choose from
+     * @param weight    the weight of each ability
+     * @throws IllegalArgumentException if there are more than {@link #MAX_ABILITIES} abilities
+     *                                  or if a weight is negative
+     */
+    public ActionPlanner(List<BaseAbility> abilities, ToIntFunction<BaseAbility> weight){
+        if (abilities.size() > MAX_ABILITIES){
+            throw new IllegalArgumentException("At most " + MAX_ABILITIES + " abilities can be planned, got "
+                    + abilities.size());
+        }
+        this.abilities = abilities.toArray(new BaseAbility[0]);
+        this.weights = new int[this.abilities.length];
+        for (int i = 0; i < weights.length; i++){
+            weights[i] = weight.applyAsInt(this.abilities[i]);
+            if (weights[i] < 0){
+                throw new IllegalArgumentException("Negative weight for " + this.abilities[i]);
+            }
+        }
+    }
+
+    /**
+     * Plans the abilities of a turn, drawing from those affordable with the action points and energy left
+     * after the abilities planned before them.
+     *
+     * @param random       the source of the battle, making the plan reproducible
+     * @param actionPoints the action points of the character at the start of the turn
+     * @param energyLevel  the energy level of the character at the start of the turn
+     * @param into         buffer receiving the abilities in the order they should be performed
+     * @return the amount of abilities planned, at most the length of {@code into}
+     */
+    public int planTurn(RandomSource random, int actionPoints, int energyLevel, BaseAbility[] into){
+        int affordable = 0;
+        int totalWeight = 0;
+        for (int i = 0; i < abilities.length; i++){
+            if (weights[i] > 0 && canAfford(abilities[i], actionPoints, energyLevel)){
+                affordable |= 1 << i;
+                totalWeight += weights[i];
+            }
+        }
+
+        int planned = 0;
+        while (planned < into.length && affordable != 0){
+            int index = draw(random, affordable, totalWeight);
+            BaseAbility ability = abilities[index];
+            into[planned++] = ability;
+            actionPoints -= ability.getActionPointCost();
+            energyLevel -= ability.getEnergyCost();
+
+            // Spending only lowers the resources left, so abilities are removed from the set but never added
+            for (int rest = affordable; rest != 0; rest &= rest - 1){
+                int i = Integer.numberOfTrailingZeros(rest);
+                if (!canAfford(abilities[i], actionPoints, energyLevel)){
+                    affordable &= ~(1 << i);
+                    totalWeight -= weights[i];
+                }
+            }
+        }
+        return planned;
+    }
+
+    /**
+     * Returns the amount of abilities the planner chooses from.
+     *
+     * @return the amount of abilities
+     */
+    public int size(){
+        return abilities.length;
+    }
+
+    /**
+     * Returns the weight of an ability.
+     *
+     * @param index the index of the ability, in the order given to the constructor
+     * @return the weight
+     */
+    public int getWeight(int index){
+        return weights[index];
+    }
+
+    /**
+     * Draws one of the affordable abilities, in proportion to its weight.
+     *
+     * @param random      the source to draw from
+     * @param affordable  the set of affordable abilities, not empty
+     * @param totalWeight the sum of the weights of the affordable abilities
+     * @return the index of the ability drawn
+     */
+    private int draw(RandomSource random, int affordable, int totalWeight){
+        int remaining = random.getRandomValue(totalWeight - 1);
+        int rest = affordable;
+        while (true){
+            int i = Integer.numberOfTrailingZeros(rest);
+            remaining -= weights[i];
+            if (remaining < 0){
+                return i;
+            }
+            rest &= rest - 1;
+        }
+    }
+
+    /**
+     * Checks if an ability can be paid for with the given resources.
+     *
+     * @param ability      the ability
+     * @param actionPoints the action points left
+     * @param energyLevel  the energy left
+     * @return true if both costs can be paid, false otherwise
+     */
+    private static boolean canAfford(BaseAbility ability, int actionPoints, int energyLevel){
+        return ability.getActionPointCost() <= actionPoints && ability.getEnergyCost() <= energyLevel;
+    }
+}
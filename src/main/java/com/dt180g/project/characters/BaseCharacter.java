@@ -1,13 +1,14 @@
 package com.dt180g.project.characters;
 
+import com.dt180g.project.GameEngine;
 import com.dt180g.project.abilities.BaseAbility;
 import com.dt180g.project.characters.heroes.Cleric;
+import com.dt180g.project.support.ActivityLogger;
 import com.dt180g.project.support.AppConfig;
-import com.dt180g.project.support.Randomizer;
+import com.dt180g.project.support.EngineMetrics;
+import com.dt180g.project.support.RandomSource;
 
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * The abstract base class for all characters in the game.
@@ -20,6 +21,10 @@ public abstract class BaseCharacter {
     private final CharacterEquipment equipment;
 
     private final List<BaseAbility> abilities;
+    private final BaseAbility[] plannedActions = new BaseAbility[AppConfig.ACTIONS_PER_TURN];
+    private ActionPlanner planner;
+    private GameEngine engine;
+    private int characterId = -1;
 
     /**
      * Constructs a new instance of the BaseCharacter class with the given character stats.
@@ -39,49 +44,56 @@ public abstract class BaseCharacter {
      */
     protected void addAbilities(List<BaseAbility> abilities){
         getAbilities().addAll(abilities);
+        planner = null;
     }
 
     /**
-     * Returns the turn information for the character.
+     * Returns the weight of an ability when the character plans its turn, abilities being drawn in proportion
+     * to their weights. All abilities weigh the same unless overridden, e.g. to give an archetype priorities.
+     * An ability with weight 0 is never used.
      *
-     * @param characterType the type of the character (Enemy or Hero)
-     * @return the turn information string
+     * @param ability one of the abilities of the character
+     * @return the weight, not negative
      */
-    protected String getTurnInformation(String characterType){
-        return String.format("[%s TURN] %s | %d AP | %d HP | %d Energy",
-                characterType,
-                getCharacterName(),
-                getActionPoints(),
-                getHitPoints(),
-                getEnergyLevel());
+    protected int getAbilityWeight(BaseAbility ability){
+        return 1;
     }
 
     /**
-     * Executes the actions for the character.
+     * Logs the start of the character's turn through the {@link ActivityLogger} of its battle.
+     * Only the current stats are recorded, the text is rendered by the sinks presenting it.
+     *
+     * @param hero whether the character is a hero
+     */
+    protected void logTurn(boolean hero){
+        getEngine().getLogger().logTurn(getCharacterId(), getCharacterName(), hero,
+                getActionPoints(), getHitPoints(), getEnergyLevel());
+    }
+
+    /**
+     * Executes the actions for the character, recording the turn and its duration in the {@link EngineMetrics}.
      *
      * @param target indicates whether the attack should be aimed towards hero or enemy (true if enemy, false if hero).
      */
     protected void executeActions(boolean target){
+        long timerStart = EngineMetrics.INSTANCE.startTimer();
         int magicDamage = getCharacterStats().getMagicPower() + getCharacterStats().getAttackRate();
         int healingAmount = getCharacterStats().getHealingPower() + getCharacterStats().getAttackRate();
         int physicalDamage =
                 getCharacterStats().getPhysicalPower() + getCharacterStats().getAttackRate() + getEquipment().getTotalWeaponDamage();
-        Deque<BaseAbility> abilityDeque = determineActions();
-        for (BaseAbility ability : abilityDeque){
-            if (ability.getEnergyCost() > getEnergyLevel() || ability.getActionPointCost()
-                    > getActionPoints()) {
-                continue;
-            }
+        int amountOfActions = determineActions();
+        for (int i = 0; i < amountOfActions; i++){
+            BaseAbility ability = plannedActions[i];
             if(ability.isHeal()){
-                ability.execute(-healingAmount, !this.getClass().equals(Cleric.class));
+                ability.execute(getEngine(), -healingAmount, !this.getClass().equals(Cleric.class));
             }
             else if(ability.isMagic()){
-                boolean output = ability.execute(magicDamage, target);
+                boolean output = ability.execute(getEngine(), magicDamage, target);
                 if(!output){
                     break;
                 }
             } else{
-                boolean output = ability.execute(physicalDamage, target);
+                boolean output = ability.execute(getEngine(), physicalDamage, target);
                 if (!output){
                     break;
                 }
@@ -90,17 +102,21 @@ public abstract class BaseCharacter {
             getCharacterStats().adjustEnergyLevel(-ability.getEnergyCost());
             getCharacterStats().adjustActionPoints(-ability.getActionPointCost());
         }
+        EngineMetrics.INSTANCE.recordTurn(timerStart);
     }
 
     /**
-     * Selects a random amount of abilities from the list of base abilities and returns them as a deque.
-     * Uses {@link IntStream#range(int, int)} to create a similarity to a for loop.
-     * @return A deque containing a random set of abilities.
+     * Plans the abilities of the turn into a buffer owned by the character, which is reused every turn.
+     * Only abilities the character can afford with what is left after the abilities planned before them are drawn,
+     * weighted by {@link #getAbilityWeight(BaseAbility)}, so every planned ability is performed unless the battle ends.
+     * Draws from the {@link RandomSource} of the battle, making the plan reproducible.
+     * @return the amount of abilities planned into the buffer, at most {@link AppConfig#ACTIONS_PER_TURN}.
      */
-    private Deque<BaseAbility> determineActions(){
-        return IntStream.range(0, AppConfig.ACTIONS_PER_TURN)
-                .mapToObj(i -> getAbilities().get(Randomizer.INSTANCE.getRandomValue(getAbilities().size()-1)))
-                .collect(Collectors.toCollection(ArrayDeque::new)); // Create new ArrayDeque with abilities.
+    private int determineActions(){
+        if (planner == null){
+            planner = new ActionPlanner(getAbilities(), this::getAbilityWeight);
+        }
+        return planner.planTurn(getEngine().getRandomSource(), getActionPoints(), getEnergyLevel(), plannedActions);
     }
 
     /**
@@ -108,9 +124,9 @@ public abstract class BaseCharacter {
      *
      * @param dmg       the damage amount
      * @param isMagical indicates whether the attack is magical or not
-     * @return a list containing the damage applied and the remaining hit points
+     * @return the damage taken as direct hit, the rest of {@code dmg} was deflected
      */
-    public List<Integer> registerDamage(int dmg, boolean isMagical){
+    public int registerDamage(int dmg, boolean isMagical){
         int totalDefenceRate = getCharacterStats().getDefenceRate();
 
         if (!isMagical)
@@ -120,7 +136,7 @@ public abstract class BaseCharacter {
 
         int totalDmg = Math.max(dmg - totalDefenceRate, 0); // If dmg is negative use 0 as dmg.
         getCharacterStats().adjustHitPoints(-totalDmg);
-        return Arrays.asList(dmg - totalDmg, totalDmg);
+        return totalDmg;
     }
 
     /**
@@ -152,6 +168,41 @@ public abstract class BaseCharacter {
 
     public abstract String getCharacterName();
 
+    /**
+     * Makes the character part of the battle run by the given engine.
+     * Abilities executed by the character will be resolved by that engine,
+     * which also assigns the id of the character within the battle.
+     *
+     * @param engine the engine running the battle
+     */
+    public void joinBattle(GameEngine engine){
+        this.engine = engine;
+        this.characterId = engine.nextCharacterId();
+    }
+
+    /**
+     * Returns the id of the character, unique within its battle and assigned in the order characters join.
+     * Used to identify the character in logged activity.
+     *
+     * @return the character id, -1 if the character has not joined a battle
+     */
+    public int getCharacterId(){
+        return characterId;
+    }
+
+    /**
+     * Returns the engine running the battle the character is part of.
+     *
+     * @return the game engine
+     * @throws IllegalStateException if the character has not joined a battle
+     */
+    public GameEngine getEngine(){
+        if (engine == null){
+            throw new IllegalStateException(getCharacterName() + " is not part of a battle");
+        }
+        return engine;
+    }
+
     /**
      * Returns the character stats.
      *
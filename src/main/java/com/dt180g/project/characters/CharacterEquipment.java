@@ -6,8 +6,6 @@ import com.dt180g.project.support.AppConfig;
 import com.dt180g.project.support.IOHelper;
 
 import java.util.*;
-import java.util.function.ToIntFunction;
-import java.util.stream.IntStream;
 
 
 /**
@@ -26,6 +24,7 @@ public class CharacterEquipment {
     /** Instance field variables. */
     private final List<Weapon> weapons = new ArrayList<>();
     private final Map<String, Armor> armorPieces = new HashMap<>();
+    private int totalArmorProtection;
 
     /**
      * Gets the list of weapons.
@@ -46,26 +45,24 @@ public class CharacterEquipment {
 
     /**
      * Calculate the sum of each weapons' damage.
-     * Uses Stream API methods {@link java.util.stream.Stream#mapToInt(ToIntFunction)}
-     * and {@link IntStream#sum()} to sum each weapon damage.
+     * Sums with a plain loop, since it is called for every attack and should not allocate.
      * @return  Sum of weapons damage
      */
     public int getTotalWeaponDamage(){
-        return getWeapons().stream()
-                .mapToInt(Weapon::getDamage)
-                .sum();
+        int totalDamage = 0;
+        for (int i = 0; i < weapons.size(); i++){
+            totalDamage += weapons.get(i).getDamage();
+        }
+        return totalDamage;
     }
 
     /**
-     * Calculate the sum of each armors' protection.
-     * Uses Stream API methods {@link java.util.stream.Stream#mapToInt(ToIntFunction)}
-     * and {@link IntStream#sum()} to sum each armor protection.
+     * Gets the sum of each armors' protection.
+     * The sum is kept up to date as armor pieces are added, since it is read for every hit taken.
      * @return  The sum of each armor protection.
      */
     public int getTotalArmorProtection(){
-        return getArmorPieces().stream()
-                .mapToInt(Armor::getProtection)
-                .sum();
+        return totalArmorProtection;
     }
 
     /**
@@ -110,6 +107,7 @@ public class CharacterEquipment {
     public boolean addArmorPiece(String type, Armor armor){
         if (amountOfEmptyArmorSlots() != 0 && !armorPieces.containsKey(type)){
             armorPieces.put(type, armor);
+            totalArmorProtection += armor.getProtection();
             return true;
         }
         return false;
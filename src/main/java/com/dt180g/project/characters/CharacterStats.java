@@ -5,43 +5,100 @@ import com.dt180g.project.support.AppConfig;
 import com.dt180g.project.support.IOHelper;
 
 import java.util.*;
-import java.util.stream.IntStream;
 
 /**
  * The {@code CharacterStats} is representing the statistics of a specific character.
  * Provides methods to access and modify various character stats.
+ *
+ * <p>Stats are stored as primitive base, static and dynamic values indexed by {@link StatType},
+ * since they are read and adjusted several times for every attack. Methods taking a stat name
+ * remain as a compatibility layer, resolving the name through {@link StatType#fromName(String)}.
+ *
+ * <p>Base values of combat stats are cached, and marked dirty through {@link StatType#getDependentMask()}
+ * when the attribute or trait they rely on changes.
  */
 public class CharacterStats{
 
-    /**Instance field variable*/
-    private final Map<String, BaseStat> stats;
+    /**Mask of all combat stats, which all rely on the attack rate*/
+    private static final int COMBAT_STAT_MASK = StatType.ATTACK_RATE.getDependentMask();
+
+    /**Instance field variables*/
+    private final int[] baseValues = new int[StatType.COUNT];
+    private final int[] staticModifiers = new int[StatType.COUNT];
+    private final int[] dynamicModifiers = new int[StatType.COUNT];
+    private int dirtyCombatStats = COMBAT_STAT_MASK;
+    private BaseStat[] statViews;
 
     /**
      * Constructs a new instance of the CharacterStats class with the given stat values.
      *
-     * @param stats the Map of stat values
+     * @param stats the List of attribute values, in the order Strength, Dexterity, Intelligence and Willpower
      */
     public CharacterStats(List<Integer> stats){
-        this.stats = new LinkedHashMap<>();
-        List<String> attributeNames = StatsManager.INSTANCE.getAttributeNames();
-        List<String> traitNames = StatsManager.INSTANCE.getTraitNames();
-        List<String> combatStatNames = StatsManager.INSTANCE.getCombatStatNames();
-        List<Integer> traitValues = Arrays.asList(
-                AppConfig.TRAIT_VITALITY_BASE_VALUE,
-                AppConfig.TRAIT_ENERGY_BASE_VALUE,
-                AppConfig.TRAIT_ATTACK_RATE_BASE_VALUE,
-                AppConfig.TRAIT_DEFENCE_RATE_BASE_VALUE
-        );
-        List<Trait> traitList = IntStream.range(0, traitNames.size())
-                .mapToObj(i -> new Trait(traitNames.get(i), traitValues.get(i)))
-                .toList();
-        for (int i = 0; i < attributeNames.size(); i++){
-            Attribute attribute1 = new Attribute(attributeNames.get(i), stats.get(i) * AppConfig.ATTRIBUTE_BASE_VALUE);
-            CombatStat combatStat = new CombatStat(combatStatNames.get(i), attribute1, traitList.get(2));
-            this.stats.put(attribute1.getStatName(), attribute1);
-            this.stats.put(traitNames.get(i), traitList.get(i));
-            this.stats.put(combatStat.getStatName(), combatStat);
+        List<StatType> attributes = Arrays.asList(
+                StatType.STRENGTH, StatType.DEXTERITY, StatType.INTELLIGENCE, StatType.WILLPOWER);
+        for (int i = 0; i < attributes.size(); i++){
+            baseValues[attributes.get(i).ordinal()] = stats.get(i) * AppConfig.ATTRIBUTE_BASE_VALUE;
         }
+        baseValues[StatType.VITALITY.ordinal()] = AppConfig.TRAIT_VITALITY_BASE_VALUE;
+        baseValues[StatType.ENERGY.ordinal()] = AppConfig.TRAIT_ENERGY_BASE_VALUE;
+        baseValues[StatType.ATTACK_RATE.ordinal()] = AppConfig.TRAIT_ATTACK_RATE_BASE_VALUE;
+        baseValues[StatType.DEFENSE_RATE.ordinal()] = AppConfig.TRAIT_DEFENCE_RATE_BASE_VALUE;
+    }
+
+    /**
+     * Returns the base value of the given stat. Combat stats derive it from their attribute and attack rate,
+     * and are only recalculated if one of those has changed since the last call.
+     *
+     * @param type the stat type
+     * @return the base value of the stat
+     */
+    public int getBaseValue(StatType type){
+        int index = type.ordinal();
+        if ((dirtyCombatStats & type.getMask()) != 0){
+            baseValues[index] = CombatStat.calculateBaseValue(getStatValue(type.getAttributeReliance()),
+                    getStatValue(StatType.ATTACK_RATE));
+            dirtyCombatStats &= ~type.getMask();
+        }
+        return baseValues[index];
+    }
+
+    /**
+     * Returns the static modifier of the given stat.
+     *
+     * @param type the stat type
+     * @return the static modifier of the stat
+     */
+    public int getStaticModifier(StatType type){
+        return staticModifiers[type.ordinal()];
+    }
+
+    /**
+     * Returns the modified value of the given stat.
+     *
+     * @param type the stat type
+     * @return the modified value of the stat
+     */
+    public int getStatValue(StatType type){
+        int index = type.ordinal();
+        return getBaseValue(type) + staticModifiers[index] + dynamicModifiers[index];
+    }
+
+    /**
+     * Returns a stat object for the given stat type. The object is a view of this character's stats,
+     * so reading or adjusting it reads or adjusts the character's stats.
+     *
+     * @param type the stat type
+     * @return the base stat object
+     */
+    public BaseStat getStat(StatType type){
+        if (statViews == null){  // views are only needed for presentation and compatibility
+            statViews = new BaseStat[StatType.COUNT];
+        }
+        if (statViews[type.ordinal()] == null){
+            statViews[type.ordinal()] = new StatView(type);
+        }
+        return statViews[type.ordinal()];
     }
 
     /**
@@ -51,7 +108,7 @@ public class CharacterStats{
      * @return the base stat object
      */
     public BaseStat getStat(String stat){
-        return stats.get(stat);
+        return getStat(StatType.fromName(stat));
     }
 
     /**
@@ -61,7 +118,7 @@ public class CharacterStats{
      * @return the modified value of the stat
      */
     public int getStatValue(String stat){
-        return stats.get(stat).getModifiedValue();
+        return getStatValue(StatType.fromName(stat));
     }
 
     /**
@@ -70,8 +127,7 @@ public class CharacterStats{
      * @return the total action points with bonuses applied
      */
     public int getTotalActionPoints(){
-        return getStat(AppConfig.COMBAT_STAT_ACTION_POINTS).getBaseValue() +
-                getStat(AppConfig.COMBAT_STAT_ACTION_POINTS).getStaticModifier();
+        return getBaseValue(StatType.ACTION_POINTS) + getStaticModifier(StatType.ACTION_POINTS);
     }
 
     /**
@@ -80,7 +136,7 @@ public class CharacterStats{
      * @return the current action points
      */
     public int getCurrentActionPoints(){
-        return getStatValue(AppConfig.COMBAT_STAT_ACTION_POINTS);
+        return getStatValue(StatType.ACTION_POINTS);
     }
 
     /**
@@ -89,8 +145,7 @@ public class CharacterStats{
      * @return the total hit points with bonuses applied
      */
     public int getTotalHitPoints(){
-        return getStat(AppConfig.TRAIT_VITALITY).getBaseValue() +
-                getStat(AppConfig.TRAIT_VITALITY).getStaticModifier();
+        return getBaseValue(StatType.VITALITY) + getStaticModifier(StatType.VITALITY);
     }
 
     /**
@@ -99,7 +154,7 @@ public class CharacterStats{
      * @return the current hit points
      */
     public int getCurrentHitPoints(){
-        return getStatValue(AppConfig.TRAIT_VITALITY);
+        return getStatValue(StatType.VITALITY);
     }
 
     /**
@@ -108,8 +163,7 @@ public class CharacterStats{
      * @return the total energy level with bonuses applied.
      */
     public int getTotalEnergyLevel(){
-        return getStat(AppConfig.TRAIT_ENERGY).getBaseValue() +
-                getStat(AppConfig.TRAIT_ENERGY).getStaticModifier();
+        return getBaseValue(StatType.ENERGY) + getStaticModifier(StatType.ENERGY);
     }
 
     /**
@@ -118,7 +172,7 @@ public class CharacterStats{
      * @return the current energy level
      */
     public int getCurrentEnergyLevel(){
-        return getStatValue(AppConfig.TRAIT_ENERGY);
+        return getStatValue(StatType.ENERGY);
     }
 
     /**
@@ -127,7 +181,7 @@ public class CharacterStats{
      * @return the defense rate
      */
     public int getDefenceRate(){
-        return getStatValue(AppConfig.TRAIT_DEFENSE_RATE);
+        return getStatValue(StatType.DEFENSE_RATE);
     }
 
     /**
@@ -136,7 +190,7 @@ public class CharacterStats{
      * @return the attack rate
      */
     public int getAttackRate(){
-        return getStatValue(AppConfig.TRAIT_ATTACK_RATE);
+        return getStatValue(StatType.ATTACK_RATE);
     }
 
     /**
@@ -145,7 +199,7 @@ public class CharacterStats{
      * @return the physical power
      */
     public int getPhysicalPower(){
-        return getStatValue(AppConfig.COMBAT_STAT_PHYSICAL_POWER);
+        return getStatValue(StatType.PHYSICAL_POWER);
     }
 
     /**
@@ -154,7 +208,7 @@ public class CharacterStats{
      * @return the magic power
      */
     public int getMagicPower(){
-        return getStatValue(AppConfig.COMBAT_STAT_MAGIC_POWER);
+        return getStatValue(StatType.MAGIC_POWER);
     }
 
     /**
@@ -163,7 +217,7 @@ public class CharacterStats{
      * @return the healing power
      */
     public int getHealingPower(){
-        return getStatValue(AppConfig.COMBAT_STAT_HEALING_POWER);
+        return getStatValue(StatType.HEALING_POWER);
     }
 
     /**
@@ -172,7 +226,7 @@ public class CharacterStats{
      * @param amount the amount to adjust the action points by
      */
     public void adjustActionPoints(int amount){
-        adjustStatDynamicModifier(AppConfig.COMBAT_STAT_ACTION_POINTS, amount);
+        adjustStatDynamicModifier(StatType.ACTION_POINTS, amount);
     }
 
     /**
@@ -181,7 +235,7 @@ public class CharacterStats{
      * @param amount the amount to adjust the hit points by
      */
     public void adjustHitPoints(int amount){
-        adjustStatDynamicModifier(AppConfig.TRAIT_VITALITY, amount);
+        adjustStatDynamicModifier(StatType.VITALITY, amount);
     }
 
     /**
@@ -190,7 +244,39 @@ public class CharacterStats{
      * @param amount the amount to adjust the energy level by
      */
     public void adjustEnergyLevel(int amount){
-        adjustStatDynamicModifier(AppConfig.TRAIT_ENERGY, amount);
+        adjustStatDynamicModifier(StatType.ENERGY, amount);
+    }
+
+    /**
+     * Adjusts the static modifier of the specified stat by the specified amount.
+     *
+     * @param type   the stat type
+     * @param amount the amount to adjust the static modifier by
+     */
+    public void adjustStatStaticModifier(StatType type, int amount){
+        staticModifiers[type.ordinal()] += amount;
+        dirtyCombatStats |= type.getDependentMask();
+    }
+
+    /**
+     * Adjusts the dynamic modifier of the specified stat by the specified amount.
+     *
+     * @param type   the stat type
+     * @param amount the amount to adjust the dynamic modifier by
+     */
+    public void adjustStatDynamicModifier(StatType type, int amount){
+        dynamicModifiers[type.ordinal()] += amount;
+        dirtyCombatStats |= type.getDependentMask();
+    }
+
+    /**
+     * Resets the dynamic modifier of the specified stat to its default value (0).
+     *
+     * @param type the stat type
+     */
+    public void resetStatDynamicModifier(StatType type){
+        dynamicModifiers[type.ordinal()] = 0;
+        dirtyCombatStats |= type.getDependentMask();
     }
 
     /**
@@ -200,7 +286,7 @@ public class CharacterStats{
      * @param amount   the amount to adjust the static modifier by
      */
     public void adjustStatStaticModifier(String statName, int amount){
-        getStat(statName).adjustStaticModifier(amount);
+        adjustStatStaticModifier(StatType.fromName(statName), amount);
     }
 
     /**
@@ -210,28 +296,28 @@ public class CharacterStats{
      * @param amount   the amount to adjust the dynamic modifier by
      */
     public void adjustStatDynamicModifier(String statName, int amount){
-        getStat(statName).adjustDynamicModifier(amount);
+        adjustStatDynamicModifier(StatType.fromName(statName), amount);
     }
 
     /**
      * Resets the dynamic modifier of the action points to its default value (0).
      */
     public void resetActionPoints(){
-        getStat(AppConfig.COMBAT_STAT_ACTION_POINTS).resetDynamicModifier();
+        resetStatDynamicModifier(StatType.ACTION_POINTS);
     }
 
     /**
      * Resets the dynamic modifier of the hit points to its default value (0).
      */
     public void resetHitPoints(){
-        getStat(AppConfig.TRAIT_VITALITY).resetDynamicModifier();
+        resetStatDynamicModifier(StatType.VITALITY);
     }
 
     /**
      * Resets the dynamic modifier of the energy level to its default value (0).
      */
     public void resetEnergyLevel(){
-        getStat(AppConfig.TRAIT_ENERGY).resetDynamicModifier();
+        resetStatDynamicModifier(StatType.ENERGY);
     }
 
     /**
@@ -243,29 +329,92 @@ public class CharacterStats{
      */
     @Override
     public String toString(){
-        List<List<String>> characterStatInfo = new ArrayList<>();
-        for (BaseStat stat : stats.values()){
-            String[] parts = stat.toString().split(" ");
-            // Used if stat name is two words (E.g. Action Points)
-            if (Arrays.stream(parts).count() > 3){
-                String[] combined = {parts[0] + " " + parts[1], parts[2], parts[3]};
-                characterStatInfo.add(List.of(combined));
-            }
-            else{
-                characterStatInfo.add(List.of(parts));
-            }
-        }
+        // Each row holds an attribute, a trait and the combat stat relying on the attribute
+        List<List<StatType>> rows = Arrays.asList(
+                Arrays.asList(StatType.STRENGTH, StatType.VITALITY, StatType.PHYSICAL_POWER),
+                Arrays.asList(StatType.DEXTERITY, StatType.ENERGY, StatType.ACTION_POINTS),
+                Arrays.asList(StatType.INTELLIGENCE, StatType.ATTACK_RATE, StatType.MAGIC_POWER),
+                Arrays.asList(StatType.WILLPOWER, StatType.DEFENSE_RATE, StatType.HEALING_POWER));
         List<List<String>> resultList = new ArrayList<>();
-        // Used to format the columns in correct order.
-        for (int i = 0; i < characterStatInfo.size(); i+= 3){
-            List<String> subList = new ArrayList<>(characterStatInfo.get(i));
-            subList.add("|");
-            subList.addAll(characterStatInfo.get(i + 1));
-            subList.add("|");
-            subList.addAll(characterStatInfo.get(i + 2));
+        for (List<StatType> row : rows){
+            List<String> subList = new ArrayList<>();
+            for (StatType type : row){
+                if (!subList.isEmpty()){
+                    subList.add("|");
+                }
+                String[] parts = getStat(type).toString().split(" ");
+                // Used if stat name is two words (E.g. Action Points)
+                if (parts.length > 3){
+                    subList.addAll(List.of(parts[0] + " " + parts[1], parts[2], parts[3]));
+                }
+                else{
+                    subList.addAll(List.of(parts));
+                }
+            }
             resultList.add(subList);
         }
         return String.format("%sSTATISTICS%n%s%s%n%n", AppConfig.ANSI_BLUE, AppConfig.ANSI_RESET,
                 IOHelper.formatAsTable(resultList));
     }
+
+    /**
+     * View of a single stat, backed by the primitive storage of the enclosing {@code CharacterStats}.
+     */
+    private final class StatView extends BaseStat{
+
+        /**Instance field variable*/
+        private final StatType type;
+
+        /**
+         * Constructs a view of the given stat.
+         *
+         * @param type the stat type
+         */
+        private StatView(StatType type){
+            super(type.getStatName(), 0);
+            this.type = type;
+        }
+
+        /**{@inheritDoc}*/
+        @Override
+        public int getBaseValue(){
+            return CharacterStats.this.getBaseValue(type);
+        }
+
+        /**{@inheritDoc}*/
+        @Override
+        public int getModifiedValue(){
+            return getStatValue(type);
+        }
+
+        /**{@inheritDoc}*/
+        @Override
+        public int getTotalModifier(){
+            return staticModifiers[type.ordinal()] + dynamicModifiers[type.ordinal()];
+        }
+
+        /**{@inheritDoc}*/
+        @Override
+        public int getStaticModifier(){
+            return staticModifiers[type.ordinal()];
+        }
+
+        /**{@inheritDoc}*/
+        @Override
+        public void adjustStaticModifier(int staticAdjustment){
+            adjustStatStaticModifier(type, staticAdjustment);
+        }
+
+        /**{@inheritDoc}*/
+        @Override
+        public void adjustDynamicModifier(int dynamicAdjustment){
+            adjustStatDynamicModifier(type, dynamicAdjustment);
+        }
+
+        /**{@inheritDoc}*/
+        @Override
+        public void resetDynamicModifier(){
+            resetStatDynamicModifier(type);
+        }
+    }
 }
@@ -5,7 +5,6 @@ import com.dt180g.project.characters.CharacterEquipment;
 import com.dt180g.project.characters.CharacterStats;
 import com.dt180g.project.gear.GearManager;
 import com.dt180g.project.gear.Weapon;
-import com.dt180g.project.support.ActivityLogger;
 import com.dt180g.project.support.AppConfig;
 
 import java.util.*;
@@ -120,7 +119,7 @@ public abstract class BaseHero extends BaseCharacter {
     /**{@inheritDoc}*/
     @Override
     public void doTurn() {
-        ActivityLogger.INSTANCE.logTurnInfo(super.getTurnInformation(AppConfig.CHARACTER_TYPE_HERO));
+        super.logTurn(true);
         super.executeActions(true);
     }
 }
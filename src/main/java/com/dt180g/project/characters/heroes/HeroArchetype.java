@@ -0,0 +1,163 @@
+package com.dt180g.project.characters.heroes;
+
+import com.dt180g.project.support.AppConfig;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The {@code HeroArchetype} enum is the registry of hero classes that gear can be restricted to.
+ * Every archetype is identified by a bit, so a restriction to several archetypes is an int mask,
+ * and checking whether a hero may use gear is a single AND of masks instead of reflection.
+ *
+ * @author Daniel Jönsson
+ * @see com.dt180g.project.gear.BaseGear
+ * @version 1.0
+ */
+public enum HeroArchetype {
+    /** The Warrior hero class. */
+    WARRIOR(AppConfig.HERO_WARRIOR, Warrior.class, Warrior::new),
+    /** The Ranger hero class. */
+    RANGER(AppConfig.HERO_RANGER, Ranger.class, Ranger::new),
+    /** The Wizard hero class. */
+    WIZARD(AppConfig.HERO_WIZARD, Wizard.class, Wizard::new),
+    /** The Cleric hero class. */
+    CLERIC(AppConfig.HERO_CLERIC, Cleric.class, Cleric::new);
+
+    private static final Map<String, HeroArchetype> BY_NAME = new HashMap<>();
+    private static final ClassValue<Integer> MASKS_BY_CLASS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int mask = 0;
+            for (HeroArchetype archetype : values()) {
+                if (archetype.heroClass.isAssignableFrom(type)) {
+                    mask |= archetype.getMask();
+                }
+            }
+            return mask;
+        }
+    };
+
+    static {
+        for (HeroArchetype archetype : values()) {
+            BY_NAME.put(archetype.archetypeName, archetype);
+        }
+    }
+
+    /**Instance field variables*/
+    private final String archetypeName;
+    private final Class<? extends BaseHero> heroClass;
+    private final Function<String, BaseHero> factory;
+
+    /**
+     * Constructs an archetype.
+     *
+     * @param archetypeName the name of the archetype, as used by gear restrictions
+     * @param heroClass     the hero class of the archetype
+     * @param factory       creates a hero of the archetype from its name
+     */
+    HeroArchetype(String archetypeName, Class<? extends BaseHero> heroClass, Function<String, BaseHero> factory) {
+        this.archetypeName = archetypeName;
+        this.heroClass = heroClass;
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the archetype with the given name.
+     *
+     * @param archetypeName the name of the archetype
+     * @return the archetype
+     * @throws IllegalArgumentException if there is no archetype with the given name
+     */
+    public static HeroArchetype fromName(String archetypeName) {
+        HeroArchetype archetype = BY_NAME.get(archetypeName);
+        if (archetype == null) {
+            throw new IllegalArgumentException(String.format("%sThere was a problem finding the class: %s%s",
+                    AppConfig.ANSI_RED, archetypeName, AppConfig.ANSI_RESET));
+        }
+        return archetype;
+    }
+
+    /**
+     * Returns the mask of a restriction naming archetypes, separated by comma (e.g. Cleric,Warrior).
+     *
+     * @param restriction the names of the archetypes
+     * @return the mask of the archetypes
+     * @throws IllegalArgumentException if a name is not an archetype
+     */
+    public static int maskOf(String restriction) {
+        int mask = 0;
+        for (String archetypeName : restriction.split(",")) {
+            mask |= fromName(archetypeName.trim()).getMask();
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the mask of the archetypes a class belongs to, those whose hero class it is or extends.
+     * Computed once per class.
+     *
+     * @param type the class
+     * @return the mask of the archetypes, 0 if the class is not a hero of any archetype
+     */
+    public static int maskOf(Class<?> type) {
+        return MASKS_BY_CLASS.get(type);
+    }
+
+    /**
+     * Returns the hero classes of the archetypes in a mask.
+     *
+     * @param mask the mask of archetypes
+     * @return the hero classes, in the order of the archetypes
+     */
+    public static List<Class<?>> classesOf(int mask) {
+        List<Class<?>> classes = new ArrayList<>();
+        for (HeroArchetype archetype : values()) {
+            if ((mask & archetype.getMask()) != 0) {
+                classes.add(archetype.heroClass);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Returns the name of the archetype.
+     *
+     * @return the name, as used by gear restrictions
+     */
+    public String getArchetypeName() {
+        return archetypeName;
+    }
+
+    /**
+     * Returns the hero class of the archetype.
+     *
+     * @return the hero class
+     */
+    public Class<? extends BaseHero> getHeroClass() {
+        return heroClass;
+    }
+
+    /**
+     * Creates a hero of the archetype, equipped with gear rolled from the current {@link
+     * com.dt180g.project.support.Randomizer} source.
+     *
+     * @param characterName the name of the hero, which is followed by the archetype name
+     * @return the new hero
+     */
+    public BaseHero create(String characterName) {
+        return factory.apply(characterName);
+    }
+
+    /**
+     * Returns a bit mask with a single bit set, identifying this archetype in masks of archetypes.
+     *
+     * @return the bit of this archetype
+     */
+    public int getMask() {
+        return 1 << ordinal();
+    }
+}
@@ -35,9 +35,18 @@ public class Armor extends BaseGear{
      * @param armorDetail A map containing the armor details, including type, name, restriction, material, and protection.
      */
     public Armor(Map<String, String> armorDetail) {
-        super(armorDetail.get("type"), armorDetail.get("name"), armorDetail.get("restriction"));
-        this.material = armorDetail.get("material");
-        this.protection = Integer.parseInt(armorDetail.get("protection"));
+        this(GearRecord.ofArmor(armorDetail));
+    }
+
+    /**
+     * Constructs a new {@code Armor} object from its record in the gear catalog.
+     *
+     * @param armorRecord The record of the armor piece, holding its protection as value and its material as detail.
+     */
+    public Armor(GearRecord armorRecord) {
+        super(armorRecord);
+        this.material = armorRecord.getDetail();
+        this.protection = armorRecord.getValue();
         this.trait = new Trait(StatsManager.INSTANCE.getRandomTraitName(),
                 Randomizer.INSTANCE.getRandomValue(1, AppConfig.ARMOR_STAT_VALUE_UPPER_BOUND - 1));
     }
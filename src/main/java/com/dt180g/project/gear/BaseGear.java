@@ -1,10 +1,9 @@
 package com.dt180g.project.gear;
 
 
+import com.dt180g.project.characters.heroes.HeroArchetype;
 import com.dt180g.project.stats.BaseStat;
-import com.dt180g.project.support.AppConfig;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -20,32 +19,18 @@ public abstract class BaseGear {
     /**Instance field variables*/
     private final String type;
     private final String gearName;
-    private final List<Class<?>> classRestrictions;
+    private final int restrictionMask;
 
     /**
-     * Constructs a new {@code BaseGear} object with the provided gear details.
+     * Constructs a new {@code BaseGear} object from its record in the gear catalog.
      *
-     * @param type        The type of the gear (e.g. Shield).
-     * @param gearName    The name of the gear (e.g. Large Shield/Medium Shield).
-     * @param restriction A string representing the class restrictions for the gear (e.g. Cleric,Warrior).
-     * @throws RuntimeException If the class is not found.
+     * @param gearRecord The record of the gear, stating its type (e.g. Shield), its name (e.g. Large Shield/Medium
+     *                   Shield) and the classes allowed to use it (e.g. Cleric,Warrior).
      */
-    protected BaseGear(String type, String gearName, String restriction){
-        this.type = type;
-        this.gearName = gearName;
-        String [] restrictions = restriction.split(",");
-        List<Class<?>> classPlaceholder = new ArrayList<>();
-
-        for (String className : restrictions){
-            try {
-                Class<?> cls = Class.forName("com.dt180g.project.characters.heroes." + className);
-                classPlaceholder.add(cls);
-            } catch (ClassNotFoundException e) {
-                throw new RuntimeException(String.format("%sThere was a problem finding the class: %s%s",
-                        AppConfig.ANSI_RED, className, AppConfig.ANSI_RESET));
-            }
-        }
-        this.classRestrictions = classPlaceholder;
+    protected BaseGear(GearRecord gearRecord){
+        this.type = gearRecord.getType();
+        this.gearName = gearRecord.getName();
+        this.restrictionMask = gearRecord.getRestrictionMask();
     }
 
     /**
@@ -63,18 +48,27 @@ public abstract class BaseGear {
      * @return The list of class restrictions.
      */
     public List<Class<?>> getClassRestrictions(){
-        return this.classRestrictions;
+        return HeroArchetype.classesOf(this.restrictionMask);
+    }
+
+    /**
+     * Gets the hero archetypes allowed to use the gear.
+     *
+     * @return The mask of {@link HeroArchetype}s.
+     */
+    public int getRestrictionMask(){
+        return this.restrictionMask;
     }
 
     /**
      * Checks if the gear has a class restriction for the specified class.
+     * The check is a single AND of the restriction mask and the archetype mask of the class.
      *
      * @param classRestriction The class to check against the gear's class restrictions.
      * @return {@code true} if the gear has a class restriction for the specified class, {@code false} otherwise.
      */
     public boolean checkClassRestriction(Class<?> classRestriction){
-        return getClassRestrictions().stream()
-                .anyMatch(c -> c.isAssignableFrom(classRestriction));
+        return (this.restrictionMask & HeroArchetype.maskOf(classRestriction)) != 0;
     }
 
     /**
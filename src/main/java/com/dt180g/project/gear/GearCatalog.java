@@ -0,0 +1,319 @@
+package com.dt180g.project.gear;
+
+import com.dt180g.project.support.AppConfig;
+import com.dt180g.project.support.JsonFormatException;
+import com.dt180g.project.support.JsonReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code GearCatalog} class holds every weapon and armor piece of the game as {@link GearRecord}s,
+ * in the order of the JSON catalogs, which remain the source of truth.
+ *
+ * <p>The build compiles the JSON catalogs into the compact binary resource {@value AppConfig#GEAR_CATALOG_FILE},
+ * by running {@link #main(String...)} once the classes are compiled. At startup the resource is read in one go and
+ * decoded straight into records, without parsing JSON or numbers. When the resource is missing, e.g. when running
+ * from sources that were not built by Maven, the JSON catalogs are read instead.
+ *
+ * <p>The JSON catalogs are streamed, so catalogs of tens of thousands of generated items are read with little more
+ * memory than their records, and a malformed entry fails the build stating its line and column.
+ *
+ * <p>The binary format is a magic number and version, a table of the distinct strings, and then the weapons and
+ * the armor pieces, every record as indexes into the string table followed by its value.
+ * @author Daniel Jönsson
+ * @see GearRecord
+ * @see GearManager
+ * @version 1.0
+ */
+public final class GearCatalog {
+
+    /**Instance field variables*/
+    private static final int MAGIC = 0x47434154;  // "GCAT"
+    private static final int VERSION = 2;
+    private static final String WEAPON_CATALOG = "gear_weapons.json";
+    private static final String ARMOR_CATALOG = "gear_armor.json";
+    private final List<GearRecord> weapons;
+    private final List<GearRecord> armorPieces;
+
+    /**
+     * Constructs a catalog of the given records.
+     *
+     * @param weapons     The weapons, in catalog order.
+     * @param armorPieces The armor pieces, in catalog order.
+     */
+    public GearCatalog(List<GearRecord> weapons, List<GearRecord> armorPieces){
+        this.weapons = List.copyOf(weapons);
+        this.armorPieces = List.copyOf(armorPieces);
+    }
+
+    /**
+     * Loads the catalog of the game, from the compiled resource when present and from the JSON catalogs otherwise.
+     *
+     * @return The catalog.
+     * @throws UncheckedIOException If the compiled resource could not be read.
+     */
+    public static GearCatalog load(){
+        try (InputStream inputStream = GearCatalog.class.getResourceAsStream("/" + AppConfig.GEAR_CATALOG_FILE)) {
+            if (inputStream == null){
+                return fromJson();
+            }
+            return read(inputStream.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the catalog from the JSON catalogs of the game.
+     *
+     * @return The catalog.
+     * @throws UncheckedIOException If a catalog is missing or holds a malformed entry.
+     */
+    public static GearCatalog fromJson(){
+        try (Reader weapons = openResource(WEAPON_CATALOG); Reader armorPieces = openResource(ARMOR_CATALOG)) {
+            return fromJson(weapons, armorPieces);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a catalog from JSON catalogs of weapons and armor pieces. The catalogs are streamed, building records
+     * straight from the JSON tokens, so no other memory than that of the records is needed however large they are.
+     *
+     * @param weapons     The JSON catalog of weapons, arrays of weapons keyed by type.
+     * @param armorPieces The JSON catalog of armor pieces, arrays of armor pieces keyed by type.
+     * @return The catalog.
+     * @throws JsonFormatException If a catalog is malformed or an entry lacks a detail, stating where.
+     * @throws IOException If a catalog could not be read.
+     */
+    public static GearCatalog fromJson(Reader weapons, Reader armorPieces) throws IOException {
+        return new GearCatalog(readRecords(new JsonReader(weapons), true),
+                readRecords(new JsonReader(armorPieces), false));
+    }
+
+    /**
+     * Opens a JSON catalog among the resources of the game.
+     *
+     * @param fileName The name of the catalog.
+     * @return A reader of the catalog.
+     * @throws IOException If the catalog is missing.
+     */
+    private static Reader openResource(String fileName) throws IOException {
+        InputStream inputStream = GearCatalog.class.getResourceAsStream("/" + fileName);
+        if (inputStream == null){
+            throw new IOException("File not found: " + fileName);
+        }
+        return new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Streams the records of a JSON catalog.
+     *
+     * <p>The sections of gear types are collected in a hash map, filled in file order, and concatenated in its
+     * iteration order. This is the order the catalogs had when read as {@code org.json} objects, which are backed
+     * by such a map, so gear stats keep being rolled in the same order and every seeded game stays the same.
+     *
+     * @param reader  The reader of the catalog.
+     * @param weapons Whether the catalog holds weapons, otherwise armor pieces.
+     * @return The records, in catalog order.
+     * @throws IOException If the catalog is malformed or could not be read.
+     */
+    private static List<GearRecord> readRecords(JsonReader reader, boolean weapons) throws IOException {
+        Map<String, List<GearRecord>> sections = new HashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()){
+            String type = reader.nextName();
+            if (sections.containsKey(type)){
+                throw reader.formatError("Duplicate gear type \"" + type + "\"");
+            }
+            List<GearRecord> section = new ArrayList<>();
+            reader.beginArray();
+            while (reader.hasNext()){
+                section.add(readRecord(reader, type, weapons));
+            }
+            reader.endArray();
+            sections.put(type, section);
+        }
+        reader.endObject();
+        reader.endDocument();
+
+        List<GearRecord> records = new ArrayList<>();
+        sections.values().forEach(records::addAll);
+        return records;
+    }
+
+    /**
+     * Reads a single entry of a JSON catalog, skipping details not used by the game.
+     *
+     * @param reader  The reader of the catalog, positioned at the entry.
+     * @param type    The type of the gear.
+     * @param weapons Whether the entry is a weapon, otherwise an armor piece.
+     * @return The record of the entry.
+     * @throws IOException If the entry is malformed or lacks a detail.
+     */
+    private static GearRecord readRecord(JsonReader reader, String type, boolean weapons) throws IOException {
+        String valueField = weapons ? "damage" : "protection";
+        String detailField = weapons ? "wield" : "material";
+        String name = null;
+        String restriction = null;
+        String detail = null;
+        Integer value = null;
+
+        reader.beginObject();
+        int line = reader.getLine();
+        int column = reader.getColumn();
+        while (reader.hasNext()){
+            String field = reader.nextName();
+            if (field.equals("name")){
+                name = reader.nextString();
+            } else if (field.equals("restriction")){
+                restriction = reader.nextString();
+            } else if (field.equals(valueField)){
+                value = reader.nextInt();
+            } else if (field.equals(detailField)){
+                detail = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        String missing = (name == null) ? "name" : (restriction == null) ? "restriction"
+                : (value == null) ? valueField : (detail == null) ? detailField : null;
+        if (missing != null){
+            throw new JsonFormatException(String.format("%s entry lacks \"%s\"", type, missing), line, column);
+        }
+        try {
+            return new GearRecord(type, name, restriction, value, detail);
+        } catch (IllegalArgumentException e) {
+            throw new JsonFormatException(String.format("%s entry is restricted to unknown hero classes \"%s\"",
+                    type, restriction), line, column);
+        }
+    }
+
+    /**
+     * Decodes a catalog from its binary form.
+     *
+     * @param data The binary catalog.
+     * @return The catalog.
+     * @throws IOException If the data is not a binary catalog of this version.
+     */
+    public static GearCatalog read(byte[] data) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(data));
+        if (input.readInt() != MAGIC || input.readUnsignedShort() != VERSION){
+            throw new IOException("Not a gear catalog of version " + VERSION);
+        }
+        String[] strings = new String[input.readInt()];
+        for (int i = 0; i < strings.length; i++){
+            strings[i] = input.readUTF();
+        }
+        return new GearCatalog(readRecords(input, strings), readRecords(input, strings));
+    }
+
+    /**
+     * Decodes a section of records.
+     *
+     * @param input   The binary catalog, positioned at the section.
+     * @param strings The string table of the catalog.
+     * @return The records of the section.
+     * @throws IOException If the data ends early.
+     */
+    private static List<GearRecord> readRecords(DataInputStream input, String[] strings) throws IOException {
+        GearRecord[] records = new GearRecord[input.readInt()];
+        for (int i = 0; i < records.length; i++){
+            String type = strings[input.readInt()];
+            String name = strings[input.readInt()];
+            String restriction = strings[input.readInt()];
+            String detail = strings[input.readInt()];
+            records[i] = new GearRecord(type, name, restriction, input.readInt(), detail);
+        }
+        return List.of(records);
+    }
+
+    /**
+     * Encodes the catalog in its binary form.
+     *
+     * @param outputStream The stream to write to, which is left open.
+     * @throws IOException If the catalog could not be written.
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        Map<String, Integer> indexes = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (List<GearRecord> section : List.of(weapons, armorPieces)){
+            for (GearRecord record : section){
+                for (String value : List.of(record.getType(), record.getName(), record.getRestriction(),
+                        record.getDetail())){
+                    if (indexes.putIfAbsent(value, strings.size()) == null){
+                        strings.add(value);
+                    }
+                }
+            }
+        }
+
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        output.writeInt(strings.size());
+        for (String value : strings){
+            output.writeUTF(value);
+        }
+        for (List<GearRecord> section : List.of(weapons, armorPieces)){
+            output.writeInt(section.size());
+            for (GearRecord record : section){
+                output.writeInt(indexes.get(record.getType()));
+                output.writeInt(indexes.get(record.getName()));
+                output.writeInt(indexes.get(record.getRestriction()));
+                output.writeInt(indexes.get(record.getDetail()));
+                output.writeInt(record.getValue());
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * Gets the weapons of the catalog.
+     *
+     * @return The unmodifiable list of weapons, in catalog order.
+     */
+    public List<GearRecord> getWeapons(){
+        return this.weapons;
+    }
+
+    /**
+     * Gets the armor pieces of the catalog.
+     *
+     * @return The unmodifiable list of armor pieces, in catalog order.
+     */
+    public List<GearRecord> getArmorPieces(){
+        return this.armorPieces;
+    }
+
+    /**
+     * Build step compiling the JSON catalogs into the binary resource, run by Maven once the classes are compiled.
+     *
+     * @param args The directory of the compiled classes, where the resource is written.
+     * @throws IOException If the resource could not be written.
+     */
+    public static void main(String... args) throws IOException {
+        Path target = Path.of(args[0]).resolve(AppConfig.GEAR_CATALOG_FILE);
+        try (OutputStream outputStream = Files.newOutputStream(target)) {
+            fromJson().write(outputStream);
+        }
+    }
+}
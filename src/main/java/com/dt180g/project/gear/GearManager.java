@@ -1,6 +1,7 @@
 package com.dt180g.project.gear;
 
-import com.dt180g.project.support.IOHelper;
+import com.dt180g.project.support.AppConfig;
+import com.dt180g.project.support.RandomSource;
 import com.dt180g.project.support.Randomizer;
 
 import java.util.*;
@@ -8,9 +9,15 @@ import java.util.*;
 /**
  * The {@code GearManager} class manages the collection of weapons and armor pieces available in the game.
  * It provides methods for retrieving random weapons and armor pieces based on various criteria.
- * The gear information is retrieved from their respective json file with the help of {@link IOHelper} class.
+ * The gear information is retrieved from the {@link GearCatalog}, compiled from their respective json file.
+ * Random draws use the source bound to the calling thread through {@link Randomizer}, while the stats rolled
+ * for the catalog itself are seeded by {@link AppConfig#GEAR_CATALOG_SEED} so every run shares the same catalog.
+ *
+ * <p>The catalog is indexed once by weapon type, one-handedness, class restriction and armor slot.
+ * Indexes are immutable arrays, so a random draw is a single array lookup instead of filtering the catalog.
+ * Indexes for a restriction class are built the first time the class is asked for.
  * @author Daniel Jönsson
- * @see IOHelper
+ * @see GearCatalog
  * @see Randomizer
  * @version 1.0
  */
@@ -19,18 +26,40 @@ public class GearManager {
     public static final GearManager INSTANCE = new GearManager();
     private final Map<String, List<Weapon>> weapons = new HashMap<>();
     private final Map<String, List<Armor>> armorPieces = new HashMap<>();
+    private final Map<String, Weapon[]> weaponsByType = new HashMap<>();
+    private final Map<String, Weapon[]> oneHandedWeaponsByType = new HashMap<>();
+    private Weapon[] allWeapons;
+    private Armor[] allArmorPieces;
+    private final ClassValue<RestrictionIndex> restrictionIndexes = new ClassValue<>() {
+        @Override
+        protected RestrictionIndex computeValue(Class<?> restrictionClass) {
+            return new RestrictionIndex(restrictionClass);
+        }
+    };
 
     /**
      * Private constructor to enforce singleton pattern.
      * Reads weapon and armor data from files and populates the corresponding maps.
      */
     private GearManager(){
-        List<Map<String, String>> weaponInfo = IOHelper.readFromFile("gear_weapons.json");
-        List<Map<String, String>> armorInfo = IOHelper.readFromFile("gear_armor.json");
+        RandomSource previous = Randomizer.INSTANCE.bind(new RandomSource(AppConfig.GEAR_CATALOG_SEED));
+        try {
+            loadCatalog();
+            buildIndexes();
+        } finally {
+            Randomizer.INSTANCE.bind(previous);
+        }
+    }
+
+    /**
+     * Reads weapon and armor data from the gear catalog and populates the corresponding maps.
+     */
+    private void loadCatalog(){
+        GearCatalog catalog = GearCatalog.load();
 
-        for (Map<String, String> weaponDetails : weaponInfo){
-            Weapon weapon = new Weapon(weaponDetails);
-            String type = weaponDetails.get("type");
+        for (GearRecord weaponRecord : catalog.getWeapons()){
+            Weapon weapon = new Weapon(weaponRecord);
+            String type = weaponRecord.getType();
             if(this.weapons.containsKey(type)){
                 this.weapons.get(type).add(weapon);
             } else {
@@ -40,9 +69,9 @@ public class GearManager {
             }
 
         }
-        for (Map<String, String> armorDetails : armorInfo){
-            Armor armor = new Armor(armorDetails);
-            String type = armorDetails.get("type");
+        for (GearRecord armorRecord : catalog.getArmorPieces()){
+            Armor armor = new Armor(armorRecord);
+            String type = armorRecord.getType();
 
             if(this.armorPieces.containsKey(type)){
                 this.armorPieces.get(type).add(armor);
@@ -54,6 +83,25 @@ public class GearManager {
         }
     }
 
+    /**
+     * Builds the indexes used for random draws. The flattened arrays keep the iteration order of the
+     * catalog maps, so draws with the same random source select the same gear as filtering the maps would.
+     */
+    private void buildIndexes(){
+        for (Map.Entry<String, List<Weapon>> entry : weapons.entrySet()){
+            weaponsByType.put(entry.getKey(), entry.getValue().toArray(new Weapon[0]));
+            oneHandedWeaponsByType.put(entry.getKey(), entry.getValue().stream()
+                    .filter(weapon -> !weapon.isTwoHanded())
+                    .toArray(Weapon[]::new));
+        }
+        allWeapons = weapons.values().stream()
+                .flatMap(Collection::stream)
+                .toArray(Weapon[]::new);
+        allArmorPieces = armorPieces.values().stream()
+                .flatMap(Collection::stream)
+                .toArray(Armor[]::new);
+    }
+
     /**
      * Returns a mapping of armor types to lists of armor pieces.
      *
@@ -84,18 +132,12 @@ public class GearManager {
 
     /**
      * Returns a random weapon that satisfies the given class restriction.
-     * Uses Stream API to effectively retrieve correct weapons.
      *
      * @param restrictionClass The class restriction for the weapon.
      * @return A random weapon that satisfies the class restriction.
      */
     public Weapon getRandomWeapon(Class<?> restrictionClass){
-        List<Weapon> weaponOfType = getAllMappedWeapons().values().stream()
-                .flatMap(Collection::stream)    // Flattens nested List to stream of <Weapons>
-                .filter(weapon -> weapon.checkClassRestriction(restrictionClass))   // Filters weapons
-                .toList();
-        int randomIndex = Randomizer.INSTANCE.getRandomValue(weaponOfType.size() - 1);
-        return weaponOfType.get(randomIndex);
+        return getRandomElement(restrictionIndexes.get(restrictionClass).weapons);
     }
 
     /**
@@ -105,12 +147,7 @@ public class GearManager {
      * @return A random weapon of the specified type.
      */
     public Weapon getRandomWeapon(List<String> weaponType){
-        List<Weapon> filteredWeapons = weaponType.stream()
-                .map(this::getWeaponsOfType)    // Creates a nested List of weapons of correct type.
-                .flatMap(Collection::stream)    // Flattens nested List to single stream of <Weapon>
-                .toList();
-        int randomIndex = Randomizer.INSTANCE.getRandomValue(filteredWeapons.size() - 1);
-        return filteredWeapons.get(randomIndex);
+        return getRandomWeapon(weaponType, weaponsByType);
     }
 
     /**
@@ -120,12 +157,7 @@ public class GearManager {
      * @return A random one-handed weapon that satisfies the class restriction.
      */
     public Weapon getRandomOneHandedWeapon(Class<?> restrictionClass){
-        List<Weapon> validWeapons = getAllMappedWeapons().values().stream()
-                .flatMap(Collection::stream)    // Flattens List<List<Weapon>> to a single stream of <Weapon>.
-                .filter(weapon -> weapon.checkClassRestriction(restrictionClass) && !weapon.isTwoHanded())
-                .toList();
-        int randomIndex = Randomizer.INSTANCE.getRandomValue(validWeapons.size() -1);
-        return validWeapons.get(randomIndex);
+        return getRandomElement(restrictionIndexes.get(restrictionClass).oneHandedWeapons);
     }
 
     /**
@@ -135,14 +167,7 @@ public class GearManager {
      * @return A random one-handed weapon of the specified type.
      */
     public Weapon getRandomOneHandedWeapon(List<String> weaponType){
-        List<Weapon> filteredWeapons = weaponType.stream()
-                .map(this::getWeaponsOfType)    // Creates List<List<Weapon>>.
-                .flatMap(Collection::stream)    // Flattens List to single stream of <Weapon>.
-                .filter(weapon -> !weapon.isTwoHanded())    // Filter stream to obtain weapons that is not two-handed.
-                .toList();  // Create new List with the desired weapons.
-
-        int randomIndex = Randomizer.INSTANCE.getRandomValue(filteredWeapons.size() -1);
-        return filteredWeapons.get(randomIndex);
+        return getRandomWeapon(weaponType, oneHandedWeaponsByType);
     }
 
     /**
@@ -152,10 +177,7 @@ public class GearManager {
      * @return A list of all armor pieces that satisfy the class restriction.
      */
     public List<Armor> getAllArmorForRestriction(Class<?> restrictionClass){
-        return getAllMappedArmorPieces().values().stream()
-                .flatMap(Collection::stream)    //Flatten list of armor to a single stream.
-                .filter(armorPiece -> armorPiece.checkClassRestriction(restrictionClass))
-                .toList();
+        return List.of(restrictionIndexes.get(restrictionClass).armorPieces);
     }
 
     /**
@@ -166,10 +188,76 @@ public class GearManager {
      * @return A random armor piece of the specified type that satisfies the class restriction.
      */
     public Armor getRandomArmorOfType(String armorType, Class<?> restrictionClass){
-        List<Armor> matchingArmor = getAllArmorForRestriction(restrictionClass).stream()
-                .filter(armor -> armor.getType().equalsIgnoreCase(armorType))   // Filter armor that equals armor type
-                .toList();
-        int randomIndex = Randomizer.INSTANCE.getRandomValue(matchingArmor.size() - 1);
-        return matchingArmor.get(randomIndex);
+        Armor[] matchingArmor = restrictionIndexes.get(restrictionClass).armorBySlot
+                .getOrDefault(armorType.toLowerCase(Locale.ROOT), new Armor[0]);
+        return getRandomElement(matchingArmor);
+    }
+
+    /**
+     * Draws a random weapon from the concatenation of the indexed arrays of the given types,
+     * without building the concatenated list.
+     *
+     * @param weaponType The types of weapon to draw from.
+     * @param index      The index of weapons per type.
+     * @return A random weapon of one of the specified types.
+     */
+    private Weapon getRandomWeapon(List<String> weaponType, Map<String, Weapon[]> index){
+        int total = 0;
+        for (String type : weaponType){
+            total += index.get(type).length;
+        }
+        int randomIndex = Randomizer.INSTANCE.getRandomValue(total - 1);
+        for (String type : weaponType){
+            Weapon[] weaponsOfType = index.get(type);
+            if (randomIndex < weaponsOfType.length){
+                return weaponsOfType[randomIndex];
+            }
+            randomIndex -= weaponsOfType.length;
+        }
+        throw new IndexOutOfBoundsException(randomIndex);
+    }
+
+    /**
+     * Returns a random element of the given array, drawn from the source bound to the calling thread.
+     *
+     * @param gear The array to draw from.
+     * @param <T>  The type of gear.
+     * @return A random element of the array.
+     */
+    private static <T> T getRandomElement(T[] gear){
+        return gear[Randomizer.INSTANCE.getRandomValue(gear.length - 1)];
+    }
+
+    /**
+     * Gear available to a single restriction class, split by weapon handedness and armor slot.
+     */
+    private final class RestrictionIndex {
+        /**Instance field variables*/
+        private final Weapon[] weapons;
+        private final Weapon[] oneHandedWeapons;
+        private final Armor[] armorPieces;
+        private final Map<String, Armor[]> armorBySlot = new HashMap<>();
+
+        /**
+         * Builds the index for the given restriction class.
+         *
+         * @param restrictionClass The class restriction to index gear for.
+         */
+        private RestrictionIndex(Class<?> restrictionClass){
+            this.weapons = Arrays.stream(allWeapons)
+                    .filter(weapon -> weapon.checkClassRestriction(restrictionClass))
+                    .toArray(Weapon[]::new);
+            this.oneHandedWeapons = Arrays.stream(weapons)
+                    .filter(weapon -> !weapon.isTwoHanded())
+                    .toArray(Weapon[]::new);
+            this.armorPieces = Arrays.stream(allArmorPieces)
+                    .filter(armorPiece -> armorPiece.checkClassRestriction(restrictionClass))
+                    .toArray(Armor[]::new);
+            Map<String, List<Armor>> slots = new HashMap<>();
+            for (Armor armor : armorPieces){
+                slots.computeIfAbsent(armor.getType().toLowerCase(Locale.ROOT), slot -> new ArrayList<>()).add(armor);
+            }
+            slots.forEach((slot, armorOfSlot) -> armorBySlot.put(slot, armorOfSlot.toArray(new Armor[0])));
+        }
     }
 }
@@ -0,0 +1,154 @@
+package com.dt180g.project.gear;
+
+import com.dt180g.project.characters.heroes.HeroArchetype;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The {@code GearRecord} class holds the details of a single entry of the gear catalog, as typed values.
+ * Weapons and armor pieces share the same shape: a weapon's damage and wield are stored as the value and detail
+ * of the record, an armor piece's protection and material likewise.
+ *
+ * <p>Class restrictions are resolved to a mask of {@link HeroArchetype}s when the record is created.
+ * @author Daniel Jönsson
+ * @see GearCatalog
+ * @version 1.0
+ */
+public final class GearRecord {
+
+    /**Instance field variables*/
+    private final String type;
+    private final String name;
+    private final String restriction;
+    private final int value;
+    private final String detail;
+    private final int restrictionMask;
+
+    /**
+     * Constructs a new {@code GearRecord}.
+     *
+     * @param type        The type of the gear (e.g. Shield).
+     * @param name        The name of the gear (e.g. Large Shield).
+     * @param restriction The classes allowed to use the gear, separated by comma (e.g. Cleric,Warrior).
+     * @param value       The damage of a weapon, or the protection of an armor piece.
+     * @param detail      The wield of a weapon, or the material of an armor piece.
+     * @throws IllegalArgumentException If the restriction names a class that is not a hero archetype.
+     */
+    public GearRecord(String type, String name, String restriction, int value, String detail){
+        this.type = type;
+        this.name = name;
+        this.restriction = restriction;
+        this.value = value;
+        this.detail = detail;
+        this.restrictionMask = HeroArchetype.maskOf(restriction);
+    }
+
+    /**
+     * Creates a record from the details of a weapon, as read from the weapon catalog.
+     *
+     * @param weaponDetail A map containing the weapon details, including type, name, restriction, damage, and wield.
+     * @return The record of the weapon.
+     */
+    public static GearRecord ofWeapon(Map<String, String> weaponDetail){
+        return new GearRecord(weaponDetail.get("type"), weaponDetail.get("name"), weaponDetail.get("restriction"),
+                Integer.parseInt(weaponDetail.get("damage")), weaponDetail.get("wield"));
+    }
+
+    /**
+     * Creates a record from the details of an armor piece, as read from the armor catalog.
+     *
+     * @param armorDetail A map containing the armor details, including type, name, restriction, material, and protection.
+     * @return The record of the armor piece.
+     */
+    public static GearRecord ofArmor(Map<String, String> armorDetail){
+        return new GearRecord(armorDetail.get("type"), armorDetail.get("name"), armorDetail.get("restriction"),
+                Integer.parseInt(armorDetail.get("protection")), armorDetail.get("material"));
+    }
+
+    /**
+     * Gets the type of the gear.
+     *
+     * @return The type of the gear.
+     */
+    public String getType(){
+        return this.type;
+    }
+
+    /**
+     * Gets the name of the gear.
+     *
+     * @return The name of the gear.
+     */
+    public String getName(){
+        return this.name;
+    }
+
+    /**
+     * Gets the classes allowed to use the gear, as stated by the catalog.
+     *
+     * @return The class names, separated by comma.
+     */
+    public String getRestriction(){
+        return this.restriction;
+    }
+
+    /**
+     * Gets the damage of a weapon, or the protection of an armor piece.
+     *
+     * @return The value of the gear.
+     */
+    public int getValue(){
+        return this.value;
+    }
+
+    /**
+     * Gets the wield of a weapon, or the material of an armor piece.
+     *
+     * @return The detail of the gear.
+     */
+    public String getDetail(){
+        return this.detail;
+    }
+
+    /**
+     * Gets the hero archetypes allowed to use the gear.
+     *
+     * @return The mask of {@link HeroArchetype}s.
+     */
+    public int getRestrictionMask(){
+        return this.restrictionMask;
+    }
+
+    /**
+     * Compares the typed values of two records.
+     *
+     * @param o The object to compare with.
+     * @return {@code true} if the object is a record with the same values, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o){
+        if (this == o){ return true; }
+        if (!(o instanceof GearRecord other)){ return false; }
+        return value == other.value && type.equals(other.type) && name.equals(other.name)
+                && restriction.equals(other.restriction) && detail.equals(other.detail);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode(){
+        return Objects.hash(type, name, restriction, value, detail);
+    }
+
+    /**
+     * Returns a string representation of the record.
+     *
+     * @return The type and name of the gear.
+     */
+    @Override
+    public String toString(){
+        return this.type + " " + this.name;
+    }
+}
@@ -33,9 +33,18 @@ public class Weapon extends BaseGear{
      * @param weaponDetail A map containing the weapon details, including type, name, restriction, damage, and wield.
      */
     public Weapon(Map<String, String> weaponDetail){
-        super(weaponDetail.get("type"), weaponDetail.get("name"), weaponDetail.get("restriction"));
-        this.damage = Integer.parseInt(weaponDetail.get("damage"));
-        this.wield = weaponDetail.get("wield");
+        this(GearRecord.ofWeapon(weaponDetail));
+    }
+
+    /**
+     * Constructs a new {@code Weapon} object from its record in the gear catalog.
+     *
+     * @param weaponRecord The record of the weapon, holding its damage as value and its wield as detail.
+     */
+    public Weapon(GearRecord weaponRecord){
+        super(weaponRecord);
+        this.damage = weaponRecord.getValue();
+        this.wield = weaponRecord.getDetail();
         this.attribute = new Attribute(StatsManager.INSTANCE.getRandomAttributeName(),
                 Randomizer.INSTANCE.getRandomValue(1, AppConfig.WEAPON_ATTRIBUTE_VALUE_UPPER_BOUND));
     }
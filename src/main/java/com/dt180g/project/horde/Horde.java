@@ -0,0 +1,561 @@
+package com.dt180g.project.horde;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.abilities.BaseAbility;
+import com.dt180g.project.characters.enemies.BaseEnemy;
+import com.dt180g.project.characters.enemies.SkeletonArcher;
+import com.dt180g.project.characters.enemies.SkeletonMage;
+import com.dt180g.project.characters.enemies.SkeletonWarrior;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.AppConfig;
+import com.dt180g.project.support.EngineMetrics;
+import com.dt180g.project.support.RandomSource;
+import com.dt180g.project.support.Randomizer;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The {@code Horde} class holds an enormous amount of skeletons as parallel primitive arrays, one value of
+ * every enemy per array, instead of as character objects. What enemies of an archetype have in common is held
+ * once by its {@link HordeTemplate}, so every enemy only costs some thirty bytes.
+ *
+ * <p>The enemies alive are stored densely at the start of the arrays: a dying enemy is replaced by the last one.
+ * Attacks on the horde hit a contiguous window of enemies starting at a random position, so resolving an area
+ * attack walks neighbouring array elements. Enemies keep the id they got when the horde was raised, which is
+ * used to find them after they have been moved and to present them in the battle log.
+ *
+ * <p>In the horde, area abilities sweep {@value AppConfig#HORDE_AREA_TARGETS} enemies at once. Windows larger than
+ * {@value AppConfig#HORDE_ATTACK_CHUNK} enemies are split into chunks, each rolling critical hits from a random
+ * source of its own, derived from a single draw of the battle, and resolved in parallel on the common fork-join
+ * pool. The battle log and the removal of the dead follow the order of the chunks, so the outcome of a seeded
+ * battle does not depend on whether, or on how many threads, chunks are resolved in parallel.
+ *
+ * @author Daniel Jönsson
+ * @see HordeTemplate
+ * @see HordeRunner
+ * @version 1.0
+ */
+public final class Horde {
+
+    /**Instance field variables*/
+    private static final int NOT_ALIVE = -1;
+    private static final HordeKernels KERNELS = HordeKernels.create();
+    private final GameEngine engine;
+    private final HordeTemplate[] templates;
+    private final int firstId;
+    private int size;
+    private final int[] ids;           // id of every enemy, by position
+    private final byte[] archetypes;   // index of the template of every enemy, by position
+    private final int[] hitPoints;
+    private final int[] actionPoints;
+    private final int[] energyLevels;
+    private final int[] defenceRates;
+    private final int[] positions;     // position of every enemy alive, by id relative to the first id
+    private final int[] turnOrder;     // ids of the enemies ordered by action points, rebuilt every round
+    private int[] actionPointCounts = new int[16];
+    private final BaseAbility[] plannedActions = new BaseAbility[AppConfig.ACTIONS_PER_TURN];
+    private AttackChunk[] chunks = { new AttackChunk() };
+    private boolean parallel = true;
+
+    /**
+     * Constructs a horde of enemies joining the battle of the given engine. Every enemy gets a random archetype,
+     * and the weapons of every template are rolled, drawing from the random source of the engine.
+     *
+     * @param engine          the engine running the battle
+     * @param amountOfEnemies the amount of enemies of the horde
+     * @throws IllegalArgumentException if the amount is negative
+     */
+    public Horde(GameEngine engine, int amountOfEnemies){
+        if (amountOfEnemies < 0){
+            throw new IllegalArgumentException("Amount of enemies cannot be negative: " + amountOfEnemies);
+        }
+        this.engine = engine;
+        this.templates = createTemplates(engine.getRandomSource());
+        this.firstId = engine.reserveCharacterIds(amountOfEnemies);
+        this.ids = new int[amountOfEnemies];
+        this.archetypes = new byte[amountOfEnemies];
+        this.hitPoints = new int[amountOfEnemies];
+        this.actionPoints = new int[amountOfEnemies];
+        this.energyLevels = new int[amountOfEnemies];
+        this.defenceRates = new int[amountOfEnemies];
+        this.positions = new int[amountOfEnemies];
+        this.turnOrder = new int[amountOfEnemies];
+
+        RandomSource random = engine.getRandomSource();
+        for (int i = 0; i < amountOfEnemies; i++){
+            HordeTemplate template = templates[random.getRandomValue(templates.length - 1)];
+            ids[i] = firstId + i;
+            archetypes[i] = (byte) indexOf(template);
+            hitPoints[i] = template.getHitPoints();
+            actionPoints[i] = template.getActionPoints();
+            energyLevels[i] = template.getEnergyLevel();
+            defenceRates[i] = template.getDefenceRate();
+            positions[i] = i;
+        }
+        size = amountOfEnemies;
+    }
+
+    /**
+     * Creates the templates of the horde, a number of variants of every skeleton archetype with weapons of their own.
+     *
+     * @param random the source to roll weapons from
+     * @return the templates
+     */
+    private static HordeTemplate[] createTemplates(RandomSource random){
+        HordeTemplate[] output = new HordeTemplate[3 * AppConfig.HORDE_TEMPLATE_VARIANTS];
+        RandomSource previous = Randomizer.INSTANCE.bind(random);
+        try {
+            for (int variant = 0; variant < AppConfig.HORDE_TEMPLATE_VARIANTS; variant++){
+                output[3 * variant] = createTemplate(AppConfig.ENEMY_SKELETON_WARRIOR, new SkeletonWarrior(variant + 1));
+                output[3 * variant + 1] = createTemplate(AppConfig.ENEMY_SKELETON_ARCHER, new SkeletonArcher(variant + 1));
+                output[3 * variant + 2] = createTemplate(AppConfig.ENEMY_SKELETON_MAGE, new SkeletonMage(variant + 1));
+            }
+        } finally {
+            Randomizer.INSTANCE.bind(previous);
+        }
+        return output;
+    }
+
+    /**
+     * Creates a template from a prototype enemy.
+     *
+     * @param name      the name of the archetype
+     * @param prototype the prototype enemy
+     * @return the template
+     */
+    private static HordeTemplate createTemplate(String name, BaseEnemy prototype){
+        return new HordeTemplate(name, prototype);
+    }
+
+    /**
+     * Returns the index of a template.
+     *
+     * @param template the template
+     * @return its index among the templates of the horde
+     */
+    private int indexOf(HordeTemplate template){
+        for (int i = 0; i < templates.length; i++){
+            if (templates[i] == template){ return i; }
+        }
+        throw new IllegalArgumentException("Template is not part of the horde");
+    }
+
+    /**
+     * Returns the name of the kernels applying bulk operations to hordes, telling whether the vector API is used.
+     *
+     * @return the name of the kernels
+     */
+    public static String getKernelName(){
+        return KERNELS.getName();
+    }
+
+    /**
+     * Returns the amount of enemies alive.
+     *
+     * @return the amount of enemies
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * Checks if all enemies are dead.
+     *
+     * @return true if no enemy is alive
+     */
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    /**
+     * Returns the id of the enemy at a position.
+     *
+     * @param position position among the enemies alive
+     * @return the id of the enemy
+     */
+    public int getCharacterId(int position){
+        return ids[position];
+    }
+
+    /**
+     * Returns the position of an enemy.
+     *
+     * @param id the id of the enemy
+     * @return its position among the enemies alive, or -1 if it is dead or not part of the horde
+     */
+    public int getPosition(int id){
+        int relative = id - firstId;
+        return (relative < 0 || relative >= positions.length) ? NOT_ALIVE : positions[relative];
+    }
+
+    /**
+     * Returns the template of the enemy at a position.
+     *
+     * @param position position among the enemies alive
+     * @return the template of the enemy
+     */
+    public HordeTemplate getTemplate(int position){
+        return templates[archetypes[position]];
+    }
+
+    /**
+     * Returns the hit points of the enemy at a position.
+     *
+     * @param position position among the enemies alive
+     * @return the hit points
+     */
+    public int getHitPoints(int position){
+        return hitPoints[position];
+    }
+
+    /**
+     * Returns the action points of the enemy at a position.
+     *
+     * @param position position among the enemies alive
+     * @return the action points
+     */
+    public int getActionPoints(int position){
+        return actionPoints[position];
+    }
+
+    /**
+     * Returns the energy level of the enemy at a position.
+     *
+     * @param position position among the enemies alive
+     * @return the energy level
+     */
+    public int getEnergyLevel(int position){
+        return energyLevels[position];
+    }
+
+    /**
+     * Returns the defence rate of the enemy at a position.
+     *
+     * @param position position among the enemies alive
+     * @return the defence rate
+     */
+    public int getDefenceRate(int position){
+        return defenceRates[position];
+    }
+
+    /**
+     * Mutator deciding whether the chunks of large attacks are resolved in parallel.
+     * The outcome is the same either way.
+     *
+     * @param parallel true to resolve chunks on the common fork-join pool, false to resolve them in order
+     */
+    public void setParallel(boolean parallel){
+        this.parallel = parallel;
+    }
+
+    /**
+     * Resolves an attack on the horde, hitting a window of neighbouring enemies at a random position. Attacks on
+     * more than one target hit an area of {@value AppConfig#HORDE_AREA_TARGETS} enemies. Every enemy hit rolls for
+     * a critical hit on its own, as when ordinary enemies are attacked. Damage is then mitigated and dead enemies
+     * found for a whole chunk at once, by the kernels of the horde.
+     *
+     * @param amountOfTargets the number of targets of the attack
+     * @param damage          the damage of the attack, negative for healing
+     * @param isMagic         whether the attack is magical, ignoring armor
+     * @param isHeal          whether the attack heals its targets
+     * @param critMultiplier  multiplier for attack value (critical hit)
+     * @return the amount of enemies hit
+     */
+    public int receiveAttack(int amountOfTargets, int damage, boolean isMagic, boolean isHeal, int critMultiplier){
+        RandomSource random = engine.getRandomSource();
+        int targets = (amountOfTargets > AppConfig.ABILITY_SINGLE_TARGET)
+                ? AppConfig.HORDE_AREA_TARGETS : amountOfTargets;
+        int window = Math.min(targets, size);
+        int start = random.getRandomValue(size - window);
+        int amountOfChunks = resolveChunks(random, start, window, damage, isMagic, isHeal, critMultiplier);
+
+        ActivityLogger logger = engine.getLogger();
+        if (logger.isEnabled()){
+            for (int c = 0; c < amountOfChunks; c++){
+                chunks[c].log(logger);
+            }
+        }
+        if (EngineMetrics.INSTANCE.isEnabled()){
+            for (int c = 0; c < amountOfChunks; c++){
+                chunks[c].record(EngineMetrics.INSTANCE);
+            }
+        }
+
+        // Remove from the highest position down, so the enemies moving into place are all alive
+        for (int c = amountOfChunks - 1; c >= 0; c--){
+            AttackChunk chunk = chunks[c];
+            for (int i = chunk.amountOfDead - 1; i >= 0; i--){
+                removeAt(chunk.dead[i]);
+            }
+        }
+        return window;
+    }
+
+    /**
+     * Resolves the window of an attack in chunks. A window fitting a single chunk draws from the random source of
+     * the battle, a larger window draws a seed from it, from which every chunk derives a source of its own.
+     *
+     * @param random         the random source of the battle
+     * @param start          position of the first enemy of the window
+     * @param window         the amount of enemies in the window
+     * @param damage         the damage of the attack, negative for healing
+     * @param isMagic        whether the attack is magical, ignoring armor
+     * @param isHeal         whether the attack heals its targets
+     * @param critMultiplier multiplier for attack value (critical hit)
+     * @return the amount of chunks resolved
+     */
+    private int resolveChunks(RandomSource random, int start, int window, int damage, boolean isMagic, boolean isHeal,
+                              int critMultiplier){
+        if (window <= AppConfig.HORDE_ATTACK_CHUNK){
+            chunks[0].prepare(random, start, window, damage, isMagic, isHeal, critMultiplier);
+            chunks[0].resolve();
+            return 1;
+        }
+
+        int amountOfChunks = (window + AppConfig.HORDE_ATTACK_CHUNK - 1) / AppConfig.HORDE_ATTACK_CHUNK;
+        if (chunks.length < amountOfChunks){
+            int previous = chunks.length;
+            chunks = Arrays.copyOf(chunks, amountOfChunks);
+            for (int c = previous; c < amountOfChunks; c++){
+                chunks[c] = new AttackChunk();
+            }
+        }
+        long seed = random.nextLong();
+        for (int c = 0; c < amountOfChunks; c++){
+            int from = c * AppConfig.HORDE_ATTACK_CHUNK;
+            chunks[c].prepare(new RandomSource(RandomSource.deriveSeed(seed, c)), start + from,
+                    Math.min(AppConfig.HORDE_ATTACK_CHUNK, window - from), damage, isMagic, isHeal, critMultiplier);
+        }
+
+        if (parallel){
+            for (int c = 1; c < amountOfChunks; c++){
+                chunks[c].fork();
+            }
+            chunks[0].invoke();
+            for (int c = 1; c < amountOfChunks; c++){
+                chunks[c].join();
+            }
+        } else {
+            for (int c = 0; c < amountOfChunks; c++){
+                chunks[c].resolve();
+            }
+        }
+        return amountOfChunks;
+    }
+
+    /**
+     * Removes the enemy at a position, moving the last enemy alive into its place.
+     *
+     * @param position position of the dead enemy
+     */
+    private void removeAt(int position){
+        positions[ids[position] - firstId] = NOT_ALIVE;
+        int last = --size;
+        if (position != last){
+            ids[position] = ids[last];
+            archetypes[position] = archetypes[last];
+            hitPoints[position] = hitPoints[last];
+            actionPoints[position] = actionPoints[last];
+            energyLevels[position] = energyLevels[last];
+            defenceRates[position] = defenceRates[last];
+            positions[ids[position] - firstId] = position;
+        }
+    }
+
+    /**
+     * Orders the enemies alive by action points, highest first and by position when equal, for a new round.
+     * A counting sort over the range of action points is used, taking linear time.
+     *
+     * @return the amount of enemies ordered, whose ids are returned by {@link #getTurn(int)}
+     */
+    public int orderTurns(){
+        if (size == 0){ return 0; }
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++){
+            min = Math.min(min, actionPoints[i]);
+            max = Math.max(max, actionPoints[i]);
+        }
+        int range = max - min + 1;
+        if (actionPointCounts.length < range + 1){
+            actionPointCounts = new int[range + 1];
+        }
+        Arrays.fill(actionPointCounts, 0, range + 1, 0);
+        for (int i = 0; i < size; i++){
+            actionPointCounts[max - actionPoints[i] + 1]++;   // highest action points in the first bucket
+        }
+        for (int bucket = 1; bucket <= range; bucket++){
+            actionPointCounts[bucket] += actionPointCounts[bucket - 1];
+        }
+        for (int i = 0; i < size; i++){
+            turnOrder[actionPointCounts[max - actionPoints[i]]++] = ids[i];
+        }
+        return size;
+    }
+
+    /**
+     * Returns the id of the enemy at a place in the turn order of the round.
+     *
+     * @param place place in the order made by {@link #orderTurns()}
+     * @return the id of the enemy, which may have died since
+     */
+    public int getTurn(int place){
+        return turnOrder[place];
+    }
+
+    /**
+     * Replenishes action points and energy of every enemy alive, as at the start of every round but the first.
+     */
+    public void replenish(){
+        KERNELS.replenish(actionPoints, energyLevels, size, AppConfig.ROUND_RESET_AP, AppConfig.ROUND_RESET_ENERGY);
+    }
+
+    /**
+     * Performs the turn of an enemy: it plans a random set of abilities it can afford and uses them on the heroes,
+     * the same way an ordinary enemy does.
+     *
+     * @param id the id of the enemy
+     * @return false if the enemy is dead, true otherwise
+     */
+    public boolean doTurn(int id){
+        int position = getPosition(id);
+        if (position == NOT_ALIVE){ return false; }
+        long timerStart = EngineMetrics.INSTANCE.startTimer();
+        HordeTemplate template = templates[archetypes[position]];
+        engine.getLogger().logTurn(id, template.getName(), false, actionPoints[position], hitPoints[position],
+                energyLevels[position]);
+
+        int amountOfActions = template.getPlanner().planTurn(engine.getRandomSource(), actionPoints[position],
+                energyLevels[position], plannedActions);
+        for (int i = 0; i < amountOfActions; i++){
+            BaseAbility ability = plannedActions[i];
+            int damage = ability.isMagic() ? template.getMagicDamage() : template.getPhysicalDamage();
+            if (!ability.execute(engine, damage, false)){
+                break;
+            }
+            energyLevels[position] -= ability.getEnergyCost();
+            actionPoints[position] -= ability.getActionPointCost();
+        }
+        EngineMetrics.INSTANCE.recordTurn(timerStart);
+        return true;
+    }
+
+    /**
+     * A chunk of neighbouring enemies hit by an attack, resolved as a task of its own. Writes only to the hit points
+     * of its own enemies and to its own buffers, which are reused by later attacks.
+     */
+    @SuppressWarnings("serial")  // tasks are never serialized
+    private final class AttackChunk extends RecursiveAction {
+
+        /**Instance field variables*/
+        private RandomSource random;
+        private int from;
+        private int length;
+        private int damage;
+        private boolean isMagic;
+        private boolean isHeal;
+        private int critMultiplier;
+        private boolean[] crits = new boolean[AppConfig.ABILITY_GROUP_TARGET];
+        private int[] damages = new int[AppConfig.ABILITY_GROUP_TARGET];
+        private int[] deflections = new int[AppConfig.ABILITY_GROUP_TARGET];
+        private int[] directHits = new int[AppConfig.ABILITY_GROUP_TARGET];
+        private int[] dead = new int[AppConfig.ABILITY_GROUP_TARGET];
+        private int amountOfDead;
+
+        /**
+         * Prepares the chunk for an attack, growing its buffers if needed.
+         *
+         * @param random         the source to roll critical hits from
+         * @param from           position of the first enemy of the chunk
+         * @param length         the amount of enemies in the chunk
+         * @param damage         the damage of the attack, negative for healing
+         * @param isMagic        whether the attack is magical, ignoring armor
+         * @param isHeal         whether the attack heals its targets
+         * @param critMultiplier multiplier for attack value (critical hit)
+         */
+        private void prepare(RandomSource random, int from, int length, int damage, boolean isMagic, boolean isHeal,
+                             int critMultiplier){
+            reinitialize();
+            this.random = random;
+            this.from = from;
+            this.length = length;
+            this.damage = damage;
+            this.isMagic = isMagic;
+            this.isHeal = isHeal;
+            this.critMultiplier = critMultiplier;
+            if (damages.length < length){
+                crits = new boolean[length];
+                damages = new int[length];
+                deflections = new int[length];
+                directHits = new int[length];
+                dead = new int[length];
+            }
+        }
+
+        /**{@inheritDoc}*/
+        @Override
+        protected void compute(){
+            resolve();
+        }
+
+        /**
+         * Rolls critical hits, applies the attack and collects the dead enemies of the chunk.
+         */
+        private void resolve(){
+            for (int k = 0; k < length; k++){
+                int position = from + k;
+                crits[k] = random.getRandomValue(1, AppConfig.CRIT_ROLL_UPPER_BOUND) <= AppConfig.CRIT_CHANCE;
+                damages[k] = crits[k] ? damage * critMultiplier : damage;
+                deflections[k] = defenceRates[position]
+                        + (isMagic ? 0 : templates[archetypes[position]].getArmorProtection());
+            }
+            if (isHeal){
+                for (int k = 0; k < length; k++){
+                    hitPoints[from + k] -= damages[k];
+                }
+                amountOfDead = 0;
+                return;
+            }
+            KERNELS.applyDamage(hitPoints, from, damages, deflections, directHits, length);
+            amountOfDead = KERNELS.collectDead(hitPoints, from, length, dead);
+        }
+
+        /**
+         * Logs the outcome for every enemy of the chunk, in order of position.
+         *
+         * @param logger the logger of the battle
+         */
+        private void log(ActivityLogger logger){
+            for (int k = 0; k < length; k++){
+                int position = from + k;
+                String name = templates[archetypes[position]].getName();
+                if (isHeal){
+                    logger.logHealing(ids[position], name, crits[k], -damages[k], hitPoints[position]);
+                } else {
+                    logger.logHit(ids[position], name, crits[k], damages[k] - directHits[k], directHits[k],
+                            hitPoints[position]);
+                }
+            }
+        }
+
+        /**
+         * Records the outcome of the chunk, summed over its enemies, in the metrics of the engine.
+         *
+         * @param metrics the metrics to record in
+         */
+        private void record(EngineMetrics metrics){
+            int amountOfCrits = 0;
+            long dealt = 0;
+            long taken = 0;
+            for (int k = 0; k < length; k++){
+                amountOfCrits += crits[k] ? 1 : 0;
+                if (!isHeal){
+                    dealt += damages[k];
+                    taken += directHits[k];
+                }
+            }
+            metrics.recordHits(true, amountOfCrits, dealt, taken, amountOfDead);
+        }
+    }
+}
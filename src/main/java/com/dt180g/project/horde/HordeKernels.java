@@ -0,0 +1,101 @@
+package com.dt180g.project.horde;
+
+/**
+ * The {@code HordeKernels} class holds the bulk operations applied to the primitive arrays of a {@link Horde}:
+ * replenishing action points and energy of every enemy, mitigating the damage of an area attack and finding
+ * the enemies it killed. This class applies them one element at a time.
+ *
+ * <p>When the project is built with the {@code vector} profile and run with the {@code jdk.incubator.vector}
+ * module added, {@link #create()} returns a subclass applying them a whole vector of lanes at a time instead.
+ * Both produce the same values.
+ *
+ * @author Daniel Jönsson
+ * @see Horde
+ * @version 1.0
+ */
+class HordeKernels {
+
+    /**Instance field variables*/
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNELS = "com.dt180g.project.horde.VectorHordeKernels";
+
+    /**
+     * Creates the fastest kernels available, falling back to the scalar ones when the vector API is missing,
+     * either from the build or from the running virtual machine.
+     *
+     * @return the kernels
+     */
+    static HordeKernels create(){
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()){
+            try {
+                return (HordeKernels) Class.forName(VECTOR_KERNELS).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // not built with the vector profile
+            }
+        }
+        return new HordeKernels();
+    }
+
+    /**
+     * Returns a short name of the kernels, used for reports.
+     *
+     * @return the name
+     */
+    String getName(){
+        return "scalar";
+    }
+
+    /**
+     * Replenishes action points and energy of the first enemies, as at the start of every round but the first.
+     *
+     * @param actionPoints the action points of the enemies
+     * @param energyLevels the energy levels of the enemies
+     * @param length       the amount of enemies
+     * @param addedActionPoints action points added to every enemy
+     * @param addedEnergy  energy added to every enemy
+     */
+    void replenish(int[] actionPoints, int[] energyLevels, int length, int addedActionPoints, int addedEnergy){
+        for (int i = 0; i < length; i++){
+            actionPoints[i] += addedActionPoints;
+            energyLevels[i] += addedEnergy;
+        }
+    }
+
+    /**
+     * Applies an attack to a window of enemies. Every enemy takes its damage less its deflection, never less than 0,
+     * the same way {@code registerDamage} treats a character.
+     *
+     * @param hitPoints  the hit points of all enemies
+     * @param offset     position of the first enemy of the window
+     * @param damage     the damage dealt to every enemy of the window, by place in the window
+     * @param deflection the damage deflected by every enemy of the window, by place in the window
+     * @param directHits receives the damage taken by every enemy of the window, by place in the window
+     * @param length     the amount of enemies in the window
+     */
+    void applyDamage(int[] hitPoints, int offset, int[] damage, int[] deflection, int[] directHits, int length){
+        for (int i = 0; i < length; i++){
+            int directHit = Math.max(damage[i] - deflection[i], 0);
+            directHits[i] = directHit;
+            hitPoints[offset + i] -= directHit;
+        }
+    }
+
+    /**
+     * Finds the dead enemies of a window, those with less than 1 hit point.
+     *
+     * @param hitPoints the hit points of all enemies
+     * @param offset    position of the first enemy of the window
+     * @param length    the amount of enemies in the window
+     * @param into      receives the positions of the dead enemies in ascending order, as large as the window
+     * @return the amount of dead enemies
+     */
+    int collectDead(int[] hitPoints, int offset, int length, int[] into){
+        int amountOfDead = 0;
+        for (int i = offset; i < offset + length; i++){
+            if (hitPoints[i] < 1){
+                into[amountOfDead++] = i;
+            }
+        }
+        return amountOfDead;
+    }
+}
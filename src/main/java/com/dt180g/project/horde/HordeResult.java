@@ -0,0 +1,128 @@
+package com.dt180g.project.horde;
+
+import com.dt180g.project.support.AppConfig;
+import com.dt180g.project.support.IOHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code HordeResult} class holds the outcome of a single horde battle.
+ * @author Daniel Jönsson
+ * @see HordeRunner
+ * @version 1.0
+ */
+public final class HordeResult {
+
+    /**Instance field variables*/
+    private final long seed;
+    private final int hordeSize;
+    private final int enemiesDefeated;
+    private final int survivingHeroes;
+    private final int rounds;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs the outcome of a horde battle.
+     *
+     * @param seed            the seed which reproduces the battle
+     * @param hordeSize       the amount of enemies of the horde
+     * @param enemiesDefeated the amount of enemies killed
+     * @param survivingHeroes the amount of heroes alive at the end
+     * @param rounds          the amount of rounds played
+     * @param elapsedNanos    wall-clock time of the battle in nanoseconds
+     */
+    HordeResult(long seed, int hordeSize, int enemiesDefeated, int survivingHeroes, int rounds, long elapsedNanos){
+        this.seed = seed;
+        this.hordeSize = hordeSize;
+        this.enemiesDefeated = enemiesDefeated;
+        this.survivingHeroes = survivingHeroes;
+        this.rounds = rounds;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns whether the heroes defeated the whole horde.
+     *
+     * @return true if the battle was won
+     */
+    public boolean isVictory(){
+        return survivingHeroes > 0;
+    }
+
+    /**
+     * Returns the seed of the battle, which reproduces it.
+     *
+     * @return the seed
+     */
+    public long getSeed(){
+        return seed;
+    }
+
+    /**
+     * Returns the amount of enemies of the horde.
+     *
+     * @return the amount of enemies
+     */
+    public int getHordeSize(){
+        return hordeSize;
+    }
+
+    /**
+     * Returns the amount of enemies killed by the heroes.
+     *
+     * @return the amount of enemies defeated
+     */
+    public int getEnemiesDefeated(){
+        return enemiesDefeated;
+    }
+
+    /**
+     * Returns the amount of heroes alive at the end of the battle.
+     *
+     * @return the amount of surviving heroes
+     */
+    public int getSurvivingHeroes(){
+        return survivingHeroes;
+    }
+
+    /**
+     * Returns the amount of rounds played.
+     *
+     * @return the amount of rounds
+     */
+    public int getRounds(){
+        return rounds;
+    }
+
+    /**
+     * Returns the throughput of the battle.
+     *
+     * @return enemies killed per second of wall-clock time
+     */
+    public double getKillsPerSecond(){
+        return elapsedNanos == 0 ? 0 : enemiesDefeated / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Returns a string representation of the result formatted as table.
+     * Uses {@link IOHelper#formatAsTable(List)} to format the information.
+     *
+     * @return the result as table
+     */
+    @Override
+    public String toString(){
+        List<List<String>> rows = new ArrayList<>();
+        rows.add(Arrays.asList("Seed", Long.toString(seed)));
+        rows.add(Arrays.asList("Horde size", Integer.toString(hordeSize)));
+        rows.add(Arrays.asList("Victory", Boolean.toString(isVictory())));
+        rows.add(Arrays.asList("Enemies defeated", Integer.toString(enemiesDefeated)));
+        rows.add(Arrays.asList("Surviving heroes", Integer.toString(survivingHeroes)));
+        rows.add(Arrays.asList("Rounds", Integer.toString(rounds)));
+        rows.add(Arrays.asList("Kernels", Horde.getKernelName()));
+        rows.add(Arrays.asList("Kills/s", String.format("%.1f", getKillsPerSecond())));
+        return String.format("%sHORDE REPORT%n%s%s", AppConfig.ANSI_BLUE, AppConfig.ANSI_RESET,
+                IOHelper.formatAsTable(rows));
+    }
+}
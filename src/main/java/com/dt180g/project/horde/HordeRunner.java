@@ -0,0 +1,127 @@
+package com.dt180g.project.horde;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.characters.heroes.BaseHero;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.NullSink;
+
+import java.util.List;
+
+/**
+ * The {@code HordeRunner} class lets the party of heroes face a horde of enemies in a single, headless dungeon level.
+ * Every round, heroes and enemies act in order of action points, highest first and heroes first when equal,
+ * as in an ordinary dungeon level. The enemies are ordered by the horde itself, in linear time, and merged with
+ * the few heroes, so no character objects are created for the enemies.
+ * @author Daniel Jönsson
+ * @see Horde
+ * @see HordeResult
+ * @version 1.0
+ */
+public class HordeRunner {
+
+    /**Instance field variables*/
+    private final int hordeSize;
+    private final long seed;
+    private final BaseHero[] heroOrder = new BaseHero[8];
+
+    /**
+     * Constructs a runner for a horde battle, reproducible from its seed.
+     *
+     * @param hordeSize the amount of enemies of the horde
+     * @param seed      the seed of the battle
+     */
+    public HordeRunner(int hordeSize, long seed){
+        this.hordeSize = hordeSize;
+        this.seed = seed;
+    }
+
+    /**
+     * Runs the battle until either side is wiped out. Nothing is logged, as the engine gets a disabled logger of its own.
+     *
+     * @return the outcome of the battle
+     */
+    public HordeResult run(){
+        GameEngine engine = new GameEngine(seed);
+        ActivityLogger logger = new ActivityLogger(NullSink.INSTANCE);
+        logger.setEnabled(false);
+        engine.setLogger(logger);
+        long start = System.nanoTime();
+        Horde horde = new Horde(engine, hordeSize);
+        engine.enterHorde(horde);
+        engine.resetHeroesStats();
+        int rounds = 0;
+        while (engine.heroesRemaining() && !horde.isEmpty()){
+            runRound(engine, horde, ++rounds);
+        }
+        return new HordeResult(seed, hordeSize, hordeSize - horde.size(), engine.getAmountOfHeroes(), rounds,
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Plays a round, merging the turn order of the heroes with the turn order of the horde.
+     *
+     * @param engine the engine of the battle
+     * @param horde  the horde faced
+     * @param round  the number of the round, counting from 1
+     */
+    private void runRound(GameEngine engine, Horde horde, int round){
+        engine.getLogger().logRound(1, round, engine.getAmountOfHeroes(), horde.size());
+        if (round > 1){  // replenish every character at once, which keeps their order by action points
+            engine.getHeroes().forEach(BaseHero::roundReset);
+            horde.replenish();
+        }
+        int amountOfHeroes = orderHeroes(engine.getHeroes());
+        int amountOfEnemies = horde.orderTurns();
+
+        int hero = 0;
+        int enemy = 0;
+        while (hero < amountOfHeroes || enemy < amountOfEnemies){
+            boolean heroFirst = enemy == amountOfEnemies || (hero < amountOfHeroes
+                    && heroOrder[hero].getActionPoints() >= actionPointsOf(horde, horde.getTurn(enemy)));
+            if (heroFirst){
+                BaseHero character = heroOrder[hero++];
+                if (character.isDead()){
+                    continue;
+                }
+                character.doTurn();
+            } else if (!horde.doTurn(horde.getTurn(enemy++))){
+                continue;  // killed earlier in the round
+            }
+            if (!engine.heroesRemaining() || horde.isEmpty()){
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the action points of an enemy, or the least possible value if it has died, as dead enemies skip their turn.
+     *
+     * @param horde the horde of the enemy
+     * @param id    the id of the enemy
+     * @return its action points
+     */
+    private static int actionPointsOf(Horde horde, int id){
+        int position = horde.getPosition(id);
+        return position < 0 ? Integer.MIN_VALUE : horde.getActionPoints(position);
+    }
+
+    /**
+     * Orders the heroes alive by action points, highest first, keeping their order when equal.
+     *
+     * @param heroes the heroes alive
+     * @return the amount of heroes ordered
+     */
+    private int orderHeroes(List<BaseHero> heroes){
+        int amount = heroes.size();
+        for (int i = 0; i < amount; i++){
+            BaseHero hero = heroes.get(i);
+            int j = i;
+            while (j > 0 && heroOrder[j - 1].getActionPoints() < hero.getActionPoints()){
+                heroOrder[j] = heroOrder[j - 1];
+                j--;
+            }
+            heroOrder[j] = hero;
+        }
+        return amount;
+    }
+}
@@ -0,0 +1,136 @@
+package com.dt180g.project.horde;
+
+import com.dt180g.project.abilities.BaseAbility;
+import com.dt180g.project.characters.ActionPlanner;
+import com.dt180g.project.characters.CharacterStats;
+import com.dt180g.project.characters.enemies.BaseEnemy;
+
+import java.util.List;
+
+/**
+ * The {@code HordeTemplate} class holds everything the enemies of one archetype have in common.
+ * A template is captured from a fully created prototype enemy, with its rolled weapons, so horde enemies
+ * fight with the same stats and abilities as ordinary enemies while only their changing values are
+ * stored per enemy, in the arrays of the {@link Horde}.
+ *
+ * @author Daniel Jönsson
+ * @see Horde
+ * @version 1.0
+ */
+public final class HordeTemplate {
+
+    /**Instance field variables*/
+    private final String name;
+    private final ActionPlanner planner;
+    private final int hitPoints;
+    private final int actionPoints;
+    private final int energyLevel;
+    private final int defenceRate;
+    private final int armorProtection;
+    private final int physicalDamage;
+    private final int magicDamage;
+
+    /**
+     * Constructs a template from a prototype enemy.
+     *
+     * @param name      the name shared by the enemies of the template
+     * @param prototype the enemy to capture stats, gear and abilities from
+     */
+    HordeTemplate(String name, BaseEnemy prototype){
+        CharacterStats stats = prototype.getCharacterStats();
+        List<BaseAbility> offensive = prototype.getAbilities().stream().filter(ability -> !ability.isHeal()).toList();
+        this.name = name;
+        this.planner = new ActionPlanner(offensive);
+        this.hitPoints = stats.getCurrentHitPoints();
+        this.actionPoints = stats.getCurrentActionPoints();
+        this.energyLevel = stats.getCurrentEnergyLevel();
+        this.defenceRate = stats.getDefenceRate();
+        this.armorProtection = prototype.getEquipment().getTotalArmorProtection();
+        this.physicalDamage = stats.getPhysicalPower() + stats.getAttackRate()
+                + prototype.getEquipment().getTotalWeaponDamage();
+        this.magicDamage = stats.getMagicPower() + stats.getAttackRate();
+    }
+
+    /**
+     * Returns the name shared by the enemies of the template.
+     *
+     * @return the name
+     */
+    public String getName(){
+        return name;
+    }
+
+    /**
+     * Returns the planner the enemies of the template plan their turns with, drawing from the abilities
+     * of the prototype. Healing abilities are left out, as they would target the heroes when used by an enemy.
+     * The planner holds no state, so it is shared by all enemies of the template.
+     *
+     * @return the planner
+     */
+    ActionPlanner getPlanner(){
+        return planner;
+    }
+
+    /**
+     * Returns the hit points enemies of the template start with.
+     *
+     * @return the hit points
+     */
+    public int getHitPoints(){
+        return hitPoints;
+    }
+
+    /**
+     * Returns the action points enemies of the template start with.
+     *
+     * @return the action points
+     */
+    public int getActionPoints(){
+        return actionPoints;
+    }
+
+    /**
+     * Returns the energy level enemies of the template start with.
+     *
+     * @return the energy level
+     */
+    public int getEnergyLevel(){
+        return energyLevel;
+    }
+
+    /**
+     * Returns the defence rate enemies of the template start with, deflecting all damage.
+     *
+     * @return the defence rate
+     */
+    public int getDefenceRate(){
+        return defenceRate;
+    }
+
+    /**
+     * Returns the protection of the armor of the template, deflecting physical damage only.
+     *
+     * @return the armor protection
+     */
+    public int getArmorProtection(){
+        return armorProtection;
+    }
+
+    /**
+     * Returns the damage of physical abilities used by enemies of the template.
+     *
+     * @return the physical damage
+     */
+    public int getPhysicalDamage(){
+        return physicalDamage;
+    }
+
+    /**
+     * Returns the damage of magical abilities used by enemies of the template.
+     *
+     * @return the magical damage
+     */
+    public int getMagicDamage(){
+        return magicDamage;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Package for horde battles, where the heroes face enormous amounts of enemies stored as primitive arrays.
+ */
+package com.dt180g.project.horde;
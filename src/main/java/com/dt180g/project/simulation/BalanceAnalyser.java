@@ -0,0 +1,143 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.GameRunner;
+import com.dt180g.project.characters.heroes.BaseHero;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.AppConfig;
+import com.dt180g.project.support.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code BalanceAnalyser} class estimates how well hero parties of different compositions fare,
+ * by running the same amount of full campaigns for every composition against the enemies the game produces.
+ * Workers claim chunks of {@link AppConfig#ANALYSIS_CHUNK} campaigns from a shared counter, so a worker finishing
+ * early takes over more campaigns instead of idling, and aggregate into {@link BalanceReport}s of their own,
+ * which are merged once all workers are done. The counter is the only state shared while campaigns run.
+ *
+ * <p>The seed of a campaign is derived from the seed of the analysis and the index of the campaign, the same for
+ * every composition, so the reports are reproducible regardless of the amount of workers.
+ * @author Daniel Jönsson
+ * @see BalanceReport
+ * @see PartyComposition
+ * @see BatchRunner
+ * @version 1.0
+ */
+public class BalanceAnalyser {
+
+    /**Instance field variables*/
+    private final List<PartyComposition> compositions;
+    private final long amountOfCampaigns;
+    private final int amountOfThreads;
+    private final long seed;
+
+    /**
+     * Constructs a new {@code BalanceAnalyser}.
+     *
+     * @param compositions      the party compositions to analyse
+     * @param amountOfCampaigns the amount of campaigns to run for every composition
+     * @param amountOfThreads   the amount of worker threads to divide the campaigns between
+     * @param seed              the seed which all campaign seeds are derived from
+     * @throws IllegalArgumentException if there is no composition, or if either amount is not positive
+     */
+    public BalanceAnalyser(List<PartyComposition> compositions, long amountOfCampaigns, int amountOfThreads,
+                           long seed){
+        if (compositions.isEmpty()){
+            throw new IllegalArgumentException("At least one party composition must be analysed");
+        }
+        if (amountOfCampaigns < 1){
+            throw new IllegalArgumentException("Amount of campaigns must be positive: " + amountOfCampaigns);
+        }
+        if (amountOfThreads < 1){
+            throw new IllegalArgumentException("Amount of threads must be positive: " + amountOfThreads);
+        }
+        this.compositions = List.copyOf(compositions);
+        this.amountOfCampaigns = amountOfCampaigns;
+        this.amountOfThreads = amountOfThreads;
+        this.seed = seed;
+    }
+
+    /**
+     * Runs a single campaign of a composition and adds its outcome to a report.
+     * Heroes get their ids in the order they join, so the id of a surviving hero is its index in the composition.
+     *
+     * @param report      the report of the composition, owned by the calling worker
+     * @param composition the composition of the party
+     * @param campaign    index of the campaign
+     */
+    private void runCampaign(BalanceReport report, PartyComposition composition, long campaign){
+        GameEngine engine = new GameEngine(RandomSource.deriveSeed(seed, campaign), composition::createParty);
+        CampaignResult result = new GameRunner(engine, false).runCampaign();
+        long survivors = 0;
+        for (BaseHero hero : engine.getHeroes()){
+            survivors |= 1L << hero.getCharacterId();
+        }
+        report.add(result, survivors);
+    }
+
+    /**
+     * Runs chunks of campaigns on the calling thread until all campaigns of the analysis are claimed.
+     *
+     * @param next the index of the next campaign to claim, counting the campaigns of all compositions in turn
+     * @return reports of the campaigns run by the worker, one per composition
+     */
+    private BalanceReport[] runWorker(AtomicLong next){
+        BalanceReport[] reports = new BalanceReport[compositions.size()];
+        for (int i = 0; i < reports.length; i++){
+            reports[i] = new BalanceReport(compositions.get(i), seed);
+        }
+        long total = amountOfCampaigns * compositions.size();
+        long first;
+        while ((first = next.getAndAdd(AppConfig.ANALYSIS_CHUNK)) < total){
+            long last = Math.min(first + AppConfig.ANALYSIS_CHUNK, total);
+            for (long index = first; index < last; index++){
+                int composition = (int) (index / amountOfCampaigns);
+                runCampaign(reports[composition], compositions.get(composition), index % amountOfCampaigns);
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * Runs all campaigns of all compositions and aggregates their outcome.
+     *
+     * @return one report per composition, in the order of the compositions
+     * @throws IllegalStateException if a worker fails or the analysis is interrupted
+     */
+    public List<BalanceReport> run(){
+        List<BalanceReport> reports = new ArrayList<>();
+        compositions.forEach(composition -> reports.add(new BalanceReport(composition, seed)));
+        boolean loggerEnabled = ActivityLogger.INSTANCE.isEnabled();
+        ActivityLogger.INSTANCE.setEnabled(false);
+        ExecutorService executor = Executors.newFixedThreadPool(amountOfThreads);
+        try {
+            AtomicLong next = new AtomicLong();
+            List<Future<BalanceReport[]>> workers = new ArrayList<>();
+            for (int worker = 0; worker < amountOfThreads; worker++){
+                workers.add(executor.submit(() -> runWorker(next)));
+            }
+            for (Future<BalanceReport[]> worker : workers){
+                BalanceReport[] workerReports = worker.get();
+                for (int i = 0; i < workerReports.length; i++){
+                    reports.get(i).merge(workerReports[i]);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Analysis was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Campaign failed: " + e.getCause(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+            ActivityLogger.INSTANCE.setEnabled(loggerEnabled);
+        }
+        return reports;
+    }
+}
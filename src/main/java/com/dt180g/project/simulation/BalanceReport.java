@@ -0,0 +1,259 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.support.AppConfig;
+import com.dt180g.project.support.IOHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code BalanceReport} class aggregates the outcome of the campaigns of one party composition.
+ * Like a {@link BatchReport} it keeps counts only, so a report of a million campaigns is as small as one of ten.
+ * Every worker of a {@link BalanceAnalyser} fills reports of its own, which are merged once all workers are done,
+ * so no report is shared between threads while campaigns run.
+ *
+ * <p>Probabilities are reported with Wilson score intervals, which stay within 0 and 1 and remain reliable
+ * for probabilities close to either bound, unlike the normal approximation.
+ * @author Daniel Jönsson
+ * @see BalanceAnalyser
+ * @see CampaignResult
+ * @version 1.0
+ */
+public class BalanceReport {
+
+    /**Instance field variables*/
+    private final PartyComposition composition;
+    private final long seed;
+    private final long[] campaignsPerLevel = new long[AppConfig.DUNGEON_START_LEVEL + 1];
+    private final long[] clearedPerLevel = new long[AppConfig.DUNGEON_START_LEVEL + 1];
+    private final long[] roundsPerLevel = new long[AppConfig.DUNGEON_START_LEVEL + 1];
+    private final long[] survivalsPerHero;
+    private long campaigns;
+    private long victories;
+
+    /**
+     * Constructs an empty report of a party composition.
+     *
+     * @param composition the composition of the party fighting the campaigns
+     * @param seed        the seed of the analysis, which reproduces the campaigns
+     */
+    public BalanceReport(PartyComposition composition, long seed){
+        this.composition = composition;
+        this.seed = seed;
+        this.survivalsPerHero = new long[composition.size()];
+    }
+
+    /**
+     * Adds the outcome of a single campaign to the report.
+     *
+     * @param result    the campaign outcome
+     * @param survivors mask of the heroes alive when the campaign ended, bit {@code i} set if member {@code i} lives
+     */
+    public void add(CampaignResult result, long survivors){
+        campaigns++;
+        if (result.isVictory()){
+            victories++;
+        }
+        for (int level = 1; level < campaignsPerLevel.length; level++){
+            int rounds = result.getRounds(level);
+            if (rounds > 0){
+                roundsPerLevel[level] += rounds;
+                campaignsPerLevel[level]++;
+                if (result.getLevelsCleared() > AppConfig.DUNGEON_START_LEVEL - level){
+                    clearedPerLevel[level]++;
+                }
+            }
+        }
+        for (long rest = survivors; rest != 0; rest &= rest - 1){
+            survivalsPerHero[Long.numberOfTrailingZeros(rest)]++;
+        }
+    }
+
+    /**
+     * Adds all campaigns of another report of the same composition to this report.
+     *
+     * @param other the report to merge into this one
+     * @throws IllegalArgumentException if the other report is of another composition or analysis
+     */
+    public void merge(BalanceReport other){
+        if (other.composition != composition || other.seed != seed){
+            throw new IllegalArgumentException("Cannot merge reports of different compositions or analyses");
+        }
+        campaigns += other.campaigns;
+        victories += other.victories;
+        for (int level = 1; level < campaignsPerLevel.length; level++){
+            campaignsPerLevel[level] += other.campaignsPerLevel[level];
+            clearedPerLevel[level] += other.clearedPerLevel[level];
+            roundsPerLevel[level] += other.roundsPerLevel[level];
+        }
+        for (int hero = 0; hero < survivalsPerHero.length; hero++){
+            survivalsPerHero[hero] += other.survivalsPerHero[hero];
+        }
+    }
+
+    /**
+     * Returns the Wilson score interval of a probability estimated from a number of trials.
+     *
+     * @param successes the amount of successful trials
+     * @param trials    the amount of trials
+     * @param z         the standard normal quantile of the confidence, e.g. 1.96 for 95%
+     * @return the lower and upper bound of the interval, 0 and 1 if there were no trials
+     */
+    public static double[] wilsonInterval(long successes, long trials, double z){
+        if (trials == 0){
+            return new double[]{0, 1};
+        }
+        double p = (double) successes / trials;
+        double zz = z * z;
+        double denominator = 1 + zz / trials;
+        double center = (p + zz / (2.0 * trials)) / denominator;
+        double halfWidth = z * Math.sqrt(p * (1 - p) / trials + zz / (4.0 * trials * trials)) / denominator;
+        return new double[]{Math.max(0, center - halfWidth), Math.min(1, center + halfWidth)};
+    }
+
+    /**
+     * Returns the composition of the party fighting the campaigns.
+     *
+     * @return the composition
+     */
+    public PartyComposition getComposition(){
+        return composition;
+    }
+
+    /**
+     * Returns the seed of the analysis, which reproduces the campaigns of the report.
+     *
+     * @return the seed
+     */
+    public long getSeed(){
+        return seed;
+    }
+
+    /**
+     * Returns the amount of campaigns in the report.
+     *
+     * @return the amount of campaigns
+     */
+    public long getCampaigns(){
+        return campaigns;
+    }
+
+    /**
+     * Returns the share of campaigns that were won.
+     *
+     * @return win probability between 0 and 1
+     */
+    public double getWinProbability(){
+        return campaigns == 0 ? 0 : (double) victories / campaigns;
+    }
+
+    /**
+     * Returns the confidence interval of the win probability.
+     *
+     * @return the lower and upper bound of the interval
+     */
+    public double[] getWinInterval(){
+        return wilsonInterval(victories, campaigns, AppConfig.ANALYSIS_CONFIDENCE_Z);
+    }
+
+    /**
+     * Returns the amount of campaigns that reached a dungeon level.
+     *
+     * @param dungeonLevel the dungeon level, counting down towards 1
+     * @return the amount of campaigns
+     */
+    public long getCampaignsReaching(int dungeonLevel){
+        return campaignsPerLevel[dungeonLevel];
+    }
+
+    /**
+     * Returns the share of campaigns reaching a dungeon level where all its enemies were defeated.
+     *
+     * @param dungeonLevel the dungeon level, counting down towards 1
+     * @return clear probability between 0 and 1, 0 if no campaign reached the level
+     */
+    public double getClearProbability(int dungeonLevel){
+        long reached = campaignsPerLevel[dungeonLevel];
+        return reached == 0 ? 0 : (double) clearedPerLevel[dungeonLevel] / reached;
+    }
+
+    /**
+     * Returns the confidence interval of the clear probability of a dungeon level.
+     *
+     * @param dungeonLevel the dungeon level, counting down towards 1
+     * @return the lower and upper bound of the interval
+     */
+    public double[] getClearInterval(int dungeonLevel){
+        return wilsonInterval(clearedPerLevel[dungeonLevel], campaignsPerLevel[dungeonLevel],
+                AppConfig.ANALYSIS_CONFIDENCE_Z);
+    }
+
+    /**
+     * Returns the mean amount of rounds played on a dungeon level, among campaigns that reached it.
+     *
+     * @param dungeonLevel the dungeon level, counting down towards 1
+     * @return mean amount of rounds, 0 if no campaign reached the level
+     */
+    public double getMeanRounds(int dungeonLevel){
+        long reached = campaignsPerLevel[dungeonLevel];
+        return reached == 0 ? 0 : (double) roundsPerLevel[dungeonLevel] / reached;
+    }
+
+    /**
+     * Returns the share of campaigns a member of the party was alive at the end of.
+     *
+     * @param member index of the member in the composition
+     * @return survival probability between 0 and 1
+     */
+    public double getSurvivalProbability(int member){
+        return campaigns == 0 ? 0 : (double) survivalsPerHero[member] / campaigns;
+    }
+
+    /**
+     * Returns the confidence interval of the survival probability of a member of the party.
+     *
+     * @param member index of the member in the composition
+     * @return the lower and upper bound of the interval
+     */
+    public double[] getSurvivalInterval(int member){
+        return wilsonInterval(survivalsPerHero[member], campaigns, AppConfig.ANALYSIS_CONFIDENCE_Z);
+    }
+
+    /**
+     * Used internally to format a probability and its interval as percentages.
+     *
+     * @param probability the probability
+     * @param interval    the lower and upper bound of its interval
+     * @return the probability followed by its interval
+     */
+    private static String formatProbability(double probability, double[] interval){
+        return String.format("%.2f%% [%.2f%%, %.2f%%]", probability * 100, interval[0] * 100, interval[1] * 100);
+    }
+
+    /**
+     * Returns a string representation of the report formatted as table.
+     * Uses {@link IOHelper#formatAsTable(List)} to format the information.
+     *
+     * @return the report as table
+     */
+    @Override
+    public String toString(){
+        List<List<String>> rows = new ArrayList<>();
+        rows.add(Arrays.asList("Party", composition.toString()));
+        rows.add(Arrays.asList("Seed", Long.toString(seed)));
+        rows.add(Arrays.asList("Campaigns", Long.toString(campaigns)));
+        rows.add(Arrays.asList("Win probability", formatProbability(getWinProbability(), getWinInterval())));
+        for (int level = campaignsPerLevel.length - 1; level > 0; level--){
+            rows.add(Arrays.asList("Cleared level " + level, String.format("%s, %.2f rounds (%d reached)",
+                    formatProbability(getClearProbability(level), getClearInterval(level)), getMeanRounds(level),
+                    campaignsPerLevel[level])));
+        }
+        for (int member = 0; member < survivalsPerHero.length; member++){
+            rows.add(Arrays.asList("Survived " + composition.getNames().get(member),
+                    formatProbability(getSurvivalProbability(member), getSurvivalInterval(member))));
+        }
+        return String.format("%sBALANCE REPORT%n%s%s", AppConfig.ANSI_BLUE, AppConfig.ANSI_RESET,
+                IOHelper.formatAsTable(rows));
+    }
+}
@@ -0,0 +1,139 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.support.AppConfig;
+import com.dt180g.project.support.IOHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code BatchReport} class aggregates the outcome of several campaigns.
+ * It keeps running totals only, so memory usage does not depend on the amount of campaigns.
+ * @author Daniel Jönsson
+ * @see CampaignResult
+ * @see BatchRunner
+ * @version 1.0
+ */
+public class BatchReport {
+
+    /**Instance field variables*/
+    private final long[] roundsPerLevel = new long[AppConfig.DUNGEON_START_LEVEL + 1];
+    private final long[] campaignsPerLevel = new long[AppConfig.DUNGEON_START_LEVEL + 1];
+    private long campaigns;
+    private long victories;
+    private long survivingHeroes;
+    private long elapsedNanos;
+
+    /**
+     * Adds the outcome of a single campaign to the report.
+     *
+     * @param result the campaign outcome
+     */
+    public void add(CampaignResult result){
+        campaigns++;
+        if (result.isVictory()){
+            victories++;
+        }
+        survivingHeroes += result.getSurvivingHeroes();
+        for (int level = 1; level < roundsPerLevel.length; level++){
+            int rounds = result.getRounds(level);
+            if (rounds > 0){
+                roundsPerLevel[level] += rounds;
+                campaignsPerLevel[level]++;
+            }
+        }
+    }
+
+    /**
+     * Adds all campaigns of another report to this report. Used to merge reports produced by separate workers.
+     *
+     * @param other the report to merge into this one
+     */
+    public void merge(BatchReport other){
+        campaigns += other.campaigns;
+        victories += other.victories;
+        survivingHeroes += other.survivingHeroes;
+        for (int level = 1; level < roundsPerLevel.length; level++){
+            roundsPerLevel[level] += other.roundsPerLevel[level];
+            campaignsPerLevel[level] += other.campaignsPerLevel[level];
+        }
+    }
+
+    /**
+     * Adds the wall-clock time spent producing the campaigns in this report.
+     *
+     * @param nanos elapsed time in nanoseconds
+     */
+    public void addElapsedNanos(long nanos){
+        elapsedNanos += nanos;
+    }
+
+    /**
+     * Returns the amount of campaigns in the report.
+     *
+     * @return the amount of campaigns
+     */
+    public long getCampaigns(){
+        return campaigns;
+    }
+
+    /**
+     * Returns the share of campaigns that were won.
+     *
+     * @return win rate between 0 and 1
+     */
+    public double getWinRate(){
+        return campaigns == 0 ? 0 : (double) victories / campaigns;
+    }
+
+    /**
+     * Returns the mean amount of rounds played on a dungeon level, among campaigns that reached it.
+     *
+     * @param dungeonLevel the dungeon level, counting down towards 1
+     * @return mean amount of rounds, 0 if no campaign reached the level
+     */
+    public double getMeanRounds(int dungeonLevel){
+        long reached = campaignsPerLevel[dungeonLevel];
+        return reached == 0 ? 0 : (double) roundsPerLevel[dungeonLevel] / reached;
+    }
+
+    /**
+     * Returns the mean amount of heroes alive when a campaign ended.
+     *
+     * @return mean amount of surviving heroes
+     */
+    public double getMeanSurvivingHeroes(){
+        return campaigns == 0 ? 0 : (double) survivingHeroes / campaigns;
+    }
+
+    /**
+     * Returns the throughput of the batch.
+     *
+     * @return campaigns per second of wall-clock time
+     */
+    public double getCampaignsPerSecond(){
+        return elapsedNanos == 0 ? 0 : campaigns / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Returns a string representation of the report formatted as table.
+     * Uses {@link IOHelper#formatAsTable(List)} to format the information.
+     *
+     * @return the report as table
+     */
+    @Override
+    public String toString(){
+        List<List<String>> rows = new ArrayList<>();
+        rows.add(Arrays.asList("Campaigns", Long.toString(campaigns)));
+        rows.add(Arrays.asList("Win rate", String.format("%.2f%%", getWinRate() * 100)));
+        rows.add(Arrays.asList("Surviving heroes", String.format("%.2f", getMeanSurvivingHeroes())));
+        for (int level = roundsPerLevel.length - 1; level > 0; level--){
+            rows.add(Arrays.asList("Rounds level " + level, String.format("%.2f (%d reached)",
+                    getMeanRounds(level), campaignsPerLevel[level])));
+        }
+        rows.add(Arrays.asList("Campaigns/s", String.format("%.1f", getCampaignsPerSecond())));
+        return String.format("%sBATCH REPORT%n%s%s", AppConfig.ANSI_BLUE, AppConfig.ANSI_RESET,
+                IOHelper.formatAsTable(rows));
+    }
+}
@@ -0,0 +1,221 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.GameRunner;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.AppConfig;
+import com.dt180g.project.support.JournalSink;
+import com.dt180g.project.support.RandomSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The {@code BatchRunner} class runs a number of full campaigns without user interaction.
+ * Logging, and therefore the sleep delay between log entries, is disabled while the batch runs.
+ * Campaigns are divided between a number of worker threads, each running its own {@link GameEngine}
+ * and aggregating into its own {@link BatchReport}, which are merged once all workers are done.
+ * A seeded batch derives the seed of every campaign from its index, so the aggregated results
+ * are reproducible regardless of the amount of workers.
+ * Combat activity can be journaled instead, through a {@link JournalSink} per worker, recording the seed
+ * of every campaign so that it can be replayed.
+ * Used when the game acts as a combat-balance simulator.
+ * @author Daniel Jönsson
+ * @see GameRunner
+ * @see BatchReport
+ * @version 1.0
+ */
+public class BatchRunner {
+
+    /**Instance field variables*/
+    private final int amountOfCampaigns;
+    private final int amountOfThreads;
+    private final boolean seeded;
+    private final long seed;
+    private Path journalDirectory;
+    private int journalSegmentSize = AppConfig.JOURNAL_SEGMENT_SIZE;
+
+    /**
+     * Constructs a new {@code BatchRunner} using one worker per available processor.
+     *
+     * @param amountOfCampaigns the amount of campaigns to run
+     */
+    public BatchRunner(int amountOfCampaigns){
+        this(amountOfCampaigns, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new {@code BatchRunner}.
+     *
+     * @param amountOfCampaigns the amount of campaigns to run
+     * @param amountOfThreads   the amount of worker threads to divide the campaigns between
+     * @throws IllegalArgumentException if either amount is not positive
+     */
+    public BatchRunner(int amountOfCampaigns, int amountOfThreads){
+        this(amountOfCampaigns, amountOfThreads, false, 0);
+    }
+
+    /**
+     * Constructs a new reproducible {@code BatchRunner}.
+     *
+     * @param amountOfCampaigns the amount of campaigns to run
+     * @param amountOfThreads   the amount of worker threads to divide the campaigns between
+     * @param seed              the seed which all campaign seeds are derived from
+     */
+    public BatchRunner(int amountOfCampaigns, int amountOfThreads, long seed){
+        this(amountOfCampaigns, amountOfThreads, true, seed);
+    }
+
+    /**
+     * Constructor initialising all members.
+     *
+     * @param amountOfCampaigns the amount of campaigns to run
+     * @param amountOfThreads   the amount of worker threads to divide the campaigns between
+     * @param seeded            whether campaigns should be seeded
+     * @param seed              the seed which all campaign seeds are derived from
+     * @throws IllegalArgumentException if either amount is not positive
+     */
+    private BatchRunner(int amountOfCampaigns, int amountOfThreads, boolean seeded, long seed){
+        if (amountOfCampaigns < 1){
+            throw new IllegalArgumentException("Amount of campaigns must be positive: " + amountOfCampaigns);
+        }
+        if (amountOfThreads < 1){
+            throw new IllegalArgumentException("Amount of threads must be positive: " + amountOfThreads);
+        }
+        this.amountOfCampaigns = amountOfCampaigns;
+        this.amountOfThreads = Math.min(amountOfThreads, amountOfCampaigns);
+        this.seeded = seeded;
+        this.seed = seed;
+    }
+
+    /**
+     * Journals the combat activity of the batch to the given directory, in a subdirectory per worker.
+     *
+     * @param journalDirectory the directory to write journals to, or null to disable journaling
+     */
+    public void setJournalDirectory(Path journalDirectory){
+        setJournalDirectory(journalDirectory, AppConfig.JOURNAL_SEGMENT_SIZE);
+    }
+
+    /**
+     * Journals the combat activity of the batch to the given directory, using segments of the given size.
+     *
+     * @param journalDirectory the directory to write journals to, or null to disable journaling
+     * @param segmentSize      the size in bytes of every journal segment
+     */
+    public void setJournalDirectory(Path journalDirectory, int segmentSize){
+        this.journalDirectory = journalDirectory;
+        this.journalSegmentSize = segmentSize;
+    }
+
+    /**
+     * Returns the seed of a specific campaign of the batch, which reproduces the campaign.
+     *
+     * @param campaign index of the campaign
+     * @return the seed derived from the seed of the batch, or a random seed if the batch is not seeded
+     */
+    public long getCampaignSeed(long campaign){
+        return seeded ? RandomSource.deriveSeed(seed, campaign) : ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Runs a range of campaigns on the calling thread, each in a separate game engine.
+     * When journaling, the worker logs to a journal of its own, starting every campaign with its seed.
+     * A failure to write the journal fails the worker, at the latest when its journal is closed.
+     *
+     * @param worker index of the worker
+     * @param from   index of the first campaign (inclusive)
+     * @param to     index of the last campaign (exclusive)
+     * @return report of the aggregated results
+     * @throws UncheckedIOException if the journal could not be written
+     */
+    private BatchReport runCampaigns(int worker, int from, int to){
+        BatchReport report = new BatchReport();
+        ActivityLogger logger = null;
+        try {
+            if (journalDirectory != null){
+                logger = new ActivityLogger(
+                        new JournalSink(journalDirectory.resolve(String.format("worker-%02d", worker)),
+                                journalSegmentSize));
+            }
+            for (int campaign = from; campaign < to; campaign++){
+                long campaignSeed = getCampaignSeed(campaign);
+                GameEngine engine = new GameEngine(campaignSeed);
+                if (logger != null){
+                    engine.setLogger(logger);
+                    logger.logCampaign(campaign, campaignSeed);
+                }
+                report.add(new GameRunner(engine, false).runCampaign());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            closeJournal(logger);
+        }
+        return report;
+    }
+
+    /**
+     * Closes the logger of a worker, writing its remaining entries to the journal.
+     * Rethrows any failure to write the journal, which the logger keeps until it is closed.
+     *
+     * @param logger the logger of the worker, or null if not journaling
+     * @throws UncheckedIOException if the journal could not be written or closed
+     */
+    private static void closeJournal(ActivityLogger logger){
+        if (logger == null){ return; }
+        try {
+            logger.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Runs all campaigns and aggregates their outcome.
+     *
+     * @return report of the aggregated results
+     * @throws IllegalStateException if a worker fails or the batch is interrupted
+     */
+    public BatchReport run(){
+        BatchReport report = new BatchReport();
+        boolean loggerEnabled = ActivityLogger.INSTANCE.isEnabled();
+        ActivityLogger.INSTANCE.setEnabled(false);
+        ExecutorService executor = Executors.newFixedThreadPool(amountOfThreads);
+        long start = System.nanoTime();
+        try {
+            List<Future<BatchReport>> workers = new ArrayList<>();
+            int from = 0;
+            for (int worker = 0; worker < amountOfThreads; worker++){
+                // Spread the remainder over the first workers
+                int to = from + amountOfCampaigns / amountOfThreads
+                        + (worker < amountOfCampaigns % amountOfThreads ? 1 : 0);
+                int first = from;
+                int index = worker;
+                workers.add(executor.submit(() -> runCampaigns(index, first, to)));
+                from = to;
+            }
+            for (Future<BatchReport> worker : workers){
+                report.merge(worker.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Campaign failed: " + e.getCause(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+            ActivityLogger.INSTANCE.setEnabled(loggerEnabled);
+        }
+        report.addElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+}
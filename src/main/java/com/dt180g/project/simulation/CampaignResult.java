@@ -0,0 +1,66 @@
+package com.dt180g.project.simulation;
+
+/**
+ * Container class, used for passing along the outcome of a single campaign.
+ * @author Daniel Jönsson
+ */
+public final class CampaignResult {
+    private final boolean victory;
+    private final int levelsCleared;
+    private final int[] roundsPerLevel;
+    private final int survivingHeroes;
+
+    /**
+     * Support class to contain the outcome of a campaign run by the game runner.
+     * @param victory whether all dungeon levels were completed.
+     * @param levelsCleared amount of dungeon levels where all enemies were defeated.
+     * @param roundsPerLevel amount of rounds played, indexed by dungeon level.
+     * @param survivingHeroes amount of heroes alive when the campaign ended.
+     */
+    public CampaignResult(final boolean victory, final int levelsCleared, final int[] roundsPerLevel,
+                          final int survivingHeroes) {
+        this.victory = victory;
+        this.levelsCleared = levelsCleared;
+        this.roundsPerLevel = roundsPerLevel;
+        this.survivingHeroes = survivingHeroes;
+    }
+
+    /**
+     * Whether the campaign was won.
+     * @return true if all dungeon levels were completed, false otherwise.
+     */
+    public boolean isVictory() { return victory; }
+
+    /**
+     * Accessor for amount of cleared levels.
+     * @return the amount of dungeon levels where all enemies were defeated.
+     */
+    public int getLevelsCleared() { return levelsCleared; }
+
+    /**
+     * Accessor for rounds played on a specific level.
+     * @param dungeonLevel the dungeon level, counting down towards 1.
+     * @return the amount of rounds played, 0 if the level was never reached.
+     */
+    public int getRounds(final int dungeonLevel) { return roundsPerLevel[dungeonLevel]; }
+
+    /**
+     * Accessor for amount of surviving heroes.
+     * @return the amount of heroes alive when the campaign ended.
+     */
+    public int getSurvivingHeroes() { return survivingHeroes; }
+
+    /**
+     * Presents the outcome of the campaign, with rounds played from the first dungeon level to the last.
+     * @return outcome of the campaign as text.
+     */
+    @Override
+    public String toString() {
+        StringBuilder rounds = new StringBuilder();
+        for (int level = roundsPerLevel.length - 1; level > 0; level--) {
+            rounds.append(level == roundsPerLevel.length - 1 ? "" : ", ").append(roundsPerLevel[level]);
+        }
+        return String.format("%s | %d LEVELS CLEARED | %d HEROES SURVIVING | ROUNDS PER LEVEL [%s]",
+                victory ? "VICTORY" : "DEFEAT", levelsCleared, survivingHeroes, rounds);
+    }
+}
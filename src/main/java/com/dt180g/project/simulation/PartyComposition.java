@@ -0,0 +1,177 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.characters.heroes.BaseHero;
+import com.dt180g.project.characters.heroes.HeroArchetype;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@code PartyComposition} class describes a party of heroes by the archetype and name of every member,
+ * so that a fresh party can be created for every campaign of a balance analysis.
+ * A composition is written as members separated by comma, each member being an archetype name optionally
+ * followed by {@code :name} and {@code *count}, e.g. {@code Warrior:Leila,Ranger,Cleric:Kevin*2}.
+ * Members without a name are named after their archetype, and members counted several times are numbered.
+ * @author Daniel Jönsson
+ * @see BalanceAnalyser
+ * @see HeroArchetype
+ * @version 1.0
+ */
+public final class PartyComposition {
+    /** Most heroes of a party, one bit each in the survivor mask of a campaign. */
+    public static final int MAX_SIZE = Long.SIZE;
+
+    /**Instance field variables*/
+    private final List<HeroArchetype> archetypes;
+    private final List<String> names;
+
+    /**
+     * Constructs a composition from the archetype and name of every member, in the order the members join.
+     *
+     * @param archetypes the archetype of every member
+     * @param names      the name of every member
+     * @throws IllegalArgumentException if the lists differ in size, or if the party is empty or too large
+     */
+    public PartyComposition(List<HeroArchetype> archetypes, List<String> names){
+        if (archetypes.size() != names.size()){
+            throw new IllegalArgumentException("Every member needs an archetype and a name");
+        }
+        if (archetypes.isEmpty() || archetypes.size() > MAX_SIZE){
+            throw new IllegalArgumentException("A party needs between 1 and " + MAX_SIZE + " heroes, got "
+                    + archetypes.size());
+        }
+        this.archetypes = List.copyOf(archetypes);
+        this.names = List.copyOf(names);
+    }
+
+    /**
+     * Parses a composition, e.g. {@code Warrior:Leila,Ranger,Cleric:Kevin*2}.
+     *
+     * @param composition the composition as text
+     * @return the composition
+     * @throws IllegalArgumentException if an archetype is unknown, a count is not positive or the size is invalid
+     */
+    public static PartyComposition parse(String composition){
+        List<HeroArchetype> archetypes = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (String member : composition.split(",")){
+            int countPos = member.indexOf('*');
+            int count = countPos < 0 ? 1 : Integer.parseInt(member.substring(countPos + 1).trim());
+            if (count < 1){
+                throw new IllegalArgumentException("Count of party member must be positive: " + member);
+            }
+            String described = countPos < 0 ? member : member.substring(0, countPos);
+            int namePos = described.indexOf(':');
+            HeroArchetype archetype = HeroArchetype.fromName(
+                    (namePos < 0 ? described : described.substring(0, namePos)).trim());
+            String name = namePos < 0 ? archetype.getArchetypeName() : described.substring(namePos + 1).trim();
+            for (int i = 1; i <= count; i++){
+                archetypes.add(archetype);
+                names.add(count == 1 ? name : name + " " + i);
+            }
+        }
+        return new PartyComposition(archetypes, names);
+    }
+
+    /**
+     * Creates every distinct composition of a party size, where the order of members does not matter.
+     * Members are named after their archetype, numbered when an archetype occurs several times.
+     *
+     * @param size the amount of heroes of each party
+     * @return the compositions, ordered by archetype counts
+     * @throws IllegalArgumentException if the size is not positive or too large
+     */
+    public static List<PartyComposition> allOfSize(int size){
+        if (size < 1 || size > MAX_SIZE){
+            throw new IllegalArgumentException("A party needs between 1 and " + MAX_SIZE + " heroes, got " + size);
+        }
+        List<PartyComposition> output = new ArrayList<>();
+        addCompositions(output, new int[HeroArchetype.values().length], 0, size);
+        return output;
+    }
+
+    /**
+     * Used internally to enumerate the counts of every archetype adding up to a party size.
+     *
+     * @param output    the list receiving the compositions
+     * @param counts    the counts chosen so far, by archetype
+     * @param archetype the archetype to choose a count for
+     * @param remaining the amount of heroes still to place
+     */
+    private static void addCompositions(List<PartyComposition> output, int[] counts, int archetype, int remaining){
+        HeroArchetype[] all = HeroArchetype.values();
+        if (archetype == all.length - 1){
+            counts[archetype] = remaining;
+            StringBuilder composition = new StringBuilder();
+            for (int i = 0; i < all.length; i++){
+                if (counts[i] > 0){
+                    composition.append(composition.length() == 0 ? "" : ",")
+                            .append(all[i].getArchetypeName()).append('*').append(counts[i]);
+                }
+            }
+            output.add(parse(composition.toString()));
+            return;
+        }
+        for (int count = remaining; count >= 0; count--){
+            counts[archetype] = count;
+            addCompositions(output, counts, archetype + 1, remaining - count);
+        }
+    }
+
+    /**
+     * Creates a fresh party, with gear rolled from the current {@link com.dt180g.project.support.Randomizer} source.
+     *
+     * @return the heroes, in the order of the members
+     */
+    public List<BaseHero> createParty(){
+        List<BaseHero> party = new ArrayList<>(archetypes.size());
+        for (int i = 0; i < archetypes.size(); i++){
+            party.add(archetypes.get(i).create(names.get(i)));
+        }
+        return party;
+    }
+
+    /**
+     * Returns the amount of heroes of the party.
+     *
+     * @return the party size
+     */
+    public int size(){
+        return archetypes.size();
+    }
+
+    /**
+     * Returns the archetype of a member.
+     *
+     * @param member index of the member, which is also the id of the hero in its battle
+     * @return the archetype
+     */
+    public HeroArchetype getArchetype(int member){
+        return archetypes.get(member);
+    }
+
+    /**
+     * Returns the name of every member.
+     *
+     * @return the names, which must not be modified
+     */
+    public List<String> getNames(){
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * String representation of the composition, which can be parsed back.
+     *
+     * @return the composition as text
+     */
+    @Override
+    public String toString(){
+        StringBuilder output = new StringBuilder();
+        for (int i = 0; i < archetypes.size(); i++){
+            output.append(i == 0 ? "" : ",").append(archetypes.get(i).getArchetypeName()).append(':')
+                    .append(names.get(i));
+        }
+        return output.toString();
+    }
+}
@@ -0,0 +1,227 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.GameRunner;
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.JournalReader;
+import com.dt180g.project.support.LogEvent;
+import com.dt180g.project.support.LogSink;
+import com.dt180g.project.support.NullSink;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The {@code ReplayRunner} class reruns a past campaign exactly, from the seed it was played with.
+ * All randomness of a campaign is drawn from its seed, so a replay takes the same actions as the original,
+ * without console output and without any delay. A replay can stop at a given round of a dungeon level
+ * to present the state of every character, or be verified against the journal the campaign was written to.
+ * Used to investigate anomalies found by the {@link BatchRunner}, which journals the seed of every campaign.
+ * @author Daniel Jönsson
+ * @see BatchRunner
+ * @see JournalReader
+ * @version 1.0
+ */
+public class ReplayRunner {
+
+    /**Instance field variables*/
+    private final long seed;
+
+    /**
+     * Constructs a new {@code ReplayRunner}.
+     *
+     * @param seed the seed of the campaign to replay
+     */
+    public ReplayRunner(long seed){
+        this.seed = seed;
+    }
+
+    /**
+     * Constructs the replay of a campaign journaled by a batch, using the seed stated by the journal.
+     *
+     * @param journal  the journal directory of a batch, or of one of its workers
+     * @param campaign index of the campaign within the batch
+     * @return the replay of the campaign
+     * @throws IOException if the journal could not be read
+     * @throws IllegalArgumentException if the campaign is not in the journal
+     */
+    public static ReplayRunner fromJournal(Path journal, long campaign) throws IOException {
+        return new ReplayRunner(readCampaign(journal, campaign).seed);
+    }
+
+    /**
+     * Returns the seed of the campaign replayed.
+     *
+     * @return the seed
+     */
+    public long getSeed(){
+        return seed;
+    }
+
+    /**
+     * Creates a non-interactive runner for a battle, with a disabled logger of its own
+     * so that nothing is logged and no other battle is affected.
+     *
+     * @param engine the engine of the battle
+     * @return the runner, not yet started
+     */
+    private static GameRunner createRunner(GameEngine engine){
+        ActivityLogger logger = new ActivityLogger(NullSink.INSTANCE);
+        logger.setEnabled(false);
+        engine.setLogger(logger);
+        return new GameRunner(engine, false);
+    }
+
+    /**
+     * Replays the whole campaign.
+     *
+     * @return summary of the campaign outcome
+     */
+    public CampaignResult replay(){
+        return createRunner(new GameEngine(seed)).runCampaign();
+    }
+
+    /**
+     * Replays the campaign up to the given round of a dungeon level and presents the state of every
+     * character left at that point. The campaign is played to its end if it never reaches the round.
+     *
+     * @param level the dungeon level to stop at
+     * @param round the round of the level to stop after, or zero to stop once the level is entered
+     * @return the state of the remaining heroes and enemies
+     * @throws IllegalArgumentException if the level does not exist or the round is negative
+     */
+    public String replayTo(int level, int round){
+        GameEngine engine = new GameEngine(seed);
+        GameRunner runner = createRunner(engine);
+        runner.stopAt(level, round);
+        runner.runCampaign();
+
+        StringBuilder state = new StringBuilder(String.format("SEED %d | DUNGEON LEVEL %d | ROUND %d%s",
+                seed, runner.getCurrentDungeonLevel(), runner.getCurrentRound(),
+                runner.isStopped() ? "" : " | CAMPAIGN ENDED BEFORE THE STOP POINT"));
+        for (BaseCharacter character : engine.getAllCharacters()){
+            state.append(System.lineSeparator()).append(character);
+        }
+        return state.toString();
+    }
+
+    /**
+     * Replays the campaign and compares its activity to what was journaled for it.
+     *
+     * @param journal  the journal directory of a batch, or of one of its workers
+     * @param campaign index of the campaign within the batch
+     * @return index of the first journaled entry the replay differs from, or -1 if the replay is identical
+     * @throws IOException if the journal could not be read
+     * @throws IllegalArgumentException if the campaign is not in the journal
+     */
+    public long verify(Path journal, long campaign) throws IOException {
+        List<String> journaled = readCampaign(journal, campaign).entries;
+        CampaignSink replayed = new CampaignSink(-1);
+        ActivityLogger logger = new ActivityLogger(replayed);
+        GameEngine engine = new GameEngine(seed);
+        engine.setLogger(logger);
+        logger.logCampaign(campaign, seed);
+        new GameRunner(engine, false).runCampaign();
+        logger.close();
+
+        int shared = Math.min(journaled.size(), replayed.entries.size());
+        for (int i = 0; i < shared; i++){
+            if (!journaled.get(i).equals(replayed.entries.get(i))){
+                return i;
+            }
+        }
+        return (journaled.size() == replayed.entries.size()) ? -1 : shared;
+    }
+
+    /**
+     * Reads the journaled entries of a campaign.
+     *
+     * @param journal  the journal directory of a batch, or of one of its workers
+     * @param campaign index of the campaign within the batch
+     * @return sink holding the seed and entries of the campaign
+     * @throws IOException if the journal could not be read
+     * @throws IllegalArgumentException if the campaign is not in the journal
+     */
+    private static CampaignSink readCampaign(Path journal, long campaign) throws IOException {
+        CampaignSink sink = new CampaignSink(campaign);
+        for (Path directory : getJournals(journal)){
+            JournalReader.read(directory, sink);
+            if (sink.found){
+                return sink;
+            }
+        }
+        throw new IllegalArgumentException("Campaign " + campaign + " is not journaled in " + journal);
+    }
+
+    /**
+     * Returns the journals within a directory: the directory itself if it holds segments,
+     * otherwise its subdirectories holding segments, as written by every worker of a batch.
+     *
+     * @param journal the journal directory
+     * @return the journal directories
+     * @throws IOException if the directory could not be read
+     */
+    private static List<Path> getJournals(Path journal) throws IOException {
+        if (!JournalReader.getSegments(journal).isEmpty()){
+            return List.of(journal);
+        }
+        List<Path> journals = new ArrayList<>();
+        try (Stream<Path> children = Files.list(journal)){
+            for (Path child : children.sorted().toList()){
+                if (Files.isDirectory(child) && !JournalReader.getSegments(child).isEmpty()){
+                    journals.add(child);
+                }
+            }
+        }
+        return journals;
+    }
+
+    /**
+     * Sink collecting the structured entries of a single campaign, identified by its campaign record.
+     */
+    private static final class CampaignSink implements LogSink {
+        /**Instance field variables*/
+        private final long campaign;
+        private final List<String> entries = new ArrayList<>();
+        private boolean collecting;
+        private boolean found;
+        private long seed;
+
+        /**
+         * Constructs a sink for the given campaign.
+         *
+         * @param campaign index of the campaign, or -1 to collect every structured entry
+         */
+        private CampaignSink(long campaign){
+            this.campaign = campaign;
+            this.collecting = campaign < 0;
+        }
+
+        /**{@inheritDoc}*/
+        @Override
+        public void write(LogEvent event){
+            if (!event.isStructured()){ return; }
+            if (event.getType() == LogEvent.Type.CAMPAIGN && campaign >= 0){
+                collecting = event.getCampaign() == campaign;
+                if (collecting){
+                    found = true;
+                    seed = event.getSeed();
+                }
+            }
+            if (collecting){
+                entries.add(event.toPlainText());
+            }
+        }
+
+        /**{@inheritDoc}*/
+        @Override
+        public void flush(){
+            // entries are kept in memory
+        }
+    }
+}
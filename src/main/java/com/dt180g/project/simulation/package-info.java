@@ -0,0 +1,4 @@
+/**
+ * Package for headless game simulations.
+ */
+package com.dt180g.project.simulation;
@@ -2,6 +2,9 @@ package com.dt180g.project.stats;
 
 import com.dt180g.project.support.AppConfig;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * The {@code BaseStat} class is an abstract class representing a base stat in the game.
  * It provides common functionality and attributes for different types of stats.
@@ -11,6 +14,9 @@ import com.dt180g.project.support.AppConfig;
  * <p>A stat represents a numerical value that defines a specific aspect or characteristic of a character.
  * It can include Strength, action points, hit points, energy level, and more.
  *
+ * <p>Stats derived from other stats register themselves as dependents of their sources,
+ * and are invalidated whenever a modifier of a source changes.
+ *
  * @author Daniel Jönsson
  * @see Attribute
  * @see CombatStat
@@ -23,6 +29,7 @@ public abstract class BaseStat{
     private final int baseValue;
     private int staticModifier;
     private int dynamicModifier;
+    private List<BaseStat> dependents;
 
     /**
      * Constructs a {@code BaseStat} object with the specified stat name and base value.
@@ -91,6 +98,7 @@ public abstract class BaseStat{
      */
     public void adjustStaticModifier(int staticAdjustment){
         staticModifier += staticAdjustment;
+        invalidateDependents();
     }
 
     /**
@@ -100,6 +108,7 @@ public abstract class BaseStat{
      */
     public void adjustDynamicModifier(int dynamicAdjustment){
         dynamicModifier += dynamicAdjustment;
+        invalidateDependents();
     }
 
     /**
@@ -107,6 +116,40 @@ public abstract class BaseStat{
      */
     public void resetDynamicModifier(){
         dynamicModifier = 0;
+        invalidateDependents();
+    }
+
+    /**
+     * Registers a stat whose value is derived from this stat.
+     * The dependent is invalidated every time a modifier of this stat changes.
+     *
+     * @param dependent the stat relying on this stat
+     */
+    protected void addDependent(BaseStat dependent){
+        if (dependents == null){
+            dependents = new ArrayList<>();
+        }
+        dependents.add(dependent);
+    }
+
+    /**
+     * Called when a stat this stat relies on has changed.
+     * Stats caching derived values override this to discard the cached value,
+     * the change is then propagated to stats relying on this stat.
+     */
+    protected void invalidate(){
+        invalidateDependents();
+    }
+
+    /**
+     * Invalidates all stats relying on this stat.
+     */
+    private void invalidateDependents(){
+        if (dependents != null){
+            for (BaseStat dependent : dependents){
+                dependent.invalidate();
+            }
+        }
     }
 
     /**
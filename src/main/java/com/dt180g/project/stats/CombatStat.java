@@ -11,6 +11,8 @@ import com.dt180g.project.support.AppConfig;
  * <p>Combat stats are numerical values that affect a character's combat performance,
  * such as physical power, magic power, action points, and healing power.
  *
+ * <p>The base value is cached, and recalculated only after the attribute or trait it relies on has changed.
+ *
  * @author Daniel Jönsson
  * @see BaseStat
  * @version 1.0
@@ -20,7 +22,8 @@ public class CombatStat extends BaseStat{
     /**Instance field variables*/
     private final BaseStat attributeReliance;
     private final BaseStat traitReliance;
-
+    private int cachedBaseValue;
+    private boolean dirty;
 
     /**
      * Constructs a {@code CombatStat} object with the specified stat name,
@@ -34,19 +37,48 @@ public class CombatStat extends BaseStat{
         super(statName, 0);
         this.attributeReliance = attributeReliance;
         this.traitReliance = traitReliance;
+        this.dirty = true;
+        attributeReliance.addDependent(this);
+        traitReliance.addDependent(this);
     }
 
     /**
      * Returns the new base value of the combat stat.
      * The base value is calculated based on the modified values of the attribute and trait stats
      * that the combat stat relies on, multiplied by a combat stat multiplier from {@link AppConfig}.
+     * The value is only recalculated if one of those stats has changed since the last call.
      *
      * @return the base value of the combat stat
      */
     @Override
     public int getBaseValue(){
-        double attributevalue = attributeReliance.getModifiedValue() * AppConfig.COMBAT_STAT_MULTIPLIER;
-        double traitValue = traitReliance.getModifiedValue() * AppConfig.COMBAT_STAT_MULTIPLIER;
-        return (int) Math.round(attributevalue + traitValue);
+        if (dirty){
+            cachedBaseValue = calculateBaseValue(attributeReliance.getModifiedValue(), traitReliance.getModifiedValue());
+            dirty = false;
+        }
+        return cachedBaseValue;
+    }
+
+    /**
+     * Discards the cached base value, since the attribute or trait it relies on has changed.
+     */
+    @Override
+    protected void invalidate(){
+        dirty = true;
+        super.invalidate();
+    }
+
+    /**
+     * Calculates the base value of a combat stat from the modified values of the stats it relies on.
+     * Shared with stat storage that does not keep a {@code CombatStat} object per stat.
+     *
+     * @param attributeValue the modified value of the attribute reliance
+     * @param traitValue     the modified value of the trait reliance
+     * @return the base value of the combat stat
+     */
+    public static int calculateBaseValue(int attributeValue, int traitValue){
+        double attributevalue = attributeValue * AppConfig.COMBAT_STAT_MULTIPLIER;
+        double traitvalue = traitValue * AppConfig.COMBAT_STAT_MULTIPLIER;
+        return (int) Math.round(attributevalue + traitvalue);
     }
 }
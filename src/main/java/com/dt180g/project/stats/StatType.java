@@ -0,0 +1,132 @@
+package com.dt180g.project.stats;
+
+import com.dt180g.project.support.AppConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code StatType} enum identifies every stat a character has.
+ * Its ordinal is used as index into primitive stat storage, avoiding lookups by display name.
+ * Combat stats state the attribute they rely on; all of them also rely on {@link #ATTACK_RATE}.
+ *
+ * @author Daniel Jönsson
+ * @see com.dt180g.project.characters.CharacterStats
+ * @version 1.0
+ */
+public enum StatType {
+    /** Strength attribute. */
+    STRENGTH(AppConfig.ATTRIBUTE_STRENGTH, null),
+    /** Dexterity attribute. */
+    DEXTERITY(AppConfig.ATTRIBUTE_DEXTERITY, null),
+    /** Intelligence attribute. */
+    INTELLIGENCE(AppConfig.ATTRIBUTE_INTELLIGENCE, null),
+    /** Willpower attribute. */
+    WILLPOWER(AppConfig.ATTRIBUTE_WILLPOWER, null),
+    /** Vitality trait, representing hit points. */
+    VITALITY(AppConfig.TRAIT_VITALITY, null),
+    /** Energy trait. */
+    ENERGY(AppConfig.TRAIT_ENERGY, null),
+    /** Attack rate trait. */
+    ATTACK_RATE(AppConfig.TRAIT_ATTACK_RATE, null),
+    /** Defense rate trait. */
+    DEFENSE_RATE(AppConfig.TRAIT_DEFENSE_RATE, null),
+    /** Physical power combat stat. */
+    PHYSICAL_POWER(AppConfig.COMBAT_STAT_PHYSICAL_POWER, STRENGTH),
+    /** Action points combat stat. */
+    ACTION_POINTS(AppConfig.COMBAT_STAT_ACTION_POINTS, DEXTERITY),
+    /** Magic power combat stat. */
+    MAGIC_POWER(AppConfig.COMBAT_STAT_MAGIC_POWER, INTELLIGENCE),
+    /** Healing power combat stat. */
+    HEALING_POWER(AppConfig.COMBAT_STAT_HEALING_POWER, WILLPOWER);
+
+    /** Amount of stat types, used for sizing stat storage. */
+    public static final int COUNT = values().length;
+    private static final Map<String, StatType> BY_NAME = new HashMap<>();
+
+    static {
+        for (StatType type : values()) {
+            BY_NAME.put(type.statName, type);
+            if (type.isCombatStat()) {
+                type.attributeReliance.dependentMask |= type.getMask();
+                ATTACK_RATE.dependentMask |= type.getMask();
+            }
+        }
+    }
+
+    /**Instance field variables*/
+    private final String statName;
+    private final StatType attributeReliance;
+    private int dependentMask;
+
+    /**
+     * Constructs a stat type.
+     *
+     * @param statName          the display name of the stat
+     * @param attributeReliance the attribute a combat stat relies on, null for other stats
+     */
+    StatType(String statName, StatType attributeReliance) {
+        this.statName = statName;
+        this.attributeReliance = attributeReliance;
+    }
+
+    /**
+     * Returns the stat type with the given display name.
+     *
+     * @param statName the display name of the stat
+     * @return the stat type
+     * @throws IllegalArgumentException if there is no stat with the given name
+     */
+    public static StatType fromName(String statName) {
+        StatType type = BY_NAME.get(statName);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown stat: " + statName);
+        }
+        return type;
+    }
+
+    /**
+     * Returns the display name of the stat.
+     *
+     * @return the name of the stat
+     */
+    public String getStatName() {
+        return statName;
+    }
+
+    /**
+     * Returns the attribute a combat stat relies on.
+     *
+     * @return the attribute reliance, null if the stat is not a combat stat
+     */
+    public StatType getAttributeReliance() {
+        return attributeReliance;
+    }
+
+    /**
+     * Checks if the stat is a combat stat, deriving its base value from other stats.
+     *
+     * @return true if combat stat, false otherwise
+     */
+    public boolean isCombatStat() {
+        return attributeReliance != null;
+    }
+
+    /**
+     * Returns a bit mask with a single bit set, identifying this stat in masks of stat types.
+     *
+     * @return the bit of this stat
+     */
+    public int getMask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Returns a bit mask of the combat stats deriving their base value from this stat.
+     *
+     * @return the mask of dependent stats, 0 if no stat relies on this stat
+     */
+    public int getDependentMask() {
+        return dependentMask;
+    }
+}
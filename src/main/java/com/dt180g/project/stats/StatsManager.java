@@ -11,6 +11,9 @@ import java.util.List;
  * The {@code StatsManager} class is responsible for managing the stats in the game.
  * It provides methods to retrieve random attribute names, trait names, and combat stat names.
  *
+ * <p>Random names are drawn from the source bound to the calling thread through {@link Randomizer},
+ * which makes them reproducible within a seeded battle.
+ *
  * <p>The {@code StatsManager} follows the singleton design pattern to ensure only one instance
  * of the class exists throughout the game.
  */
@@ -1,46 +1,177 @@
 package com.dt180g.project.support;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
-import java.util.logging.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * The {@code ActivityLogger} class is responsible for logging activity information during the game.
  * It provides methods to log various types of information such as round information, turn information,
  * attack information, damage information, death information, and healing information.
- * The logger uses a simple console handler for logging and can be configured to introduce a sleep delay
- * between log entries for better readability.
+ *
+ * <p>Logging never blocks the game on output. Entries are handed over through a lock-free
+ * {@link LogRingBuffer} to a background thread, which writes them in batches to the configured
+ * {@link LogSink} and applies the optional sleep delay between entries for better readability.
+ * The game only waits when the buffer is full, or when it calls {@link #flush()} before printing
+ * to the console itself. Entries must be logged from a single thread at a time, the thread running the game,
+ * so every {@code GameEngine} running in parallel needs a logger of its own.
  *
  * @author Daniel Jönsson
+ * @see LogSink
  * @version 1.0
  */
 public class ActivityLogger {
     /**Instance field variables*/
     public static final ActivityLogger INSTANCE = new ActivityLogger();
-    private final Logger logger;
+    private static final long IDLE_NANOS = 100_000L;  // pause while waiting on the other side of the buffer
+    private static final LongAdder PENDING = new LongAdder();  // entries pending in all loggers
+    private final LogRingBuffer buffer = new LogRingBuffer(AppConfig.LOG_BUFFER_CAPACITY);
+    private volatile LogSink sink;
+    private volatile boolean enabled = true;
+    private volatile boolean running = true;
+    private volatile RuntimeException failure;  // first failure of the sink, rethrown to the game
+    private Thread consumer;
 
     /**
-     * Constructs a new {@code ActivityLogger} object.
-     * This is a singleton class and should be accessed through the {@code INSTANCE} field varaible.
-     * The logger is configured with a console handler that outputs log messages to the console.
-     * A custom log formatter is used to format log records.
+     * Constructs the default {@code ActivityLogger} object, accessed through the {@code INSTANCE} field varaible.
+     * The logger initially writes to the console through a {@link ConsoleSink}.
      */
     private ActivityLogger(){
-        logger = Logger.getLogger("ActivityLogger");
-        logger.setUseParentHandlers(false);
-
-        ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(Level.ALL);
-        consoleHandler.setFormatter(new SimpleFormatter() {
-            @Override
-            public synchronized String format(LogRecord record) {
-                return record.getMessage() + "\n";
+        this(new ConsoleSink());
+    }
+
+    /**
+     * Constructs a separate logger writing to the given sink, used by battles that should not log to the console.
+     *
+     * @param sink the sink to write entries to
+     */
+    public ActivityLogger(LogSink sink){
+        this.sink = sink;
+    }
+
+    /**
+     * Used to enable or disable all logging. A disabled logger neither outputs anything nor applies
+     * the sleep delay, which is used for headless simulations.
+     *
+     * @param enabled whether log messages should be output
+     */
+    public void setEnabled(boolean enabled){
+        this.enabled = enabled;
+    }
+
+    /**
+     * Checks if the logger is enabled.
+     *
+     * @return true if log messages are output, false otherwise
+     */
+    public boolean isEnabled(){
+        return enabled;
+    }
+
+    /**
+     * Replaces the sink entries are written to. Entries logged before the call are written to the previous sink.
+     * A failure of the previous sink is rethrown, but the new sink is used either way.
+     *
+     * @param sink the new sink
+     * @return the previous sink, which is left open
+     * @throws UncheckedIOException if writing to the previous sink failed with an I/O error
+     * @throws IllegalStateException if writing to the previous sink failed otherwise
+     */
+    public LogSink setSink(LogSink sink){
+        LogSink previous = this.sink;
+        try {
+            flush();
+        } finally {
+            this.sink = sink;
+            failure = null;
+        }
+        return previous;
+    }
+
+    /**
+     * Returns the sink entries are written to.
+     *
+     * @return the current sink
+     */
+    public LogSink getSink(){
+        return sink;
+    }
+
+    /**
+     * Returns the amount of entries logged but not yet written to their sinks, summed over all loggers,
+     * e.g. to monitor the loggers of parallel simulations.
+     *
+     * @return the amount of pending entries
+     */
+    public static long getTotalQueueDepth(){
+        return PENDING.sum();
+    }
+
+    /**
+     * Waits until every entry logged so far has been written and flushed to the sink.
+     * Used before printing to the console directly, so that output appears in order.
+     *
+     * @throws UncheckedIOException if writing to the sink failed with an I/O error
+     * @throws IllegalStateException if writing to the sink failed otherwise
+     */
+    public void flush(){
+        while (buffer.pending() > 0){
+            LockSupport.parkNanos(IDLE_NANOS);
+        }
+        checkFailure();
+    }
+
+    /**
+     * Rethrows a failure of the sink to the game, which would otherwise keep logging to a sink
+     * that no longer works.
+     *
+     * @throws UncheckedIOException if writing to the sink failed with an I/O error
+     * @throws IllegalStateException if writing to the sink failed otherwise
+     */
+    private void checkFailure(){
+        RuntimeException cause = failure;
+        if (cause instanceof UncheckedIOException ioFailure){
+            throw new UncheckedIOException("Writing to the log sink failed: " + ioFailure.getCause(),
+                    ioFailure.getCause());
+        }
+        if (cause != null){
+            throw new IllegalStateException("Writing to the log sink failed: " + cause, cause);
+        }
+    }
+
+    /**
+     * Writes all remaining entries, stops the consumer thread and closes the sink if it is {@link Closeable}.
+     * The logger must not be used afterwards. The sink is closed even if writing to it failed.
+     *
+     * @throws IOException if the sink could not be closed
+     * @throws UncheckedIOException if writing to the sink failed with an I/O error
+     * @throws IllegalStateException if writing to the sink failed otherwise
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            running = false;
+            if (consumer != null){
+                LockSupport.unpark(consumer);
+                try {
+                    consumer.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
             }
-        });
-        logger.addHandler(consoleHandler);
+            if (sink instanceof Closeable closeable){
+                closeable.close();
+            }
+        }
     }
 
     /**
      * Delays the execution by the configured sleep delay duration.
+     * Only called by the consumer thread, so the game itself is never delayed.
      */
     private void delayExecution(){
         try {
@@ -51,13 +182,97 @@ public class ActivityLogger {
     }
 
     /**
-     * Performs the logging of the provided log message.
+     * Claims the next slot of the buffer, to be filled by the caller and then handed over through {@link #publish()}.
+     * Waits for a free slot if the buffer is full.
+     *
+     * @return the slot to fill, or null if logging is disabled
+     * @throws UncheckedIOException if writing to the sink failed with an I/O error
+     * @throws IllegalStateException if writing to the sink failed otherwise
+     */
+    private LogEvent claim(){
+        if (!enabled){ return null; }
+        checkFailure();
+        LogEvent event;
+        while ((event = buffer.claim()) == null){
+            LockSupport.parkNanos(IDLE_NANOS);
+        }
+        return event;
+    }
+
+    /**
+     * Hands the last claimed slot over to the consumer thread, starting it on first use.
+     */
+    private void publish(){
+        buffer.publish();
+        PENDING.increment();
+        if (consumer == null){
+            startConsumer();
+        }
+    }
+
+    /**
+     * Performs the logging of the provided log message, by handing it over to the consumer thread.
      *
+     * @param type       the type of entry, stating how it is presented
      * @param logMessage the log message to be logged
      */
-    private void performLog(String logMessage){
-        logger.log(Level.INFO, logMessage);
-        if (AppConfig.USE_SLEEP_DELAY){ delayExecution(); }
+    private void performLog(LogEvent.Type type, String logMessage){
+        LogEvent event = claim();
+        if (event != null){
+            event.set(type, logMessage);
+            publish();
+        }
+    }
+
+    /**
+     * Starts the thread writing entries to the sink. The thread is a daemon, idling while the buffer is empty.
+     */
+    private void startConsumer(){
+        consumer = new Thread(this::consume, "ActivityLogger");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Body of the consumer thread, writing published entries to the sink in batches.
+     * Paced sinks get every entry written and flushed on its own, followed by the sleep delay.
+     * Entries are released even when writing them fails, so the game never waits on a buffer that is not drained;
+     * the first failure is kept and rethrown to the game by the next call logging, flushing or closing.
+     */
+    private void consume(){
+        while (running){
+            LogSink target = sink;
+            boolean paced = target.isPaced();
+            long available = Math.min(buffer.pending(), paced ? 1 : AppConfig.LOG_BATCH_SIZE);
+            if (available == 0){
+                LockSupport.parkNanos(IDLE_NANOS);
+                continue;
+            }
+            try {
+                for (long i = 0; i < available; i++){
+                    target.write(buffer.peek(i));
+                }
+                target.flush();
+            } catch (IOException e) {
+                keepFailure(new UncheckedIOException(e));
+            } catch (RuntimeException e) {
+                keepFailure(e);
+            }
+            if (paced && failure == null){ delayExecution(); }
+            buffer.release(available);
+            PENDING.add(-available);
+        }
+    }
+
+    /**
+     * Keeps the first failure of the sink, to be rethrown to the game. Only called by the consumer thread.
+     *
+     * @param cause the failure, I/O errors wrapped in an {@link UncheckedIOException}
+     */
+    private void keepFailure(RuntimeException cause){
+        if (failure == null){
+            failure = cause;
+        }
     }
 
     /**
@@ -66,7 +281,7 @@ public class ActivityLogger {
      * @param roundInfo the round information to be logged
      */
     public void logRoundInfo(String roundInfo){
-        performLog(AppConfig.ANSI_PURPLE + roundInfo + AppConfig.ANSI_RESET);
+        performLog(LogEvent.Type.ROUND, roundInfo);
     }
 
     /**
@@ -75,7 +290,7 @@ public class ActivityLogger {
      * @param turnInfo the turn information to be logged
      */
     public void logTurnInfo(String turnInfo){
-        performLog(String.format("\n%s%s%s", AppConfig.ANSI_BLUE, turnInfo, AppConfig.ANSI_RESET));
+        performLog(LogEvent.Type.TURN, turnInfo);
     }
 
     /**
@@ -84,7 +299,7 @@ public class ActivityLogger {
      * @param attackInfo the attack information to be logged
      */
     public void logAttack(String attackInfo){
-        performLog(String.format("\t%s%s%s", AppConfig.ANSI_GREEN, attackInfo, AppConfig.ANSI_RESET));
+        performLog(LogEvent.Type.ATTACK, attackInfo);
     }
 
     /**
@@ -93,7 +308,7 @@ public class ActivityLogger {
      * @param damageInfo the damage information to be logged
      */
     public void logDamage(String damageInfo){
-        performLog(String.format("\t\t%s%s%s", AppConfig.ANSI_YELLOW, damageInfo, AppConfig.ANSI_RESET));
+        performLog(LogEvent.Type.DAMAGE, damageInfo);
     }
 
     /**
@@ -102,7 +317,7 @@ public class ActivityLogger {
      * @param deathInfo the death information to be logged
      */
     public void logDeath(String deathInfo){
-        performLog(String.format("\t\t%s%s%s", AppConfig.ANSI_RED, deathInfo, AppConfig.ANSI_RESET));
+        performLog(LogEvent.Type.DEATH, deathInfo);
     }
 
     /**
@@ -111,7 +326,106 @@ public class ActivityLogger {
      * @param healInfo the healing information to be logged
      */
     public void logHealing(String healInfo){
-        performLog(String.format("\t\t%s%s%s", AppConfig.ANSI_GREEN, healInfo, AppConfig.ANSI_RESET));
+        performLog(LogEvent.Type.HEALING, healInfo);
+    }
+
+    /**
+     * Logs the start of a new campaign, stating the seed which reproduces it.
+     *
+     * @param campaign the index of the campaign
+     * @param seed     the seed of the campaign
+     */
+    public void logCampaign(long campaign, long seed){
+        LogEvent event = claim();
+        if (event != null){
+            event.setCampaign(campaign, seed);
+            publish();
+        }
     }
 
+    /**
+     * Logs the start of a new round.
+     *
+     * @param level   the current dungeon level
+     * @param round   the round within the level
+     * @param heroes  the amount of remaining heroes
+     * @param enemies the amount of remaining enemies
+     */
+    public void logRound(int level, int round, int heroes, int enemies){
+        LogEvent event = claim();
+        if (event != null){
+            event.setRound(level, round, heroes, enemies);
+            publish();
+        }
+    }
+
+    /**
+     * Logs the start of a character's turn.
+     *
+     * @param characterId   the id of the character
+     * @param characterName the name of the character
+     * @param hero          whether the character is a hero
+     * @param actionPoints  the current action points of the character
+     * @param hitPoints     the current hit points of the character
+     * @param energy        the current energy level of the character
+     */
+    public void logTurn(int characterId, String characterName, boolean hero, int actionPoints, int hitPoints,
+                        int energy){
+        LogEvent event = claim();
+        if (event != null){
+            event.setTurn(characterId, characterName, hero, actionPoints, hitPoints, energy);
+            publish();
+        }
+    }
+
+    /**
+     * Logs an ability being used.
+     *
+     * @param information     the description of the ability
+     * @param amountOfTargets the amount of targets of the ability
+     * @param targetHeroes    whether the ability targets heroes
+     */
+    public void logAbility(String information, int amountOfTargets, boolean targetHeroes){
+        LogEvent event = claim();
+        if (event != null){
+            event.setAbility(information, amountOfTargets, targetHeroes);
+            publish();
+        }
+    }
+
+    /**
+     * Logs damage taken by a character, logged as a death if no hit points remain.
+     *
+     * @param characterId   the id of the target
+     * @param characterName the name of the target
+     * @param critical      whether the hit was critical
+     * @param deflected     the amount of damage deflected
+     * @param directHit     the amount of damage taken
+     * @param hitPoints     the hit points left after the hit
+     */
+    public void logHit(int characterId, String characterName, boolean critical, int deflected, int directHit,
+                       int hitPoints){
+        LogEvent event = claim();
+        if (event != null){
+            event.setHit(characterId, characterName, critical, deflected, directHit, hitPoints);
+            publish();
+        }
+    }
+
+    /**
+     * Logs healing received by a character.
+     *
+     * @param characterId   the id of the target
+     * @param characterName the name of the target
+     * @param critical      whether the healing was critical
+     * @param healing       the amount of healing received
+     * @param hitPoints     the hit points after the healing
+     */
+    public void logHealing(int characterId, String characterName, boolean critical, int healing, int hitPoints){
+        LogEvent event = claim();
+        if (event != null){
+            event.setHealing(characterId, characterName, critical, healing, hitPoints);
+            publish();
+        }
+    }
 }
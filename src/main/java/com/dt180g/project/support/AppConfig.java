@@ -279,6 +279,9 @@ public final class AppConfig {
     /** Limit for crit chance calculations (e.g. 3 will be 30%). */
     public static final int CRIT_CHANCE = 3;
 
+    /** Upper bound of the roll that is compared to the crit chance, starting from 1. */
+    public static final int CRIT_ROLL_UPPER_BOUND = 9;
+
     /** Multiplier for hero critical hits. */
     public static final int HERO_CRIT_MULTIPLIER = 3;
 
@@ -303,6 +306,24 @@ public final class AppConfig {
     /** Amount of Energy replenished at start of turn. */
     public static final int ROUND_RESET_ENERGY = 10;
 
+    /** Amount of variants, with weapons of their own, of every skeleton archetype in a horde. */
+    public static final int HORDE_TEMPLATE_VARIANTS = 4;
+
+    /** Amount of enemies of a horde hit by abilities targeting a group. */
+    public static final int HORDE_AREA_TARGETS = 2048;
+
+    /** Largest amount of enemies of a horde resolved as a single task, larger attacks are split in parallel chunks. */
+    public static final int HORDE_ATTACK_CHUNK = 256;
+
+    /** Amount of campaigns a balance analysis worker claims at a time. */
+    public static final int ANALYSIS_CHUNK = 64;
+
+    /** Party analysed when no other composition is stated, the same as the party of the interactive game. */
+    public static final String DEFAULT_PARTY = "Warrior:Leila,Ranger:Allan,Wizard:Elvira,Cleric:Kevin";
+
+    /** Standard normal quantile of the confidence intervals of a balance analysis, 1.96 for 95% confidence. */
+    public static final double ANALYSIS_CONFIDENCE_Z = 1.96;
+
     /* -------------------------
     THREAD DELAY.
     ------------------------- */
@@ -318,6 +339,69 @@ public final class AppConfig {
     /** used as upper bound for randomising armor stat value. */
     public static final int ARMOR_STAT_VALUE_UPPER_BOUND = 15;
 
+    /* -------------------------
+    LOGGING.
+    ------------------------- */
+    /** amount of log entries buffered between the game and the thread writing them. */
+    public static final int LOG_BUFFER_CAPACITY = 1024;
+
+    /** largest amount of log entries written before flushing the sink. */
+    public static final int LOG_BATCH_SIZE = 64;
+
+    /* -------------------------
+    JOURNAL.
+    ------------------------- */
+    /** size in bytes of a combat journal segment, a new segment is started once it is full. */
+    public static final int JOURNAL_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    /* -------------------------
+    METRICS.
+    ------------------------- */
+    /** Name the engine metrics are exported by through the platform MBean server. */
+    public static final String METRICS_OBJECT_NAME = "com.dt180g.project:type=EngineMetrics";
+
+    /* -------------------------
+    GEAR.
+    ------------------------- */
+    /** Name of the binary gear catalog resource, compiled from the JSON catalogs by the build. */
+    public static final String GEAR_CATALOG_FILE = "gear_catalog.bin";
+
+    /** Seed used when rolling the stats of the gear catalog, shared by all games. */
+    public static final long GEAR_CATALOG_SEED = 180L;
+
+    /* -------------------------
+    COMMAND LINE ARGUMENTS.
+    ------------------------- */
+    /** Argument for running an amount of headless campaigns. */
+    public static final String ARG_BATCH = "--batch";
+
+    /** Argument for seeding a batch, making its campaigns reproducible. */
+    public static final String ARG_SEED = "--seed";
+
+    /** Argument for writing game activity to a file instead of the console. */
+    public static final String ARG_LOG_FILE = "--log-file";
+
+    /** Argument for writing the combat activity of a batch to binary journals in a directory. */
+    public static final String ARG_JOURNAL = "--journal";
+
+    /** Argument for replaying a campaign from its seed, optionally stopping at a dungeon level and round. */
+    public static final String ARG_REPLAY = "--replay";
+
+    /** Argument for verifying the replay of a journaled campaign against its journal. */
+    public static final String ARG_VERIFY = "--verify";
+
+    /** Argument for letting the heroes face a horde of stated size in a single dungeon level. */
+    public static final String ARG_HORDE = "--horde";
+
+    /** Argument for analysing the balance of hero parties over an amount of campaigns. */
+    public static final String ARG_ANALYSE = "--analyse";
+
+    /** Argument for a hero party to analyse, e.g. Warrior:Leila,Cleric*2, may be stated several times. */
+    public static final String ARG_PARTY = "--party";
+
+    /** Argument for analysing every hero party of stated size. */
+    public static final String ARG_PARTY_SIZE = "--party-size";
+
     /* ---------------------------------------
     ANSI COLOR CODES. Used to colorize output.
     ------------------------------------------ */
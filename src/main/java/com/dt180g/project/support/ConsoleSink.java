@@ -0,0 +1,60 @@
+package com.dt180g.project.support;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * The {@code ConsoleSink} writes logged entries to the terminal, colored with ANSI codes.
+ * Entries are buffered and only flushed once per batch, instead of for every entry.
+ *
+ * @author Daniel Jönsson
+ * @see LogSink
+ * @version 1.0
+ */
+public class ConsoleSink implements LogSink {
+    /**Instance field variables*/
+    private final Writer writer;
+
+    /**
+     * Constructs a sink writing to the standard error stream, where game activity has always been logged.
+     */
+    public ConsoleSink(){
+        this(System.err);
+    }
+
+    /**
+     * Constructs a sink writing to the given stream.
+     *
+     * @param out the stream to write to
+     */
+    public ConsoleSink(OutputStream out){
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, Charset.defaultCharset()));
+    }
+
+    /**{@inheritDoc}*/
+    @Override
+    public void write(LogEvent event) throws IOException {
+        writer.write(event.toColoredText());
+        writer.write(System.lineSeparator());
+    }
+
+    /**{@inheritDoc}*/
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Checks if entries should be paced, which the console does when {@link AppConfig#USE_SLEEP_DELAY} is set.
+     *
+     * @return true if the sleep delay should be applied
+     */
+    @Override
+    public boolean isPaced(){
+        return AppConfig.USE_SLEEP_DELAY;
+    }
+}
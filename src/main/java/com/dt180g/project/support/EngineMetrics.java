@@ -0,0 +1,242 @@
+package com.dt180g.project.support;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime metrics of all game engines of the process, exported as a platform MBean named
+ * {@value AppConfig#METRICS_OBJECT_NAME} once {@link #register()} is called, e.g. for JConsole or VisualVM.
+ * Every counter is a {@link LongAdder}, striped between threads, so engines running in parallel record
+ * metrics without contending; attributes are summed when read. Recording never draws random values,
+ * so metrics do not change the outcome of seeded games.
+ * Timed sections start with {@link #startTimer()}, which does not read the clock while metrics are disabled.
+ * @author Daniel Jönsson
+ * @see EngineMetricsMBean
+ * @see MetricsHistogram
+ */
+public enum EngineMetrics implements EngineMetricsMBean {
+    INSTANCE;
+    private static final int HEROES = 0;
+    private static final int ENEMIES = 1;
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder crits = new LongAdder();
+    private final LongAdder[] attacks = {new LongAdder(), new LongAdder()};        // by attacking side
+    private final LongAdder[] damageDealt = {new LongAdder(), new LongAdder()};    // by attacking side
+    private final LongAdder[] damageTaken = {new LongAdder(), new LongAdder()};    // by side hit
+    private final LongAdder[] deaths = {new LongAdder(), new LongAdder()};         // by side hit
+    private final LongAdder[] levelsPlayed = newAdders(AppConfig.DUNGEON_START_LEVEL + 1);
+    private final LongAdder[] roundsPerLevel = newAdders(AppConfig.DUNGEON_START_LEVEL + 1);
+    private final MetricsHistogram executeActionsNanos = new MetricsHistogram();
+    private final MetricsHistogram attackNanos = new MetricsHistogram();
+    private volatile boolean enabled = true;
+    private volatile long startNanos = System.nanoTime();
+
+    /**
+     * Used internally to create an array of counters.
+     * @param amount the amount of counters.
+     * @return the counters.
+     */
+    private static LongAdder[] newAdders(final int amount) {
+        LongAdder[] adders = new LongAdder[amount];
+        for (int i = 0; i < amount; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Used internally to sum an array of counters.
+     * @param adders the counters.
+     * @return the sum of every counter.
+     */
+    private static long[] sums(final LongAdder[] adders) {
+        long[] output = new long[adders.length];
+        for (int i = 0; i < adders.length; i++) {
+            output[i] = adders[i].sum();
+        }
+        return output;
+    }
+
+    /**
+     * Used to export the metrics through the platform MBean server. Registering more than once has no effect.
+     * @throws IllegalStateException if the MBean could not be registered.
+     */
+    public void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(AppConfig.METRICS_OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new StandardMBean(this, EngineMetricsMBean.class), name);
+            }
+        } catch (InstanceAlreadyExistsException e) {
+            // registered by another thread in the meantime
+        } catch (JMException e) {
+            throw new IllegalStateException("Engine metrics could not be registered", e);
+        }
+    }
+
+    /**
+     * Used to start timing a section, whose time is passed on when it is recorded.
+     * @return the current time in nanoseconds, or 0 if metrics are disabled.
+     */
+    public long startTimer() { return enabled ? System.nanoTime() : 0; }
+
+    /**
+     * Used to record a turn, once the character has executed its actions.
+     * @param timerStart the value of {@link #startTimer()} when the actions started.
+     */
+    public void recordTurn(final long timerStart) {
+        if (timerStart == 0 || !enabled) {
+            return;
+        }
+        turns.increment();
+        executeActionsNanos.record(System.nanoTime() - timerStart);
+    }
+
+    /**
+     * Used to record an attack, once it is resolved on all its targets.
+     * @param byHeroes whether the attack was performed by a hero.
+     * @param timerStart the value of {@link #startTimer()} when resolution started.
+     */
+    public void recordAttack(final boolean byHeroes, final long timerStart) {
+        if (timerStart == 0 || !enabled) {
+            return;
+        }
+        attacks[byHeroes ? HEROES : ENEMIES].increment();
+        attackNanos.record(System.nanoTime() - timerStart);
+    }
+
+    /**
+     * Used to record the outcome of an attack on its targets, summed over all targets.
+     * @param byHeroes whether the attack was performed by a hero.
+     * @param amountOfCrits the amount of critical hits.
+     * @param dealt the damage dealt, before deflection.
+     * @param taken the damage taken by the targets, after deflection.
+     * @param amountOfDeaths the amount of targets killed.
+     */
+    public void recordHits(final boolean byHeroes, final int amountOfCrits, final long dealt, final long taken,
+                           final int amountOfDeaths) {
+        if (!enabled) {
+            return;
+        }
+        int target = byHeroes ? ENEMIES : HEROES;
+        crits.add(amountOfCrits);
+        damageDealt[byHeroes ? HEROES : ENEMIES].add(dealt);
+        damageTaken[target].add(taken);
+        deaths[target].add(amountOfDeaths);
+    }
+
+    /**
+     * Used to record the end of a dungeon level.
+     * @param dungeonLevel the dungeon level, counting down towards 1.
+     * @param rounds the amount of rounds played on the level.
+     */
+    public void recordLevel(final int dungeonLevel, final int rounds) {
+        if (!enabled) {
+            return;
+        }
+        levelsPlayed[dungeonLevel].increment();
+        roundsPerLevel[dungeonLevel].add(rounds);
+    }
+
+    @Override
+    public boolean isEnabled() { return enabled; }
+
+    @Override
+    public void setEnabled(final boolean enabled) { this.enabled = enabled; }
+
+    @Override
+    public void reset() {
+        turns.reset();
+        crits.reset();
+        for (int side = HEROES; side <= ENEMIES; side++) {
+            attacks[side].reset();
+            damageDealt[side].reset();
+            damageTaken[side].reset();
+            deaths[side].reset();
+        }
+        for (int level = 0; level < levelsPlayed.length; level++) {
+            levelsPlayed[level].reset();
+            roundsPerLevel[level].reset();
+        }
+        executeActionsNanos.reset();
+        attackNanos.reset();
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public long getTurns() { return turns.sum(); }
+
+    @Override
+    public double getTurnsPerSecond() {
+        long elapsed = System.nanoTime() - startNanos;
+        return elapsed <= 0 ? 0 : turns.sum() / (elapsed / 1e9);
+    }
+
+    @Override
+    public long getHeroAttacks() { return attacks[HEROES].sum(); }
+
+    @Override
+    public long getEnemyAttacks() { return attacks[ENEMIES].sum(); }
+
+    @Override
+    public long getCrits() { return crits.sum(); }
+
+    @Override
+    public long getDamageDealtByHeroes() { return damageDealt[HEROES].sum(); }
+
+    @Override
+    public long getDamageTakenByHeroes() { return damageTaken[HEROES].sum(); }
+
+    @Override
+    public long getDamageDealtByEnemies() { return damageDealt[ENEMIES].sum(); }
+
+    @Override
+    public long getDamageTakenByEnemies() { return damageTaken[ENEMIES].sum(); }
+
+    @Override
+    public long getHeroDeaths() { return deaths[HEROES].sum(); }
+
+    @Override
+    public long getEnemyDeaths() { return deaths[ENEMIES].sum(); }
+
+    @Override
+    public long[] getLevelsPlayed() { return sums(levelsPlayed); }
+
+    @Override
+    public double[] getMeanRoundsPerLevel() {
+        long[] played = sums(levelsPlayed);
+        long[] rounds = sums(roundsPerLevel);
+        double[] output = new double[played.length];
+        for (int level = 0; level < played.length; level++) {
+            output[level] = played[level] == 0 ? 0 : (double) rounds[level] / played[level];
+        }
+        return output;
+    }
+
+    @Override
+    public double getExecuteActionsMeanNanos() { return executeActionsNanos.getMean(); }
+
+    @Override
+    public long getExecuteActionsP99Nanos() { return executeActionsNanos.getPercentile(99); }
+
+    @Override
+    public long[] getExecuteActionsHistogram() { return executeActionsNanos.getBuckets(); }
+
+    @Override
+    public double getAttackMeanNanos() { return attackNanos.getMean(); }
+
+    @Override
+    public long getAttackP99Nanos() { return attackNanos.getPercentile(99); }
+
+    @Override
+    public long[] getAttackHistogram() { return attackNanos.getBuckets(); }
+
+    @Override
+    public long getLoggerQueueDepth() { return ActivityLogger.getTotalQueueDepth(); }
+}
@@ -0,0 +1,172 @@
+package com.dt180g.project.support;
+
+/**
+ * Management interface of the {@link EngineMetrics}, exported through the platform MBean server.
+ * Attributes are read live from the counters while games and simulations run.
+ *
+ * @author Daniel Jönsson
+ * @see EngineMetrics
+ * @version 1.0
+ */
+public interface EngineMetricsMBean {
+
+    /**
+     * Returns whether metrics are recorded.
+     *
+     * @return true if enabled, false otherwise
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables or disables recording of metrics.
+     *
+     * @param enabled whether metrics should be recorded
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Removes all recorded metrics and restarts the clock turns per second are measured by.
+     */
+    void reset();
+
+    /**
+     * Returns the amount of turns taken by all characters.
+     *
+     * @return the amount of turns
+     */
+    long getTurns();
+
+    /**
+     * Returns the amount of turns taken per second since the metrics were created or reset.
+     *
+     * @return turns per second
+     */
+    double getTurnsPerSecond();
+
+    /**
+     * Returns the amount of attacks performed by heroes, including healing.
+     *
+     * @return the amount of attacks
+     */
+    long getHeroAttacks();
+
+    /**
+     * Returns the amount of attacks performed by enemies.
+     *
+     * @return the amount of attacks
+     */
+    long getEnemyAttacks();
+
+    /**
+     * Returns the amount of critical hits, on heroes and enemies.
+     *
+     * @return the amount of critical hits
+     */
+    long getCrits();
+
+    /**
+     * Returns the damage dealt by heroes, before deflection.
+     *
+     * @return the damage dealt
+     */
+    long getDamageDealtByHeroes();
+
+    /**
+     * Returns the damage taken by heroes, after deflection.
+     *
+     * @return the damage taken
+     */
+    long getDamageTakenByHeroes();
+
+    /**
+     * Returns the damage dealt by enemies, before deflection.
+     *
+     * @return the damage dealt
+     */
+    long getDamageDealtByEnemies();
+
+    /**
+     * Returns the damage taken by enemies, after deflection.
+     *
+     * @return the damage taken
+     */
+    long getDamageTakenByEnemies();
+
+    /**
+     * Returns the amount of heroes killed.
+     *
+     * @return the amount of deaths
+     */
+    long getHeroDeaths();
+
+    /**
+     * Returns the amount of enemies killed.
+     *
+     * @return the amount of deaths
+     */
+    long getEnemyDeaths();
+
+    /**
+     * Returns the amount of times every dungeon level has been played to its end.
+     *
+     * @return the amount of levels played, indexed by dungeon level
+     */
+    long[] getLevelsPlayed();
+
+    /**
+     * Returns the mean amount of rounds played on every dungeon level.
+     *
+     * @return mean rounds, indexed by dungeon level
+     */
+    double[] getMeanRoundsPerLevel();
+
+    /**
+     * Returns the mean time spent executing the actions of a turn.
+     *
+     * @return mean time in nanoseconds
+     */
+    double getExecuteActionsMeanNanos();
+
+    /**
+     * Returns the estimated 99th percentile of the time spent executing the actions of a turn.
+     *
+     * @return time in nanoseconds
+     */
+    long getExecuteActionsP99Nanos();
+
+    /**
+     * Returns the histogram of the time spent executing the actions of a turn.
+     *
+     * @return counts by bucket, bucket {@code b} holding times below {@code 2^b} nanoseconds
+     */
+    long[] getExecuteActionsHistogram();
+
+    /**
+     * Returns the mean time spent resolving an attack on its targets.
+     *
+     * @return mean time in nanoseconds
+     */
+    double getAttackMeanNanos();
+
+    /**
+     * Returns the estimated 99th percentile of the time spent resolving an attack on its targets.
+     *
+     * @return time in nanoseconds
+     */
+    long getAttackP99Nanos();
+
+    /**
+     * Returns the histogram of the time spent resolving an attack on its targets.
+     *
+     * @return counts by bucket, bucket {@code b} holding times below {@code 2^b} nanoseconds
+     */
+    long[] getAttackHistogram();
+
+    /**
+     * Returns the amount of entries of all activity loggers waiting to be written, including those of
+     * journaling simulation workers.
+     *
+     * @return the queue depth
+     */
+    long getLoggerQueueDepth();
+}
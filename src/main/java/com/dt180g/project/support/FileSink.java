@@ -0,0 +1,55 @@
+package com.dt180g.project.support;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The {@code FileSink} appends logged entries to a text file, without ANSI colors.
+ *
+ * @author Daniel Jönsson
+ * @see LogSink
+ * @version 1.0
+ */
+public class FileSink implements LogSink, Closeable {
+    /**Instance field variables*/
+    private final Writer writer;
+
+    /**
+     * Constructs a sink appending to the given file, creating it if needed.
+     *
+     * @param file the file to write to
+     * @throws IOException if the file could not be opened
+     */
+    public FileSink(Path file) throws IOException {
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**{@inheritDoc}*/
+    @Override
+    public void write(LogEvent event) throws IOException {
+        writer.write(event.toPlainText());
+        writer.write(System.lineSeparator());
+    }
+
+    /**{@inheritDoc}*/
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Closes the file, flushing remaining entries.
+     *
+     * @throws IOException if the file could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
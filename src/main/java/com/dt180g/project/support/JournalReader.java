@@ -0,0 +1,126 @@
+package com.dt180g.project.support;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code JournalReader} reads back the binary journals written by the {@link JournalSink}.
+ * Records are decoded into a single reused {@link LogEvent} and handed to a {@link LogSink},
+ * the same way the {@link ActivityLogger} does, so a journal can be rendered by any sink,
+ * or analysed by a sink collecting only the fields of interest.
+ *
+ * @author Daniel Jönsson
+ * @see JournalSink
+ * @version 1.0
+ */
+public final class JournalReader {
+
+    /**
+     * Private constructor, the reader only consists of static procedures.
+     */
+    private JournalReader(){ }
+
+    /**
+     * Lists the segments of a journal, in the order they were written.
+     *
+     * @param directory the directory of the journal
+     * @return the segment files
+     * @throws IOException if the directory could not be read
+     */
+    public static List<Path> getSegments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        for (int segment = 0; Files.exists(directory.resolve(JournalSink.getSegmentName(segment))); segment++){
+            segments.add(directory.resolve(JournalSink.getSegmentName(segment)));
+        }
+        return segments;
+    }
+
+    /**
+     * Reads every segment of a journal, writing its records to the sink, which is flushed once done.
+     *
+     * @param directory the directory of the journal
+     * @param sink      the sink to write the records to
+     * @return the amount of records read, excluding string table records
+     * @throws IOException if a segment could not be read or is not a journal segment
+     */
+    public static long read(Path directory, LogSink sink) throws IOException {
+        LogEvent event = new LogEvent();
+        long records = 0;
+        for (Path segment : getSegments(directory)){
+            records += readSegment(segment, event, sink);
+        }
+        sink.flush();
+        return records;
+    }
+
+    /**
+     * Reads the records of a single segment, up to the written length stated by its header.
+     *
+     * @param segment the segment file
+     * @param event   the event to decode records into
+     * @param sink    the sink to write the records to
+     * @return the amount of records read, excluding string table records
+     * @throws IOException if the segment could not be read or is not a journal segment
+     */
+    private static long readSegment(Path segment, LogEvent event, LogSink sink) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)){
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.limit() < JournalSink.HEADER_SIZE || buffer.getInt() != JournalSink.MAGIC
+                || buffer.getShort() != JournalSink.VERSION){
+            throw new IOException("Not a journal segment: " + segment);
+        }
+        buffer.getShort();  // reserved
+        buffer.limit(buffer.getInt());
+
+        List<String> strings = new ArrayList<>();
+        long records = 0;
+        while (buffer.hasRemaining()){
+            byte record = buffer.get();
+            switch (record){
+                case JournalSink.RECORD_STRING -> {
+                    buffer.getInt();  // ids are assigned in order
+                    strings.add(readString(buffer));
+                    continue;
+                }
+                case JournalSink.RECORD_CAMPAIGN -> event.setCampaign(buffer.getLong(), buffer.getLong());
+                case JournalSink.RECORD_ROUND -> event.setRound(buffer.getInt(), buffer.getInt(),
+                        buffer.getInt(), buffer.getInt());
+                case JournalSink.RECORD_TURN -> event.setTurn(buffer.getInt(), strings.get(buffer.getInt()),
+                        buffer.get() != 0, buffer.getInt(), buffer.getInt(), buffer.getInt());
+                case JournalSink.RECORD_ABILITY -> event.setAbility(strings.get(buffer.getInt()),
+                        buffer.getInt(), buffer.get() != 0);
+                case JournalSink.RECORD_HIT -> event.setHit(buffer.getInt(), strings.get(buffer.getInt()),
+                        buffer.get() != 0, buffer.getInt(), buffer.getInt(), buffer.getInt());
+                case JournalSink.RECORD_HEALING -> event.setHealing(buffer.getInt(),
+                        strings.get(buffer.getInt()), buffer.get() != 0, buffer.getInt(), buffer.getInt());
+                default -> throw new IOException("Unknown journal record " + record + " in " + segment);
+            }
+            sink.write(event);
+            event.clear();
+            records++;
+        }
+        return records;
+    }
+
+    /**
+     * Reads the characters of a string table record.
+     *
+     * @param buffer the buffer positioned at the length of the string
+     * @return the string
+     */
+    private static String readString(ByteBuffer buffer){
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,243 @@
+package com.dt180g.project.support;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code JournalSink} appends combat activity to a compact binary journal, for offline analysis of battles.
+ * Only structured entries are journaled, as fixed-size records of primitives; names and ability descriptions
+ * are written once per segment to a string table and referenced by id afterwards.
+ *
+ * <p>The journal is a directory of segment files named {@code journal-00000.bin} and onwards, each
+ * memory-mapped through a {@link FileChannel}. Once a segment cannot fit another record, it is truncated
+ * to its written length and the next segment is started. Every segment starts with a header stating
+ * the amount of bytes written, updated on every flush, so a segment can be read while it is being written.
+ * Segments are read back through the {@link JournalReader}.
+ *
+ * @author Daniel Jönsson
+ * @see JournalReader
+ * @see LogSink
+ * @version 1.0
+ */
+public class JournalSink implements LogSink, Closeable {
+    /**Instance field variables*/
+    static final int MAGIC = 0x444A4E4C;        // "DJNL"
+    static final short VERSION = 2;             // ids and counts are ints, as horde battles exceed a short
+    static final int LENGTH_OFFSET = 8;
+    static final int HEADER_SIZE = 12;          // magic, version, reserved, written length
+    static final byte RECORD_STRING = 1;
+    static final byte RECORD_CAMPAIGN = 2;
+    static final byte RECORD_ROUND = 3;
+    static final byte RECORD_TURN = 4;
+    static final byte RECORD_ABILITY = 5;
+    static final byte RECORD_HIT = 6;
+    static final byte RECORD_HEALING = 7;
+    private static final int MAX_RECORD_SIZE = 22;
+    private static final int STRING_RECORD_SIZE = 9;  // excluding the encoded characters
+    private final Path directory;
+    private final int segmentSize;
+    private final Map<String, Integer> strings = new HashMap<>();
+    private int segment;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    /**
+     * Constructs a sink journaling to the given directory, using segments of the configured size.
+     *
+     * @param directory the directory to write segments to, created if needed
+     * @throws IOException if the first segment could not be created
+     */
+    public JournalSink(Path directory) throws IOException {
+        this(directory, AppConfig.JOURNAL_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructs a sink journaling to the given directory. Existing segments are kept,
+     * the journal is continued in a new segment following them.
+     *
+     * @param directory   the directory to write segments to, created if needed
+     * @param segmentSize the size in bytes of every segment
+     * @throws IOException if the first segment could not be created
+     * @throws IllegalArgumentException if the segment size cannot hold a header and a record
+     */
+    public JournalSink(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < HEADER_SIZE + MAX_RECORD_SIZE){
+            throw new IllegalArgumentException("Journal segment size too small: " + segmentSize);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        while (Files.exists(directory.resolve(getSegmentName(segment)))){
+            segment++;
+        }
+        openSegment();
+    }
+
+    /**
+     * Returns the file name of a segment.
+     *
+     * @param segment the index of the segment
+     * @return the file name
+     */
+    static String getSegmentName(int segment){
+        return String.format("journal-%05d.bin", segment);
+    }
+
+    /**
+     * Creates and maps the next segment, writing its header.
+     *
+     * @throws IOException if the segment could not be created
+     */
+    private void openSegment() throws IOException {
+        channel = FileChannel.open(directory.resolve(getSegmentName(segment)), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putInt(HEADER_SIZE);
+        strings.clear();
+    }
+
+    /**
+     * Finishes the current segment: the written length is stored, the mapping forced to disk
+     * and the file truncated to what was written.
+     *
+     * @throws IOException if the segment could not be finished
+     */
+    private void closeSegment() throws IOException {
+        int length = buffer.position();
+        buffer.putInt(LENGTH_OFFSET, length);
+        buffer.force();
+        buffer = null;
+        try {
+            channel.truncate(length);
+        } catch (IOException e) {
+            // some platforms refuse to truncate a mapped file, the header states the length anyway
+        }
+        channel.close();
+    }
+
+    /**
+     * Makes sure the current segment can fit a record, preceded by its string if not yet in the table.
+     * Starts a new segment otherwise, which has an empty string table.
+     *
+     * @param value the string referenced by the record, or null
+     * @throws IOException if a new segment could not be created
+     */
+    private void ensureCapacity(String value) throws IOException {
+        int required = MAX_RECORD_SIZE + getStringSize(value);
+        if (buffer.remaining() < required){
+            closeSegment();
+            segment++;
+            openSegment();
+            required = MAX_RECORD_SIZE + getStringSize(value);
+            if (buffer.remaining() < required){
+                throw new IOException("Journal segment size cannot hold record of " + required + " bytes");
+            }
+        }
+    }
+
+    /**
+     * Returns the amount of bytes needed to add a string to the table of the current segment.
+     *
+     * @param value the string, or null
+     * @return zero if the string needs no record, the size of its record otherwise
+     */
+    private int getStringSize(String value){
+        if (value == null || strings.containsKey(value)){ return 0; }
+        return STRING_RECORD_SIZE + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Returns the id of a string in the table of the current segment, adding it if needed.
+     *
+     * @param value the string
+     * @return the id of the string
+     */
+    private int getStringId(String value){
+        Integer id = strings.get(value);
+        if (id == null){
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            id = strings.size();
+            strings.put(value, id);
+            buffer.put(RECORD_STRING).putInt(id).putInt(bytes.length).put(bytes);
+        }
+        return id;
+    }
+
+    /**
+     * Writes a structured entry as a binary record. Plain messages carry nothing to analyse and are skipped.
+     *
+     * @param event the entry to write
+     * @throws IOException if a new segment could not be created
+     */
+    @Override
+    public void write(LogEvent event) throws IOException {
+        if (!event.isStructured()){ return; }
+        LogEvent.Type type = event.getType();
+        switch (type){
+            case CAMPAIGN -> {
+                ensureCapacity(null);
+                buffer.put(RECORD_CAMPAIGN).putLong(event.getCampaign()).putLong(event.getSeed());
+            }
+            case ROUND -> {
+                ensureCapacity(null);
+                buffer.put(RECORD_ROUND).putInt(event.getLevel()).putInt(event.getRound())
+                        .putInt(event.getHeroes()).putInt(event.getEnemies());
+            }
+            case TURN -> {
+                ensureCapacity(event.getCharacterName());
+                int name = getStringId(event.getCharacterName());
+                buffer.put(RECORD_TURN).putInt(event.getCharacterId()).putInt(name)
+                        .put((byte) (event.isHero() ? 1 : 0)).putInt(event.getActionPoints())
+                        .putInt(event.getHitPoints()).putInt(event.getEnergy());
+            }
+            case ATTACK -> {
+                ensureCapacity(event.getText());
+                int information = getStringId(event.getText());
+                buffer.put(RECORD_ABILITY).putInt(information).putInt(event.getAmount())
+                        .put((byte) (event.isHero() ? 1 : 0));
+            }
+            case DAMAGE, DEATH -> {
+                ensureCapacity(event.getCharacterName());
+                int name = getStringId(event.getCharacterName());
+                buffer.put(RECORD_HIT).putInt(event.getCharacterId()).putInt(name)
+                        .put((byte) (event.isCritical() ? 1 : 0)).putInt(event.getAmount())
+                        .putInt(event.getDirectHit()).putInt(event.getHitPoints());
+            }
+            case HEALING -> {
+                ensureCapacity(event.getCharacterName());
+                int name = getStringId(event.getCharacterName());
+                buffer.put(RECORD_HEALING).putInt(event.getCharacterId()).putInt(name)
+                        .put((byte) (event.isCritical() ? 1 : 0)).putInt(event.getAmount())
+                        .putInt(event.getHitPoints());
+            }
+        }
+    }
+
+    /**
+     * Publishes the records written so far by updating the written length in the segment header.
+     * The mapping itself is left to the operating system until the segment is finished.
+     */
+    @Override
+    public void flush(){
+        buffer.putInt(LENGTH_OFFSET, buffer.position());
+    }
+
+    /**
+     * Finishes the current segment, forcing it to disk and truncating it to its written length.
+     *
+     * @throws IOException if the segment could not be finished
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer != null){
+            closeSegment();
+        }
+    }
+}
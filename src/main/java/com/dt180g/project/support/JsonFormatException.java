@@ -0,0 +1,50 @@
+package com.dt180g.project.support;
+
+import java.io.IOException;
+
+/**
+ * The {@code JsonFormatException} is thrown when JSON text is malformed, or does not hold what a reader expects.
+ * It states where in the text the problem was found.
+ *
+ * @author Daniel Jönsson
+ * @see JsonReader
+ * @version 1.0
+ */
+public class JsonFormatException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    /**Instance field variables*/
+    private final int line;
+    private final int column;
+
+    /**
+     * Constructs a new {@code JsonFormatException}.
+     *
+     * @param message description of the problem
+     * @param line    the line of the problem, counting from 1
+     * @param column  the column of the problem, counting from 1
+     */
+    public JsonFormatException(String message, int line, int column){
+        super(String.format("%s at line %d, column %d", message, line, column));
+        this.line = line;
+        this.column = column;
+    }
+
+    /**
+     * Returns the line of the problem.
+     *
+     * @return the line, counting from 1
+     */
+    public int getLine(){
+        return line;
+    }
+
+    /**
+     * Returns the column of the problem.
+     *
+     * @return the column, counting from 1
+     */
+    public int getColumn(){
+        return column;
+    }
+}
@@ -0,0 +1,428 @@
+package com.dt180g.project.support;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * The {@code JsonReader} class reads JSON text as a stream of tokens, pulled one at a time by the caller.
+ * Only a small buffer of the text is held, so the memory used does not depend on the size of the text,
+ * and the caller builds whatever values it needs directly from the tokens, without an intermediate document.
+ *
+ * <p>The reader keeps track of the line and column of the text it reads. Malformed text, and values of another
+ * kind than asked for, are reported as a {@link JsonFormatException} stating where the offending token starts.
+ *
+ * @author Daniel Jönsson
+ * @see JsonFormatException
+ * @version 1.0
+ */
+public final class JsonReader implements Closeable {
+
+    /**Instance field variables*/
+    private static final int EMPTY_ARRAY = 1;
+    private static final int NONEMPTY_ARRAY = 2;
+    private static final int EMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int EMPTY_DOCUMENT = 6;
+    private static final int NONEMPTY_DOCUMENT = 7;
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private int line = 1;
+    private int column = 1;
+    private int tokenLine;
+    private int tokenColumn;
+    private int[] stack = new int[16];
+    private int depth;
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * Constructs a reader of the given JSON text.
+     *
+     * @param in the text, which is closed when the reader is
+     */
+    public JsonReader(Reader in){
+        this.in = in;
+        stack[depth++] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Returns the line of the last token started.
+     *
+     * @return the line, counting from 1
+     */
+    public int getLine(){
+        return tokenLine;
+    }
+
+    /**
+     * Returns the column of the last token started.
+     *
+     * @return the column, counting from 1
+     */
+    public int getColumn(){
+        return tokenColumn;
+    }
+
+    /**
+     * Creates an exception stating a problem at the start of the last token.
+     *
+     * @param message description of the problem
+     * @return the exception, to be thrown by the caller
+     */
+    public JsonFormatException formatError(String message){
+        return new JsonFormatException(message, tokenLine, tokenColumn);
+    }
+
+    /**
+     * Consumes the start of an object.
+     *
+     * @throws IOException if the next value is not an object
+     */
+    public void beginObject() throws IOException {
+        beforeValue();
+        expect('{', "Expected an object");
+        push(EMPTY_OBJECT);
+    }
+
+    /**
+     * Consumes the end of the current object.
+     *
+     * @throws IOException if the object has more members
+     */
+    public void endObject() throws IOException {
+        int context = stack[depth - 1];
+        if (context != EMPTY_OBJECT && context != NONEMPTY_OBJECT){
+            throw formatError("Not in an object");
+        }
+        expect('}', "Expected end of object");
+        depth--;
+    }
+
+    /**
+     * Consumes the start of an array.
+     *
+     * @throws IOException if the next value is not an array
+     */
+    public void beginArray() throws IOException {
+        beforeValue();
+        expect('[', "Expected an array");
+        push(EMPTY_ARRAY);
+    }
+
+    /**
+     * Consumes the end of the current array.
+     *
+     * @throws IOException if the array has more elements
+     */
+    public void endArray() throws IOException {
+        int context = stack[depth - 1];
+        if (context != EMPTY_ARRAY && context != NONEMPTY_ARRAY){
+            throw formatError("Not in an array");
+        }
+        expect(']', "Expected end of array");
+        depth--;
+    }
+
+    /**
+     * Checks if the current array or object has another element or member.
+     *
+     * @return true if there is another element or member
+     * @throws IOException if the text could not be read
+     */
+    public boolean hasNext() throws IOException {
+        int next = peekToken();
+        return next != ']' && next != '}' && next != -1;
+    }
+
+    /**
+     * Consumes the name of the next member of the current object.
+     *
+     * @return the name
+     * @throws IOException if the next token is not a member name
+     */
+    public String nextName() throws IOException {
+        int context = stack[depth - 1];
+        if (context == NONEMPTY_OBJECT){
+            expect(',', "Expected ',' or '}'");
+        } else if (context != EMPTY_OBJECT){
+            peekToken();
+            throw formatError("Expected a value, not a name");
+        }
+        peekToken();
+        if (peekChar() != '"'){
+            throw formatError("Expected a member name");
+        }
+        String name = readString();
+        expect(':', "Expected ':'");
+        stack[depth - 1] = DANGLING_NAME;
+        return name;
+    }
+
+    /**
+     * Consumes the next value, which must be a string.
+     *
+     * @return the string
+     * @throws IOException if the next value is not a string
+     */
+    public String nextString() throws IOException {
+        beforeValue();
+        if (peekToken() != '"'){
+            throw formatError("Expected a string");
+        }
+        return readString();
+    }
+
+    /**
+     * Consumes the next value, which must be an integer, either as a number or as a string holding a number.
+     *
+     * @return the integer
+     * @throws IOException if the next value is not an integer
+     */
+    public int nextInt() throws IOException {
+        beforeValue();
+        String value = (peekToken() == '"') ? readString() : readLiteral();
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw formatError("Expected an integer but was \"" + value + "\"");
+        }
+    }
+
+    /**
+     * Consumes the next value, whatever it is, including every value it holds.
+     *
+     * @throws IOException if the value is malformed
+     */
+    public void skipValue() throws IOException {
+        beforeValue();
+        int next = peekToken();
+        if (next == '{'){
+            readChar();
+            push(EMPTY_OBJECT);
+            while (hasNext()){
+                nextName();
+                skipValue();
+            }
+            endObject();
+        } else if (next == '['){
+            readChar();
+            push(EMPTY_ARRAY);
+            while (hasNext()){
+                skipValue();
+            }
+            endArray();
+        } else if (next == '"'){
+            readString();
+        } else {
+            String literal = readLiteral();
+            if (!literal.equals("true") && !literal.equals("false") && !literal.equals("null")
+                    && !literal.matches("-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?")){
+                throw formatError("Unexpected value \"" + literal + "\"");
+            }
+        }
+    }
+
+    /**
+     * Checks that nothing but whitespace follows the value of the document.
+     *
+     * @throws IOException if more text follows
+     */
+    public void endDocument() throws IOException {
+        if (depth != 1 || peekToken() != -1){
+            throw formatError("Expected end of document");
+        }
+    }
+
+    /**
+     * Closes the text read.
+     *
+     * @throws IOException if the text could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Consumes the separator before a value, as required by the current array, object or document.
+     *
+     * @throws IOException if the separator is missing or a value is not allowed here
+     */
+    private void beforeValue() throws IOException {
+        switch (stack[depth - 1]){
+            case EMPTY_ARRAY -> stack[depth - 1] = NONEMPTY_ARRAY;
+            case NONEMPTY_ARRAY -> expect(',', "Expected ',' or ']'");
+            case DANGLING_NAME -> stack[depth - 1] = NONEMPTY_OBJECT;
+            case EMPTY_DOCUMENT -> stack[depth - 1] = NONEMPTY_DOCUMENT;
+            case NONEMPTY_DOCUMENT -> {
+                peekToken();
+                throw formatError("Expected end of document");
+            }
+            default -> {
+                peekToken();
+                throw formatError("Expected a member name");
+            }
+        }
+        if (peekToken() == -1){
+            throw formatError("Unexpected end of document");
+        }
+    }
+
+    /**
+     * Consumes the next token, which must be the given character.
+     *
+     * @param expected the character expected
+     * @param message  description of the problem if it is missing
+     * @throws IOException if the character is missing
+     */
+    private void expect(char expected, String message) throws IOException {
+        if (peekToken() != expected){
+            throw formatError(message);
+        }
+        readChar();
+    }
+
+    /**
+     * Pushes a new array or object on the stack of nested values.
+     *
+     * @param context the kind of value entered
+     */
+    private void push(int context){
+        if (depth == stack.length){
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = context;
+    }
+
+    /**
+     * Skips whitespace and marks the start of the next token.
+     *
+     * @return the first character of the token, not consumed, or -1 at the end of the text
+     * @throws IOException if the text could not be read
+     */
+    private int peekToken() throws IOException {
+        int next = peekChar();
+        while (next == ' ' || next == '\t' || next == '\n' || next == '\r'){
+            readChar();
+            next = peekChar();
+        }
+        tokenLine = line;
+        tokenColumn = column;
+        return next;
+    }
+
+    /**
+     * Consumes a string, starting at its opening quote, resolving escapes.
+     *
+     * @return the string
+     * @throws IOException if the string is malformed
+     */
+    private String readString() throws IOException {
+        readChar();  // opening quote
+        text.setLength(0);
+        while (true){
+            int c = readChar();
+            if (c == -1){
+                throw formatError("Unterminated string");
+            } else if (c == '"'){
+                return text.toString();
+            } else if (c == '\\'){
+                int escaped = readChar();
+                switch (escaped){
+                    case '"', '\\', '/' -> text.append((char) escaped);
+                    case 'b' -> text.append('\b');
+                    case 'f' -> text.append('\f');
+                    case 'n' -> text.append('\n');
+                    case 'r' -> text.append('\r');
+                    case 't' -> text.append('\t');
+                    case 'u' -> text.append(readUnicodeEscape());
+                    default -> throw new JsonFormatException("Invalid escape", line, column - 1);
+                }
+            } else if (c < 0x20){
+                throw new JsonFormatException("Control character in string", line, column - 1);
+            } else {
+                text.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Consumes the four hexadecimal digits of a unicode escape.
+     *
+     * @return the character escaped
+     * @throws IOException if the digits are malformed
+     */
+    private char readUnicodeEscape() throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++){
+            int digit = Character.digit(readChar(), 16);
+            if (digit < 0){
+                throw new JsonFormatException("Invalid unicode escape", line, column - 1);
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    /**
+     * Consumes an unquoted value, such as a number or {@code true}.
+     *
+     * @return the text of the value
+     * @throws IOException if there is no such value
+     */
+    private String readLiteral() throws IOException {
+        text.setLength(0);
+        int c = peekChar();
+        while (c != -1 && (Character.isLetterOrDigit(c) || c == '-' || c == '+' || c == '.')){
+            text.append((char) readChar());
+            c = peekChar();
+        }
+        if (text.length() == 0){
+            throw formatError("Expected a value");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Returns the next character without consuming it, refilling the buffer when needed.
+     *
+     * @return the character, or -1 at the end of the text
+     * @throws IOException if the text could not be read
+     */
+    private int peekChar() throws IOException {
+        if (position == limit){
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0){
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position];
+    }
+
+    /**
+     * Consumes the next character, keeping track of line and column.
+     *
+     * @return the character, or -1 at the end of the text
+     * @throws IOException if the text could not be read
+     */
+    private int readChar() throws IOException {
+        int c = peekChar();
+        if (c == -1){
+            return -1;
+        }
+        position++;
+        if (c == '\n'){
+            line++;
+            column = 1;
+        } else {
+            column++;
+        }
+        return c;
+    }
+}
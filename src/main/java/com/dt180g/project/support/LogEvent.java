@@ -0,0 +1,444 @@
+package com.dt180g.project.support;
+
+/**
+ * The {@code LogEvent} class represents a single entry logged through the {@link ActivityLogger}.
+ * Events are preallocated slots of the logger's ring buffer and are reused once consumed,
+ * so sinks must not keep a reference to an event after {@link LogSink#write(LogEvent)} has returned.
+ *
+ * <p>Combat activity is recorded as structured fields: primitives, the id of the character involved
+ * and references to names that already exist. The text of an entry is only rendered when a sink
+ * calls {@link #getMessage()}, so entries nobody reads are never formatted.
+ *
+ * @author Daniel Jönsson
+ * @see ActivityLogger
+ * @see LogSink
+ * @version 1.0
+ */
+public final class LogEvent {
+
+    /**
+     * The type of a logged entry, stating how it is presented.
+     */
+    public enum Type {
+        /** Information about a new campaign. */
+        CAMPAIGN("", AppConfig.ANSI_PURPLE),
+        /** Information about a new round. */
+        ROUND("", AppConfig.ANSI_PURPLE),
+        /** Information about the character whose turn it is. */
+        TURN("\n", AppConfig.ANSI_BLUE),
+        /** Information about an attack or ability used. */
+        ATTACK("\t", AppConfig.ANSI_GREEN),
+        /** Information about damage taken. */
+        DAMAGE("\t\t", AppConfig.ANSI_YELLOW),
+        /** Information about a character dying. */
+        DEATH("\t\t", AppConfig.ANSI_RED),
+        /** Information about healing received. */
+        HEALING("\t\t", AppConfig.ANSI_GREEN);
+
+        /**Instance field variables*/
+        private final String indentation;
+        private final String color;
+
+        /**
+         * Constructs a type of entry.
+         *
+         * @param indentation the text preceding the message
+         * @param color       the ANSI color of the message
+         */
+        Type(String indentation, String color){
+            this.indentation = indentation;
+            this.color = color;
+        }
+
+        /**
+         * Returns the text preceding messages of this type.
+         *
+         * @return the indentation
+         */
+        public String getIndentation(){
+            return indentation;
+        }
+
+        /**
+         * Returns the ANSI color of messages of this type.
+         *
+         * @return the color code
+         */
+        public String getColor(){
+            return color;
+        }
+    }
+
+    /**
+     * How the fields of an entry are rendered as text.
+     */
+    private enum Layout { TEXT, CAMPAIGN, ROUND, TURN, ABILITY, HIT, HEALING }
+
+    /**Instance field variables*/
+    private Type type;
+    private Layout layout;
+    private String text;            // plain message, or description of the ability used
+    private int characterId;        // character taking the turn, or target of a hit or healing
+    private String characterName;
+    private boolean hero;           // whether the character is a hero, or whether an ability targets heroes
+    private boolean critical;
+    private int amount;             // targets of an ability, deflected damage or healing received
+    private int directHit;
+    private int hitPoints;
+    private int actionPoints;
+    private int energy;
+    private int level;
+    private int round;
+    private int heroes;
+    private int enemies;
+    private long campaign;
+    private long seed;
+
+    /**
+     * Constructs an empty event, used to fill the ring buffer of the logger.
+     */
+    LogEvent(){ }
+
+    /**
+     * Fills the event with an entry consisting of a plain message.
+     *
+     * @param type    the type of entry
+     * @param message the message of the entry
+     */
+    void set(Type type, String message){
+        this.type = type;
+        this.layout = Layout.TEXT;
+        this.text = message;
+    }
+
+    /**
+     * Fills the event with the start of a new campaign.
+     *
+     * @param campaign the index of the campaign
+     * @param seed     the seed of the campaign
+     */
+    void setCampaign(long campaign, long seed){
+        this.type = Type.CAMPAIGN;
+        this.layout = Layout.CAMPAIGN;
+        this.campaign = campaign;
+        this.seed = seed;
+    }
+
+    /**
+     * Fills the event with the start of a new round.
+     *
+     * @param level   the current dungeon level
+     * @param round   the round within the level
+     * @param heroes  the amount of remaining heroes
+     * @param enemies the amount of remaining enemies
+     */
+    void setRound(int level, int round, int heroes, int enemies){
+        this.type = Type.ROUND;
+        this.layout = Layout.ROUND;
+        this.level = level;
+        this.round = round;
+        this.heroes = heroes;
+        this.enemies = enemies;
+    }
+
+    /**
+     * Fills the event with the start of a character's turn.
+     *
+     * @param characterId   the id of the character
+     * @param characterName the name of the character
+     * @param hero          whether the character is a hero
+     * @param actionPoints  the current action points of the character
+     * @param hitPoints     the current hit points of the character
+     * @param energy        the current energy level of the character
+     */
+    void setTurn(int characterId, String characterName, boolean hero, int actionPoints, int hitPoints, int energy){
+        this.type = Type.TURN;
+        this.layout = Layout.TURN;
+        this.characterId = characterId;
+        this.characterName = characterName;
+        this.hero = hero;
+        this.actionPoints = actionPoints;
+        this.hitPoints = hitPoints;
+        this.energy = energy;
+    }
+
+    /**
+     * Fills the event with an ability being used.
+     *
+     * @param information     the description of the ability
+     * @param amountOfTargets the amount of targets of the ability
+     * @param targetHeroes    whether the ability targets heroes
+     */
+    void setAbility(String information, int amountOfTargets, boolean targetHeroes){
+        this.type = Type.ATTACK;
+        this.layout = Layout.ABILITY;
+        this.text = information;
+        this.amount = amountOfTargets;
+        this.hero = targetHeroes;
+    }
+
+    /**
+     * Fills the event with damage taken by a character, which is a death if no hit points remain.
+     *
+     * @param characterId   the id of the target
+     * @param characterName the name of the target
+     * @param critical      whether the hit was critical
+     * @param deflected     the amount of damage deflected
+     * @param directHit     the amount of damage taken
+     * @param hitPoints     the hit points left after the hit
+     */
+    void setHit(int characterId, String characterName, boolean critical, int deflected, int directHit, int hitPoints){
+        this.type = (hitPoints < 1) ? Type.DEATH : Type.DAMAGE;
+        this.layout = Layout.HIT;
+        this.characterId = characterId;
+        this.characterName = characterName;
+        this.critical = critical;
+        this.amount = deflected;
+        this.directHit = directHit;
+        this.hitPoints = hitPoints;
+    }
+
+    /**
+     * Fills the event with healing received by a character.
+     *
+     * @param characterId   the id of the target
+     * @param characterName the name of the target
+     * @param critical      whether the healing was critical
+     * @param healing       the amount of healing received
+     * @param hitPoints     the hit points after the healing
+     */
+    void setHealing(int characterId, String characterName, boolean critical, int healing, int hitPoints){
+        this.type = Type.HEALING;
+        this.layout = Layout.HEALING;
+        this.characterId = characterId;
+        this.characterName = characterName;
+        this.critical = critical;
+        this.amount = healing;
+        this.hitPoints = hitPoints;
+    }
+
+    /**
+     * Clears the references of the event after it has been consumed, so they can be garbage collected.
+     */
+    void clear(){
+        this.text = null;
+        this.characterName = null;
+    }
+
+    /**
+     * Returns the type of the entry.
+     *
+     * @return the type
+     */
+    public Type getType(){
+        return type;
+    }
+
+    /**
+     * Checks if the entry is structured, or consists of a plain message only.
+     *
+     * @return true if the entry has structured fields
+     */
+    public boolean isStructured(){
+        return layout != Layout.TEXT;
+    }
+
+    /**
+     * Returns the id of the character involved, unique within its battle.
+     *
+     * @return the id of the character taking the turn, or of the target of a hit or healing
+     */
+    public int getCharacterId(){
+        return characterId;
+    }
+
+    /**
+     * Returns the name of the character involved.
+     *
+     * @return the name of the character taking the turn, or of the target of a hit or healing
+     */
+    public String getCharacterName(){
+        return characterName;
+    }
+
+    /**
+     * Checks if the character taking the turn is a hero, or if an ability targets heroes.
+     *
+     * @return true for heroes, false for enemies
+     */
+    public boolean isHero(){
+        return hero;
+    }
+
+    /**
+     * Checks if a hit or healing was critical.
+     *
+     * @return true if critical
+     */
+    public boolean isCritical(){
+        return critical;
+    }
+
+    /**
+     * Returns the amount of an entry: targets of an ability, deflected damage of a hit or healing received.
+     *
+     * @return the amount
+     */
+    public int getAmount(){
+        return amount;
+    }
+
+    /**
+     * Returns the damage taken as direct hit.
+     *
+     * @return the direct hit
+     */
+    public int getDirectHit(){
+        return directHit;
+    }
+
+    /**
+     * Returns the hit points of the character involved.
+     *
+     * @return the hit points
+     */
+    public int getHitPoints(){
+        return hitPoints;
+    }
+
+    /**
+     * Returns the action points of the character taking the turn.
+     *
+     * @return the action points
+     */
+    public int getActionPoints(){
+        return actionPoints;
+    }
+
+    /**
+     * Returns the energy level of the character taking the turn.
+     *
+     * @return the energy level
+     */
+    public int getEnergy(){
+        return energy;
+    }
+
+    /**
+     * Returns the dungeon level of a new round.
+     *
+     * @return the dungeon level
+     */
+    public int getLevel(){
+        return level;
+    }
+
+    /**
+     * Returns the number of a new round within its dungeon level.
+     *
+     * @return the round
+     */
+    public int getRound(){
+        return round;
+    }
+
+    /**
+     * Returns the amount of remaining heroes at the start of a new round.
+     *
+     * @return the amount of heroes
+     */
+    public int getHeroes(){
+        return heroes;
+    }
+
+    /**
+     * Returns the amount of remaining enemies at the start of a new round.
+     *
+     * @return the amount of enemies
+     */
+    public int getEnemies(){
+        return enemies;
+    }
+
+    /**
+     * Returns the index of a new campaign.
+     *
+     * @return the campaign index
+     */
+    public long getCampaign(){
+        return campaign;
+    }
+
+    /**
+     * Returns the seed of a new campaign, which reproduces the campaign when used for a {@code GameEngine}.
+     *
+     * @return the seed
+     */
+    public long getSeed(){
+        return seed;
+    }
+
+    /**
+     * Returns the plain message of the entry, or the description of the ability used.
+     *
+     * @return the text of the entry, null for other structured entries
+     */
+    public String getText(){
+        return text;
+    }
+
+    /**
+     * Renders the message of the entry, without decoration.
+     *
+     * @return the message
+     */
+    public String getMessage(){
+        return switch (layout){
+            case TEXT -> text;
+            case CAMPAIGN -> String.format("%nCAMPAIGN %d | SEED %d", campaign, seed);
+            case ROUND -> {
+                String filler = "*".repeat(15);
+                yield String.format("%n%s DUNGEON LEVEL %d | ROUND %d | %d HEROES | %d ENEMIES %s",
+                        filler, level, round, heroes, enemies, filler);
+            }
+            case TURN -> String.format("[%s TURN] %s | %d AP | %d HP | %d Energy",
+                    hero ? AppConfig.CHARACTER_TYPE_HERO : AppConfig.CHARACTER_TYPE_ENEMY,
+                    characterName, actionPoints, hitPoints, energy);
+            case ABILITY -> String.format("%s targeting %d %s", text, amount,
+                    hero ? ((amount == 1) ? "hero" : "heroes") : ((amount == 1) ? "enemy" : "enemies"));
+            case HIT -> String.format("%s deflects %d points of damage taking %d as direct hit",
+                    getTargetInfo(), amount, directHit)
+                    + ((hitPoints < 1) ? String.format(" causing death (%d HP)", hitPoints)
+                    : String.format(" and has %d HP left", hitPoints));
+            case HEALING -> String.format("%s receives %+d points of healing and has %d HP left",
+                    getTargetInfo(), amount, hitPoints);
+        };
+    }
+
+    /**
+     * Renders the start of a message about a target.
+     *
+     * @return the name of the target, prefixed if the hit was critical
+     */
+    private String getTargetInfo(){
+        return (critical ? "[CRITICAL HIT] " : "") + characterName;
+    }
+
+    /**
+     * Returns the message decorated with indentation and ANSI colors, as presented in a terminal.
+     *
+     * @return the decorated message
+     */
+    public String toColoredText(){
+        return type.getIndentation() + type.getColor() + getMessage() + AppConfig.ANSI_RESET;
+    }
+
+    /**
+     * Returns the message with indentation but without ANSI colors, as written to files.
+     *
+     * @return the plain message
+     */
+    public String toPlainText(){
+        return type.getIndentation() + getMessage();
+    }
+}
@@ -0,0 +1,102 @@
+package com.dt180g.project.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free ring buffer of preallocated {@link LogEvent} slots, used by the {@link ActivityLogger}.
+ * Supports exactly one producer thread, which claims and publishes slots, and one consumer thread,
+ * which reads published slots and releases them. Positions only grow, and are mapped to slots by masking,
+ * so the capacity is always a power of two.
+ *
+ * @author Daniel Jönsson
+ * @see ActivityLogger
+ * @version 1.0
+ */
+final class LogRingBuffer {
+    /**Instance field variables*/
+    private final LogEvent[] slots;
+    private final int mask;
+    private final AtomicLong published = new AtomicLong();  // next position to be written by the producer
+    private final AtomicLong consumed = new AtomicLong();   // next position to be read by the consumer
+    private long cachedConsumed;                            // producer-local copy, to avoid reading the atomic
+
+    /**
+     * Constructs a ring buffer holding at least the given amount of entries.
+     *
+     * @param minCapacity the smallest acceptable capacity
+     */
+    LogRingBuffer(int minCapacity){
+        int capacity = Integer.highestOneBit(Math.max(2, minCapacity - 1)) << 1;
+        this.slots = new LogEvent[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++){
+            slots[i] = new LogEvent();
+        }
+    }
+
+    /**
+     * Returns the amount of entries the buffer holds.
+     *
+     * @return the capacity
+     */
+    int getCapacity(){
+        return slots.length;
+    }
+
+    /**
+     * Claims the next free slot. Only called by the producer, which must fill the slot and then
+     * call {@link #publish()} before claiming another one.
+     *
+     * @return the slot to fill, or null if the buffer is full
+     */
+    LogEvent claim(){
+        long position = published.get();
+        if (position - cachedConsumed >= slots.length){
+            cachedConsumed = consumed.get();
+            if (position - cachedConsumed >= slots.length){
+                return null;
+            }
+        }
+        return slots[(int) position & mask];
+    }
+
+    /**
+     * Makes the last claimed slot visible to the consumer. Only called by the producer.
+     */
+    void publish(){
+        published.lazySet(published.get() + 1);
+    }
+
+    /**
+     * Returns the amount of published entries that the consumer has not released yet.
+     *
+     * @return the amount of pending entries
+     */
+    long pending(){
+        return published.get() - consumed.get();
+    }
+
+    /**
+     * Returns the slot at the given offset from the oldest unreleased entry. Only called by the consumer,
+     * for offsets smaller than {@link #pending()}.
+     *
+     * @param offset the offset from the oldest entry
+     * @return the published slot
+     */
+    LogEvent peek(long offset){
+        return slots[(int) (consumed.get() + offset) & mask];
+    }
+
+    /**
+     * Releases the given amount of the oldest entries, making their slots available to the producer.
+     * Only called by the consumer.
+     *
+     * @param amount the amount of entries to release
+     */
+    void release(long amount){
+        for (long i = 0; i < amount; i++){
+            peek(i).clear();
+        }
+        consumed.lazySet(consumed.get() + amount);
+    }
+}
@@ -0,0 +1,42 @@
+package com.dt180g.project.support;
+
+import java.io.IOException;
+
+/**
+ * Destination of entries logged through the {@link ActivityLogger}.
+ * Sinks are only called from the consumer thread of the logger, one batch at a time:
+ * every event of a batch is passed to {@link #write(LogEvent)}, followed by a single {@link #flush()}.
+ *
+ * @author Daniel Jönsson
+ * @see ConsoleSink
+ * @see FileSink
+ * @see NullSink
+ * @version 1.0
+ */
+public interface LogSink {
+
+    /**
+     * Writes a logged entry. The event is reused after the call, so it must not be referenced afterwards.
+     *
+     * @param event the entry to write
+     * @throws IOException if the entry could not be written
+     */
+    void write(LogEvent event) throws IOException;
+
+    /**
+     * Flushes entries written so far to their destination.
+     *
+     * @throws IOException if the entries could not be flushed
+     */
+    void flush() throws IOException;
+
+    /**
+     * Checks if entries should be written one at a time, followed by the sleep delay,
+     * so that a person can follow the battle as it is written.
+     *
+     * @return true if the logger should pace its output, false by default
+     */
+    default boolean isPaced(){
+        return false;
+    }
+}
@@ -0,0 +1,120 @@
+package com.dt180g.project.support;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of non-negative values, e.g. durations in nanoseconds, used by the {@link EngineMetrics}.
+ * Values are counted in buckets of powers of two, bucket {@code b} holding values below {@code 2^b} and not below
+ * {@code 2^(b-1)}, so percentiles are estimated to within a factor of two using a fixed amount of memory.
+ * Every bucket is a {@link LongAdder}, so many threads can record values at once without contending.
+ *
+ * @author Daniel Jönsson
+ * @see EngineMetrics
+ * @version 1.0
+ */
+public final class MetricsHistogram {
+    /** Amount of buckets, one for 0 and one for every bit length of a long value. */
+    public static final int BUCKETS = Long.SIZE + 1;
+
+    /**Instance field variables*/
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public MetricsHistogram(){
+        for (int i = 0; i < buckets.length; i++){
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a value, negative values being counted as 0.
+     *
+     * @param value the value to record
+     */
+    public void record(long value){
+        long recorded = Math.max(0, value);
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(recorded)].increment();
+        sum.add(recorded);
+    }
+
+    /**
+     * Returns the amount of values recorded.
+     *
+     * @return the amount of values
+     */
+    public long getCount(){
+        long count = 0;
+        for (LongAdder bucket : buckets){
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of the values recorded.
+     *
+     * @return the sum
+     */
+    public long getSum(){
+        return sum.sum();
+    }
+
+    /**
+     * Returns the mean of the values recorded.
+     *
+     * @return the mean, 0 if nothing is recorded
+     */
+    public double getMean(){
+        long count = getCount();
+        return count == 0 ? 0 : (double) getSum() / count;
+    }
+
+    /**
+     * Estimates a percentile of the values recorded, as the upper bound of the bucket holding it.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the estimated value, 0 if nothing is recorded
+     */
+    public long getPercentile(double percentile){
+        long[] counts = getBuckets();
+        long count = 0;
+        for (long bucketCount : counts){
+            count += bucketCount;
+        }
+        long rank = (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100);
+        long seen = 0;
+        for (int b = 0; b < counts.length; b++){
+            seen += counts[b];
+            if (seen >= rank && seen > 0){
+                return b == Long.SIZE ? Long.MAX_VALUE : (1L << b) - 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the amount of values recorded in every bucket.
+     *
+     * @return the counts, indexed by bucket
+     */
+    public long[] getBuckets(){
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++){
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Removes all values recorded. Values recorded concurrently may or may not be kept.
+     */
+    public void reset(){
+        for (LongAdder bucket : buckets){
+            bucket.reset();
+        }
+        sum.reset();
+    }
+}
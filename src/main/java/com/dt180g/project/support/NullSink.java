@@ -0,0 +1,31 @@
+package com.dt180g.project.support;
+
+/**
+ * The {@code NullSink} discards every logged entry.
+ * Used when activity should be consumed without being presented anywhere.
+ *
+ * @author Daniel Jönsson
+ * @see LogSink
+ * @version 1.0
+ */
+public final class NullSink implements LogSink {
+    /**Instance field variables*/
+    public static final NullSink INSTANCE = new NullSink();
+
+    /**
+     * Private constructor, the sink is stateless and shared through {@code INSTANCE}.
+     */
+    private NullSink(){ }
+
+    /**{@inheritDoc}*/
+    @Override
+    public void write(LogEvent event){
+        // discarded
+    }
+
+    /**{@inheritDoc}*/
+    @Override
+    public void flush(){
+        // nothing to flush
+    }
+}
@@ -0,0 +1,110 @@
+package com.dt180g.project.support;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seedable source of random numeric values, backed by a {@link SplittableRandom}.
+ * A source is not thread-safe and should be confined to a single simulation. Independent
+ * sources for parallel simulations are produced by {@link #split()} or by deriving seeds with
+ * {@link #deriveSeed(long, long)}, so no generator state is shared between threads.
+ * @author Daniel Jönsson
+ * @see Randomizer
+ */
+public final class RandomSource {
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;  // golden ratio, spreads derived seeds
+    private final SplittableRandom generator;
+
+    /**
+     * Constructor creating a reproducible source.
+     * @param seed the seed of the source.
+     */
+    public RandomSource(final long seed) { this(new SplittableRandom(seed)); }
+
+    /**
+     * Constructor creating a source seeded from system entropy.
+     */
+    public RandomSource() { this(new SplittableRandom()); }
+
+    /**
+     * Constructor used internally to wrap a generator.
+     * @param generator the generator to draw values from.
+     */
+    private RandomSource(final SplittableRandom generator) { this.generator = generator; }
+
+    /**
+     * Used to derive the seed of an independent source, e.g. for a specific campaign in a batch.
+     * The derived seed only depends on its arguments, not on the order sources are created in.
+     * @param seed the seed of the batch.
+     * @param index index of the derived source.
+     * @return seed for the derived source.
+     */
+    public static long deriveSeed(final long seed, final long index) {
+        return new SplittableRandom(seed + index * SEED_GAMMA).nextLong();
+    }
+
+    /**
+     * Used to produce a new source, statistically independent of this one.
+     * @return the new source.
+     */
+    public RandomSource split() { return new RandomSource(generator.split()); }
+
+    /**
+     * Used to draw a random long, e.g. for seeding other sources.
+     * @return randomised numeric value.
+     */
+    public long nextLong() { return generator.nextLong(); }
+
+    /**
+     * Used by clients to retrieve random numeric value, stating upper bound.
+     * @param max upper bound for randomisation (inclusive).
+     * @return randomised numeric value.
+     */
+    public int getRandomValue(final int max) { return getRandomValue(0, max); }
+
+    /**
+     * Used by clients to retrieve random numeric value, stating both lower and upper bound.
+     * @param min lower bound for randomisation (inclusive).
+     * @param max upper bound for randomisation (inclusive).
+     * @return randomised numeric value.
+     */
+    public int getRandomValue(final int min, final int max) {
+        int bounds = (max - min) + 1;  // the bounds needs to be within interval min - max
+        return generator.nextInt(bounds) + min;
+    }
+
+    /**
+     * Used to draw distinct values below a bound, without replacement, using Floyd's algorithm.
+     * Values are written to the given buffer, so nothing is allocated. Every subset of values is equally likely,
+     * and the amount of draws only depends on the amount of values, not on the bound.
+     * @param into buffer receiving the values in its first slots, at least as large as the amount drawn.
+     * @param amount the amount of values wanted.
+     * @param bound upper bound of the values (exclusive).
+     * @return the amount of values drawn, which is the smaller of {@code amount} and {@code bound}.
+     */
+    public int sampleDistinct(final int[] into, final int amount, final int bound) {
+        int count = Math.min(amount, bound);
+        int drawn = 0;
+        for (int j = bound - count; j < bound; j++) {
+            int value = generator.nextInt(j + 1);
+            into[drawn] = contains(into, drawn, value) ? j : value;  // j itself cannot have been drawn yet
+            drawn++;
+        }
+        return count;
+    }
+
+    /**
+     * Used internally to check whether a value is among the first values of a buffer.
+     * @param values the buffer.
+     * @param length the amount of values to check.
+     * @param value the value to look for.
+     * @return whether the value is found.
+     */
+    private static boolean contains(final int[] values, final int length, final int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,24 +1,45 @@
 package com.dt180g.project.support;
 
-import java.util.Random;
-
 /**
  * Support class used for randomising numeric values.
+ * Values are drawn from the {@link RandomSource} bound to the calling thread, so simulations running
+ * in parallel never contend for the same generator. A game engine binds its own seeded source while
+ * it creates characters, making gear and stat rolls reproducible. Threads without a bound source
+ * get a source of their own, split from a common root.
  * @author Erik Ström
  */
 public enum Randomizer {
     INSTANCE;
-    private final Random generator = new Random();
+    private final RandomSource root = new RandomSource();
+    private final ThreadLocal<RandomSource> current = ThreadLocal.withInitial(this::splitRoot);
 
     /**
-     * Used internally by Randomizer to produce random number within stated bounds.
-     * @param min lower bound for randomisation.
-     * @param max upper bound for randomisation.
-     * @return randomised numeric value.
+     * Used internally by Randomizer to produce a default source for a thread.
+     * @return a new source, independent of all other default sources.
+     */
+    private RandomSource splitRoot() {
+        synchronized (root) {  // splitting mutates the root, which is shared between threads
+            return root.split();
+        }
+    }
+
+    /**
+     * Used to bind a source to the calling thread, typically restoring the previous one when done.
+     * @param source the source to draw values from on this thread.
+     * @return the source previously bound to this thread.
      */
-    private int produceRandomValue(final int min, final int max) {
-        int bounds = (max - min) + 1;  // the bounds needs to be within interval min - max
-        return generator.nextInt(bounds) + min;
+    public RandomSource bind(final RandomSource source) {
+        RandomSource previous = current.get();
+        current.set(source);
+        return previous;
+    }
+
+    /**
+     * Used to access the source bound to the calling thread.
+     * @return the bound source.
+     */
+    public RandomSource getSource() {
+        return current.get();
     }
 
     /**
@@ -27,7 +48,7 @@ public enum Randomizer {
      * @return randomised numeric value.
      */
     public int getRandomValue(final int max) {
-        return produceRandomValue(0, max);
+        return current.get().getRandomValue(max);
     }
 
     /**
@@ -37,8 +58,6 @@ public enum Randomizer {
      * @return randomised numeric value.
      */
     public int getRandomValue(final int min, final int max) {
-        return produceRandomValue(min, max);
+        return current.get().getRandomValue(min, max);
     }
-
-
 }
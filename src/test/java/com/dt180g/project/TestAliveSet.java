@@ -0,0 +1,65 @@
+package com.dt180g.project;
+
+import com.dt180g.project.characters.enemies.BaseEnemy;
+import com.dt180g.project.characters.enemies.SkeletonWarrior;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestAliveSet {
+
+    private List<BaseEnemy> joinedEnemies(GameEngine engine, int amount) {
+        List<BaseEnemy> enemies = new ArrayList<>();
+        for (int i = 1; i <= amount; i++) {
+            BaseEnemy enemy = new SkeletonWarrior(i);
+            enemy.joinBattle(engine);
+            enemies.add(enemy);
+        }
+        return enemies;
+    }
+
+    @Test
+    public void testSwapRemove() {
+        List<BaseEnemy> enemies = joinedEnemies(new GameEngine(1L), 20);
+        AliveSet<BaseEnemy> set = new AliveSet<>();
+        set.addAll(enemies);
+
+        BaseEnemy first = enemies.get(0);
+        BaseEnemy last = enemies.get(19);
+        boolean removed = set.remove(first);
+        boolean removedAgain = set.remove(first);
+        set.removeIf(enemy -> enemies.indexOf(enemy) % 2 == 1);
+
+        assertAll("Validate that removal moves the last character into the freed position",
+                () -> assertTrue(removed),
+                () -> assertFalse(removedAgain),
+                () -> assertEquals(9, set.size()),
+                () -> assertFalse(set.contains(first)),
+                () -> assertFalse(set.contains(last)),
+                () -> assertSame(enemies.get(18), set.get(0)),
+                () -> assertEquals(new HashSet<>(enemies.subList(2, 19)).stream()
+                        .filter(enemy -> enemies.indexOf(enemy) % 2 == 0).count(), set.stream().distinct().count()),
+                () -> set.forEach(enemy -> assertEquals(enemy, set.get(set.indexOf(enemy))))
+        );
+    }
+
+    @Test
+    public void testOnlyJoinedCharactersAreHeld() {
+        AliveSet<BaseEnemy> set = new AliveSet<>();
+        BaseEnemy outsider = new SkeletonWarrior(1);
+        assertAll("Validate that characters must join a battle to be indexed",
+                () -> assertThrows(IllegalArgumentException.class, () -> set.add(outsider)),
+                () -> assertEquals(-1, set.indexOf(outsider)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> set.get(0))
+        );
+    }
+}
@@ -0,0 +1,85 @@
+package com.dt180g.project;
+
+import com.dt180g.project.characters.BaseCharacter;
+import com.dt180g.project.support.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TestTurnScheduler {
+
+    private List<BaseCharacter> sortedByActionPoints(List<BaseCharacter> characters) {
+        List<BaseCharacter> output = new ArrayList<>(characters);
+        output.sort(Comparator.comparingInt(BaseCharacter::getActionPoints).reversed());
+        return output;
+    }
+
+    private List<BaseCharacter> playRound(TurnScheduler scheduler, RandomSource random) {
+        List<BaseCharacter> order = new ArrayList<>();
+        scheduler.startRound();
+        BaseCharacter character;
+        while ((character = scheduler.nextTurn()) != null) {
+            order.add(character);
+            character.getCharacterStats().adjustActionPoints(-random.getRandomValue(3));
+            scheduler.endTurn(character);
+        }
+        return order;
+    }
+
+    @Test
+    public void testOrderMatchesStableSort() {
+        GameEngine engine = new GameEngine(3L);
+        engine.produceEnemies(12, false);
+        RandomSource random = new RandomSource(3L);
+        List<BaseCharacter> characters = engine.getAllCharacters();
+        TurnScheduler scheduler = new TurnScheduler();
+        scheduler.reset(characters);
+
+        List<BaseCharacter> expectedFirst = sortedByActionPoints(characters);
+        List<BaseCharacter> first = playRound(scheduler, random);
+        List<BaseCharacter> expectedSecond = sortedByActionPoints(characters);
+        List<BaseCharacter> second = playRound(scheduler, random);
+
+        assertAll("Validate that turns follow action points, ties resolved in scheduling order",
+                () -> assertEquals(expectedFirst, first),
+                () -> assertEquals(expectedSecond, second),
+                () -> assertEquals(characters.size(), scheduler.size())
+        );
+    }
+
+    @Test
+    public void testRemovedCharactersDoNotAct() {
+        GameEngine engine = new GameEngine(5L);
+        engine.produceEnemies(6, false);
+        List<BaseCharacter> characters = engine.getAllCharacters();
+        TurnScheduler scheduler = new TurnScheduler();
+        scheduler.reset(characters);
+        scheduler.startRound();
+
+        BaseCharacter actor = scheduler.nextTurn();
+        scheduler.endTurn(actor);
+        List<BaseCharacter> remaining = new ArrayList<>(sortedByActionPoints(characters));
+        remaining.remove(actor);
+        BaseCharacter waiting = remaining.remove(remaining.size() - 1);
+        scheduler.remove(waiting);  // still to act in this round
+        scheduler.remove(actor);    // already acted, scheduled for the next round
+
+        List<BaseCharacter> rest = new ArrayList<>();
+        BaseCharacter character;
+        while ((character = scheduler.nextTurn()) != null) {
+            rest.add(character);
+        }
+
+        assertAll("Validate that removed characters are dropped from both rounds",
+                () -> assertEquals(remaining, rest),
+                () -> assertEquals(0, scheduler.size()),
+                () -> assertNull(scheduler.nextTurn())
+        );
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TestAbilities {
@@ -143,4 +144,22 @@ public class TestAbilities {
                 () -> assertFalse(ability.isHeal())
         );
     }
+
+    @Test
+    public void testAbilityDescriptor() {
+        BaseAbility ability = new ElementalBolt(AppConfig.ELEMENT_ICE);
+        AbilityDescriptor descriptor = ability.getDescriptor();
+        String expectedInfo = String.format("%s (-%d AP, -%d %s)", ability, AppConfig.MEDIUM_AP_COST,
+                AppConfig.LOW_ENERGY_COST, AppConfig.TRAIT_ENERGY);
+        assertAll("Validate that the descriptor mirrors its ability and is created once",
+                () -> assertSame(descriptor, ability.getDescriptor()),
+                () -> assertEquals(ability.toString(), descriptor.getName()),
+                () -> assertEquals(expectedInfo, descriptor.getInformation()),
+                () -> assertEquals(ability.getActionPointCost(), descriptor.getActionPointCost()),
+                () -> assertEquals(ability.getEnergyCost(), descriptor.getEnergyCost()),
+                () -> assertEquals(ability.getAmountOfTargets(), descriptor.getAmountOfTargets()),
+                () -> assertTrue(descriptor.isMagic()),
+                () -> assertFalse(descriptor.isHeal())
+        );
+    }
 }
@@ -0,0 +1,65 @@
+package com.dt180g.project.characters;
+
+import com.dt180g.project.abilities.BaseAbility;
+import com.dt180g.project.abilities.ElementalBlast;
+import com.dt180g.project.abilities.HeavyAttack;
+import com.dt180g.project.abilities.WeaponAttack;
+import com.dt180g.project.support.AppConfig;
+import com.dt180g.project.support.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestActionPlanner {
+    private final List<BaseAbility> abilities = List.of(
+            new WeaponAttack(), new HeavyAttack(), new ElementalBlast(AppConfig.ELEMENT_FIRE));
+
+    @Test
+    public void testPlannedAbilitiesAreAffordable() {
+        ActionPlanner planner = new ActionPlanner(abilities);
+        RandomSource random = new RandomSource(11);
+        BaseAbility[] plan = new BaseAbility[AppConfig.ACTIONS_PER_TURN];
+        for (int turn = 0; turn < 1000; turn++) {
+            int actionPoints = random.getRandomValue(20);
+            int energyLevel = random.getRandomValue(20);
+            int planned = planner.planTurn(random, actionPoints, energyLevel, plan);
+            for (int i = 0; i < planned; i++) {
+                actionPoints -= plan[i].getActionPointCost();
+                energyLevel -= plan[i].getEnergyCost();
+                assertTrue(actionPoints >= 0 && energyLevel >= 0);
+            }
+            int pointsLeft = actionPoints;
+            int energyLeft = energyLevel;
+            boolean exhausted = abilities.stream().noneMatch(ability -> ability.getActionPointCost() <= pointsLeft
+                    && ability.getEnergyCost() <= energyLeft);
+            assertTrue(planned == plan.length || exhausted);
+        }
+    }
+
+    @Test
+    public void testWeightsSteerTheDraws() {
+        ActionPlanner planner = new ActionPlanner(abilities, ability -> ability instanceof HeavyAttack ? 0
+                : ability instanceof WeaponAttack ? 3 : 1);
+        RandomSource random = new RandomSource(5);
+        BaseAbility[] plan = new BaseAbility[1];
+        int[] draws = new int[abilities.size()];
+        for (int turn = 0; turn < 8000; turn++) {
+            planner.planTurn(random, 100, 100, plan);
+            draws[abilities.indexOf(plan[0])]++;
+        }
+        assertAll("Validate that abilities are drawn in proportion to their weights",
+                () -> assertEquals(0, draws[1]),
+                () -> assertTrue(draws[0] > 5700 && draws[0] < 6300),
+                () -> assertEquals(0, planner.planTurn(random, 0, 100, plan)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ActionPlanner(abilities, ability -> -1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ActionPlanner(
+                        Collections.nCopies(ActionPlanner.MAX_ABILITIES + 1, abilities.get(0))))
+        );
+    }
+}
@@ -140,4 +140,26 @@ public class TestCharacterCreation {
                         WeaponAttack.class, FocusedHeal.class, GroupHeal.class), 3)
         );
     }
+
+    /* MAKE SURE DAMAGE IS SPLIT INTO DEFLECTED AND DIRECT HIT */
+
+    @Test
+    public void testRegisterDamage() {
+        BaseCharacter character = new Warrior(heroName);
+        int defence = character.getCharacterStats().getDefenceRate();
+        int protection = character.getEquipment().getTotalArmorProtection();
+        int hitPoints = character.getHitPoints();
+        int damage = defence + protection + 10;
+
+        int physicalHit = character.registerDamage(damage, false);
+        int magicalHit = character.registerDamage(damage, true);
+        int deflectedHit = character.registerDamage(1, false);
+
+        assertAll("Validate that armor only protects against physical damage",
+                () -> assertEquals(10, physicalHit),
+                () -> assertEquals(protection + 10, magicalHit),
+                () -> assertEquals(0, deflectedHit),
+                () -> assertEquals(hitPoints - physicalHit - magicalHit, character.getHitPoints())
+        );
+    }
 }
@@ -69,6 +69,19 @@ public class TestCharacterStats {
         );
     }
 
+    @Test
+    public void testCombatStatsFollowModifiers() {
+        characterStats.getPhysicalPower();
+        characterStats.getCurrentActionPoints();
+        characterStats.adjustStatStaticModifier(AppConfig.ATTRIBUTE_STRENGTH, 12);
+        characterStats.adjustStatDynamicModifier(AppConfig.TRAIT_ATTACK_RATE, 7);
+        assertAll("Validate that cached Combat Stats follow changes of their reliances",
+                () -> runCombatStatAssertion(AppConfig.ATTRIBUTE_STRENGTH, AppConfig.COMBAT_STAT_PHYSICAL_POWER),
+                () -> runCombatStatAssertion(AppConfig.ATTRIBUTE_DEXTERITY, AppConfig.COMBAT_STAT_ACTION_POINTS),
+                () -> runCombatStatAssertion(AppConfig.ATTRIBUTE_WILLPOWER, AppConfig.COMBAT_STAT_HEALING_POWER)
+        );
+    }
+
     /* TEST OPEN INTERFACE FOR ATTACK RATE, DEFENCE RATE, PHYSICAL POWER, MAGIC POWER & HEALING POWER */
 
     @Test
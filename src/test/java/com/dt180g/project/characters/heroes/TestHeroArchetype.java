@@ -0,0 +1,28 @@
+package com.dt180g.project.characters.heroes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestHeroArchetype {
+
+    @Test
+    public void testMasks() {
+        int warriorOrCleric = HeroArchetype.maskOf("Warrior,Cleric");
+        Warrior veteran = new Warrior("Veteran") { };  // a subclass belongs to the archetype of its hero class
+
+        assertAll("Validate that every archetype has a bit of its own, found by name and by class",
+                () -> assertEquals(0b1001, warriorOrCleric),
+                () -> assertEquals(HeroArchetype.WIZARD.getMask(), HeroArchetype.maskOf(Wizard.class)),
+                () -> assertEquals(HeroArchetype.WARRIOR.getMask(), HeroArchetype.maskOf(veteran.getClass())),
+                () -> assertEquals(0, HeroArchetype.maskOf(String.class)),
+                () -> assertEquals(List.of(Warrior.class, Cleric.class), HeroArchetype.classesOf(warriorOrCleric)),
+                () -> assertEquals(HeroArchetype.RANGER, HeroArchetype.fromName("Ranger")),
+                () -> assertThrows(IllegalArgumentException.class, () -> HeroArchetype.maskOf("Warrior,Bard"))
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package com.dt180g.project.gear;
+
+import com.dt180g.project.characters.heroes.HeroArchetype;
+import com.dt180g.project.characters.heroes.Ranger;
+import com.dt180g.project.characters.heroes.Warrior;
+import com.dt180g.project.support.JsonFormatException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestGearCatalog {
+
+    @Test
+    public void testBinaryCatalogMatchesJson() throws IOException {
+        GearCatalog json = GearCatalog.fromJson();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        json.write(output);
+        GearCatalog binary = GearCatalog.read(output.toByteArray());
+
+        assertAll("Validate that the binary catalog holds the records of the JSON catalogs, in order",
+                () -> assertTrue(json.getWeapons().size() > 0),
+                () -> assertTrue(json.getArmorPieces().size() > 0),
+                () -> assertEquals(json.getWeapons(), binary.getWeapons()),
+                () -> assertEquals(json.getArmorPieces(), binary.getArmorPieces()),
+                () -> assertEquals(json.getWeapons(), GearCatalog.load().getWeapons()),
+                () -> assertEquals(json.getArmorPieces(), GearCatalog.load().getArmorPieces())
+        );
+    }
+
+    @Test
+    public void testRecords() {
+        GearRecord record = new GearRecord("Sword", "Short Sword", "Warrior,Ranger", 4, "One Handed Melee");
+        GearRecord same = new GearRecord("Sword", "Short Sword", "Warrior,Ranger", 4, "One Handed Melee");
+
+        assertAll("Validate that records resolve their class restrictions to archetype masks",
+                () -> assertEquals(record, same),
+                () -> assertEquals(HeroArchetype.WARRIOR.getMask() | HeroArchetype.RANGER.getMask(),
+                        record.getRestrictionMask()),
+                () -> assertEquals(List.of(Warrior.class, Ranger.class), new Weapon(record).getClassRestrictions()),
+                () -> assertEquals(4, new Weapon(record).getDamage()),
+                () -> assertThrows(IOException.class, () -> GearCatalog.read(new byte[8])),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new GearRecord("Sword", "Sword", "Nobody", 1, ""))
+        );
+    }
+
+    @Test
+    public void testMalformedEntriesFailWithPosition() {
+        String armor = "{\"Head\": [{\"name\": \"Hood\", \"material\": \"Fabric\", \"protection\": \"1\","
+                + " \"restriction\": \"Wizard\"}]}";
+        String missingDamage = "{\n  \"Axe\": [\n    {\"name\": \"Hatchet\", \"wield\": \"One Handed Melee\","
+                + " \"restriction\": \"Warrior\"}\n  ]\n}";
+        String badDamage = "{\"Axe\": [\n{\"name\": \"Hatchet\", \"wield\": \"One Handed Melee\","
+                + " \"damage\": \"three\", \"restriction\": \"Warrior\"}]}";
+
+        JsonFormatException missing = assertThrows(JsonFormatException.class,
+                () -> GearCatalog.fromJson(new StringReader(missingDamage), new StringReader(armor)));
+        JsonFormatException bad = assertThrows(JsonFormatException.class,
+                () -> GearCatalog.fromJson(new StringReader(badDamage), new StringReader(armor)));
+
+        assertAll("Validate that malformed entries state where they are",
+                () -> assertEquals(3, missing.getLine()),
+                () -> assertEquals(5, missing.getColumn()),
+                () -> assertTrue(missing.getMessage().contains("\"damage\"")),
+                () -> assertEquals(2, bad.getLine()),
+                () -> assertEquals(60, bad.getColumn())
+        );
+    }
+}
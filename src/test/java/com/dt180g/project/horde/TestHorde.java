@@ -0,0 +1,111 @@
+package com.dt180g.project.horde;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.AppConfig;
+import com.dt180g.project.support.NullSink;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestHorde {
+
+    private GameEngine silentEngine(long seed) {
+        GameEngine engine = new GameEngine(seed);
+        ActivityLogger logger = new ActivityLogger(NullSink.INSTANCE);
+        logger.setEnabled(false);
+        engine.setLogger(logger);
+        return engine;
+    }
+
+    @Test
+    public void testSpawn() {
+        GameEngine engine = silentEngine(1L);
+        Horde horde = new Horde(engine, 1000);
+        engine.enterHorde(horde);
+        int firstId = horde.getCharacterId(0);
+
+        assertAll("Validate that every enemy gets an id of its own and the stats of its template",
+                () -> assertEquals(1000, horde.size()),
+                () -> assertEquals(1004, engine.getAmountOfEnemies() + engine.getAmountOfHeroes()),
+                () -> assertEquals(engine.getAmountOfHeroes(), firstId),
+                () -> assertEquals(firstId + 1000, engine.nextCharacterId()),
+                () -> IntStream.range(0, 1000).forEach(i -> {
+                    assertEquals(i, horde.getPosition(firstId + i));
+                    assertEquals(horde.getTemplate(i).getHitPoints(), horde.getHitPoints(i));
+                    assertEquals(horde.getTemplate(i).getDefenceRate(), horde.getDefenceRate(i));
+                })
+        );
+    }
+
+    @Test
+    public void testAttackRemovesDeadEnemies() {
+        GameEngine engine = silentEngine(2L);
+        Horde horde = new Horde(engine, 5000);
+        int firstId = horde.getCharacterId(0);
+        int hit = horde.receiveAttack(AppConfig.ABILITY_GROUP_TARGET, 100_000, true, false, 1);
+        int dead = (int) IntStream.range(firstId, firstId + 5000).filter(id -> horde.getPosition(id) < 0).count();
+
+        assertAll("Validate that killed enemies are swap-removed and the others can still be found by id",
+                () -> assertEquals(AppConfig.HORDE_AREA_TARGETS, hit),
+                () -> assertEquals(5000 - AppConfig.HORDE_AREA_TARGETS, horde.size()),
+                () -> assertEquals(AppConfig.HORDE_AREA_TARGETS, dead),
+                () -> IntStream.range(0, horde.size()).forEach(position ->
+                        assertEquals(position, horde.getPosition(horde.getCharacterId(position)))),
+                () -> assertEquals(1, horde.receiveAttack(AppConfig.ABILITY_SINGLE_TARGET, 1, false, false, 1)),
+                () -> assertEquals(3, new Horde(engine, 3).receiveAttack(5, 1, false, false, 1))
+        );
+    }
+
+    @Test
+    public void testParallelAttackMatchesSequentialAttack() {
+        Horde parallel = new Horde(silentEngine(4L), 20_000);
+        Horde sequential = new Horde(silentEngine(4L), 20_000);
+        sequential.setParallel(false);
+        for (int attack = 0; attack < 8; attack++) {
+            parallel.receiveAttack(AppConfig.ABILITY_GROUP_TARGET, 60, attack % 2 == 0, false, 3);
+            sequential.receiveAttack(AppConfig.ABILITY_GROUP_TARGET, 60, attack % 2 == 0, false, 3);
+        }
+
+        assertAll("Validate that chunks resolved in parallel give the same outcome as in order",
+                () -> assertEquals(sequential.size(), parallel.size()),
+                () -> assertTrue(parallel.size() < 20_000),
+                () -> IntStream.range(0, parallel.size()).forEach(position -> {
+                    assertEquals(sequential.getCharacterId(position), parallel.getCharacterId(position));
+                    assertEquals(sequential.getHitPoints(position), parallel.getHitPoints(position));
+                })
+        );
+    }
+
+    @Test
+    public void testTurnOrder() {
+        Horde horde = new Horde(silentEngine(3L), 300);
+        int amount = horde.orderTurns();
+
+        assertAll("Validate that enemies act in order of action points, highest first",
+                () -> assertEquals(300, amount),
+                () -> IntStream.range(1, amount).forEach(place -> assertTrue(
+                        horde.getActionPoints(horde.getPosition(horde.getTurn(place - 1)))
+                                >= horde.getActionPoints(horde.getPosition(horde.getTurn(place)))))
+        );
+    }
+
+    @Test
+    public void testSeededBattleIsReproducible() {
+        HordeResult first = new HordeRunner(2000, 11L).run();
+        HordeResult second = new HordeRunner(2000, 11L).run();
+
+        assertAll("Validate that a horde battle only depends on its seed",
+                () -> assertEquals(first.getEnemiesDefeated(), second.getEnemiesDefeated()),
+                () -> assertEquals(first.getSurvivingHeroes(), second.getSurvivingHeroes()),
+                () -> assertEquals(first.getRounds(), second.getRounds()),
+                () -> assertEquals(11L, first.getSeed()),
+                () -> assertTrue(first.toString().contains("Seed")),
+                () -> assertTrue(first.getEnemiesDefeated() > 0)
+        );
+    }
+}
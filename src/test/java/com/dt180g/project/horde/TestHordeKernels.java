@@ -0,0 +1,58 @@
+package com.dt180g.project.horde;
+
+import com.dt180g.project.support.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestHordeKernels {
+    private static final int LENGTH = 103;  // not a multiple of any vector size, leaving a tail
+
+    private int[] values(RandomSource random, int min, int max) {
+        return IntStream.range(0, LENGTH).map(i -> random.getRandomValue(min, max)).toArray();
+    }
+
+    @Test
+    public void testKernelsMatchScalarKernels() {
+        RandomSource random = new RandomSource(17L);
+        HordeKernels scalar = new HordeKernels();
+        HordeKernels kernels = HordeKernels.create();
+        int[] hitPoints = values(random, 1, 40);
+        int[] damage = values(random, 0, 60);
+        int[] deflection = values(random, 0, 30);
+        int offset = 9;
+        int window = LENGTH - offset;
+
+        int[] scalarHitPoints = hitPoints.clone();
+        int[] scalarHits = new int[window];
+        int[] scalarDead = new int[window];
+        scalar.applyDamage(scalarHitPoints, offset, damage, deflection, scalarHits, window);
+        int scalarAmount = scalar.collectDead(scalarHitPoints, offset, window, scalarDead);
+
+        int[] vectorHitPoints = hitPoints.clone();
+        int[] vectorHits = new int[window];
+        int[] vectorDead = new int[window];
+        kernels.applyDamage(vectorHitPoints, offset, damage, deflection, vectorHits, window);
+        int vectorAmount = kernels.collectDead(vectorHitPoints, offset, window, vectorDead);
+
+        int[] actionPoints = values(random, 0, 9);
+        int[] energyLevels = values(random, 0, 90);
+        int[] scalarActionPoints = actionPoints.clone();
+        int[] scalarEnergyLevels = energyLevels.clone();
+        scalar.replenish(scalarActionPoints, scalarEnergyLevels, LENGTH - 1, 3, 10);
+        kernels.replenish(actionPoints, energyLevels, LENGTH - 1, 3, 10);
+
+        assertAll("Validate that the kernels in use produce the same values as the scalar kernels",
+                () -> assertArrayEquals(scalarHitPoints, vectorHitPoints),
+                () -> assertArrayEquals(scalarHits, vectorHits),
+                () -> assertEquals(scalarAmount, vectorAmount),
+                () -> assertArrayEquals(scalarDead, vectorDead),
+                () -> assertArrayEquals(scalarActionPoints, actionPoints),
+                () -> assertArrayEquals(scalarEnergyLevels, energyLevels)
+        );
+    }
+}
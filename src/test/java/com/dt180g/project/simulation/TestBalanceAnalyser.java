@@ -0,0 +1,65 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.characters.heroes.HeroArchetype;
+import com.dt180g.project.support.AppConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestBalanceAnalyser {
+
+    @Test
+    public void testPartyComposition() {
+        PartyComposition party = PartyComposition.parse("Warrior:Leila, Ranger ,Cleric:Kevin*2");
+        assertAll("Validate that party compositions are parsed and enumerated",
+                () -> assertEquals(4, party.size()),
+                () -> assertEquals(List.of("Leila", AppConfig.HERO_RANGER, "Kevin 1", "Kevin 2"), party.getNames()),
+                () -> assertEquals(HeroArchetype.CLERIC, party.getArchetype(3)),
+                () -> assertEquals(party.toString(), PartyComposition.parse(party.toString()).toString()),
+                () -> assertEquals(35, PartyComposition.allOfSize(4).size()),
+                () -> assertThrows(IllegalArgumentException.class, () -> PartyComposition.parse("Bard")),
+                () -> assertThrows(IllegalArgumentException.class, () -> PartyComposition.parse("Wizard*0"))
+        );
+    }
+
+    @Test
+    public void testWilsonInterval() {
+        double[] half = BalanceReport.wilsonInterval(50, 100, 1.96);
+        double[] none = BalanceReport.wilsonInterval(0, 100, 1.96);
+        assertAll("Validate that Wilson intervals are computed and bounded",
+                () -> assertEquals(0.4038, half[0], 1e-4),
+                () -> assertEquals(0.5962, half[1], 1e-4),
+                () -> assertEquals(0.0, none[0]),
+                () -> assertEquals(0.0370, none[1], 1e-4)
+        );
+    }
+
+    @Test
+    public void testAnalysisMatchesBatch() {
+        List<PartyComposition> parties = List.of(PartyComposition.parse(AppConfig.DEFAULT_PARTY),
+                PartyComposition.parse("Warrior*2,Cleric"));
+        List<BalanceReport> first = new BalanceAnalyser(parties, 6, 1, 42).run();
+        List<BalanceReport> second = new BalanceAnalyser(parties, 6, 3, 42).run();
+        BatchReport batch = new BatchRunner(6, 2, 42).run();
+        BalanceReport report = first.get(0);
+        double meanSurvivors = (report.getSurvivalProbability(0) + report.getSurvivalProbability(1)
+                + report.getSurvivalProbability(2) + report.getSurvivalProbability(3));
+        assertAll("Validate that analyses are reproducible and agree with a batch of the default party",
+                () -> assertEquals(first.toString(), second.toString()),
+                () -> assertEquals(6, report.getCampaigns()),
+                () -> assertEquals(42, report.getSeed()),
+                () -> assertTrue(report.toString().contains("Seed")),
+                () -> assertEquals(batch.getWinRate(), report.getWinProbability()),
+                () -> assertEquals(batch.getMeanSurvivingHeroes(), meanSurvivors, 1e-9),
+                () -> assertEquals(batch.getMeanRounds(AppConfig.DUNGEON_START_LEVEL),
+                        report.getMeanRounds(AppConfig.DUNGEON_START_LEVEL)),
+                () -> assertTrue(report.getClearProbability(AppConfig.DUNGEON_START_LEVEL) >= 0),
+                () -> assertEquals(6, first.get(1).getCampaigns())
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.support.AppConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestBatchReport {
+
+    private int[] rounds(int... roundsFromFirstLevel) {
+        int[] output = new int[AppConfig.DUNGEON_START_LEVEL + 1];
+        for (int i = 0; i < roundsFromFirstLevel.length; i++) {
+            output[AppConfig.DUNGEON_START_LEVEL - i] = roundsFromFirstLevel[i];
+        }
+        return output;
+    }
+
+    @Test
+    public void testAggregation() {
+        BatchReport report = new BatchReport();
+        report.add(new CampaignResult(true, 5, rounds(2, 2, 2, 2, 4), 3));
+        report.add(new CampaignResult(false, 1, rounds(4, 6), 0));
+        assertAll("Validate that campaign results are aggregated correctly",
+                () -> assertEquals(2, report.getCampaigns()),
+                () -> assertEquals(0.5, report.getWinRate()),
+                () -> assertEquals(1.5, report.getMeanSurvivingHeroes()),
+                () -> assertEquals(3.0, report.getMeanRounds(AppConfig.DUNGEON_START_LEVEL)),
+                () -> assertEquals(4.0, report.getMeanRounds(1))
+        );
+    }
+
+    @Test
+    public void testBatchRun() {
+        BatchReport report = new BatchRunner(3).run();
+        assertEquals(3, report.getCampaigns());
+    }
+
+    @Test
+    public void testSeededBatchIsReproducible() {
+        BatchReport first = new BatchRunner(4, 1, 42).run();
+        BatchReport second = new BatchRunner(4, 2, 42).run();
+        assertAll("Validate that seeded batches produce the same results",
+                () -> assertEquals(first.getWinRate(), second.getWinRate()),
+                () -> assertEquals(first.getMeanSurvivingHeroes(), second.getMeanSurvivingHeroes()),
+                () -> assertEquals(first.getMeanRounds(1), second.getMeanRounds(1)),
+                () -> assertEquals(first.getMeanRounds(AppConfig.DUNGEON_START_LEVEL),
+                        second.getMeanRounds(AppConfig.DUNGEON_START_LEVEL))
+        );
+    }
+
+    @Test
+    public void testInvalidAmountOfCampaigns() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(0));
+    }
+}
@@ -0,0 +1,60 @@
+package com.dt180g.project.simulation;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.GameRunner;
+import com.dt180g.project.support.ActivityLogger;
+import com.dt180g.project.support.AppConfig;
+import com.dt180g.project.support.NullSink;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestReplayRunner {
+    private static final long SEED = 7L;
+
+    @Test
+    public void testReplayMatchesJournaledBatch(@TempDir Path directory) throws IOException {
+        BatchRunner batch = new BatchRunner(4, 2, SEED);
+        batch.setJournalDirectory(directory);
+        batch.run();
+
+        ReplayRunner replay = ReplayRunner.fromJournal(directory, 3);
+
+        assertAll("Validate that journaled campaigns replay exactly from their seed",
+                () -> assertEquals(batch.getCampaignSeed(3), replay.getSeed()),
+                () -> assertEquals(-1, replay.verify(directory, 3)),
+                () -> assertEquals(-1, ReplayRunner.fromJournal(directory, 0).verify(directory, 0)),
+                () -> assertEquals(0, new ReplayRunner(SEED).verify(directory, 3)),
+                () -> assertThrows(IllegalArgumentException.class, () -> ReplayRunner.fromJournal(directory, 4))
+        );
+    }
+
+    @Test
+    public void testReplayStopsAtRound() {
+        ReplayRunner replay = new ReplayRunner(SEED);
+        String entered = replay.replayTo(AppConfig.DUNGEON_START_LEVEL, 0);
+        String firstRound = replay.replayTo(AppConfig.DUNGEON_START_LEVEL, 1);
+        GameEngine engine = new GameEngine(SEED);
+        ActivityLogger logger = new ActivityLogger(NullSink.INSTANCE);
+        logger.setEnabled(false);
+        engine.setLogger(logger);
+
+        assertAll("Validate that replays stop at the requested point and repeat exactly",
+                () -> assertEquals(replay.replay().toString(),
+                        new GameRunner(engine, false).runCampaign().toString()),
+                () -> assertTrue(entered.startsWith("SEED " + SEED + " | DUNGEON LEVEL "
+                        + AppConfig.DUNGEON_START_LEVEL + " | ROUND 0" + System.lineSeparator())),
+                () -> assertTrue(entered.contains("LEILA THE WARRIOR")),
+                () -> assertTrue(firstRound.contains("| ROUND 1" + System.lineSeparator())),
+                () -> assertEquals(firstRound, replay.replayTo(AppConfig.DUNGEON_START_LEVEL, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> replay.replayTo(0, 1))
+        );
+    }
+}
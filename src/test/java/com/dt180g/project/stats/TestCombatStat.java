@@ -115,4 +115,28 @@ public class TestCombatStat {
         BaseStat attributeReliance = new Attribute(AppConfig.ATTRIBUTE_WILLPOWER, 80);
         testResetModifier(AppConfig.COMBAT_STAT_HEALING_POWER, attributeReliance);
     }
+
+    /* CACHE INVALIDATION TESTS */
+
+    @Test
+    public void testCombatStatFollowsReliances() {
+        BaseStat attributeReliance = new Attribute(AppConfig.ATTRIBUTE_STRENGTH, 80);
+        BaseStat traitReliance = new Trait(AppConfig.TRAIT_ATTACK_RATE, AppConfig.TRAIT_ATTACK_RATE_BASE_VALUE);
+        BaseStat combatStat = new CombatStat(AppConfig.COMBAT_STAT_PHYSICAL_POWER, attributeReliance, traitReliance);
+        int initialValue = combatStat.getBaseValue();
+
+        attributeReliance.adjustStaticModifier(20);
+        int afterAttribute = combatStat.getBaseValue();
+        traitReliance.adjustDynamicModifier(20);
+        int afterTrait = combatStat.getBaseValue();
+        attributeReliance.resetDynamicModifier();
+        traitReliance.resetDynamicModifier();
+
+        assertAll("Validate that cached base value is recalculated when a reliance changes",
+                () -> assertEquals(CombatStat.calculateBaseValue(100, AppConfig.TRAIT_ATTACK_RATE_BASE_VALUE), afterAttribute),
+                () -> assertEquals(CombatStat.calculateBaseValue(100, AppConfig.TRAIT_ATTACK_RATE_BASE_VALUE + 20), afterTrait),
+                () -> assertEquals(afterAttribute, combatStat.getBaseValue()),
+                () -> assertEquals(CombatStat.calculateBaseValue(80, AppConfig.TRAIT_ATTACK_RATE_BASE_VALUE), initialValue)
+        );
+    }
 }
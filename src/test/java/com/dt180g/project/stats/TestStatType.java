@@ -0,0 +1,35 @@
+package com.dt180g.project.stats;
+
+import com.dt180g.project.support.AppConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestStatType {
+
+    @Test
+    public void testLookupByName() {
+        for (StatType type : StatType.values()) {
+            assertEquals(type, StatType.fromName(type.getStatName()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> StatType.fromName("Luck"));
+    }
+
+    @Test
+    public void testAttributeReliance() {
+        assertAll("Validate that combat stats rely on the correct attribute",
+                () -> assertEquals(StatType.STRENGTH, StatType.fromName(AppConfig.COMBAT_STAT_PHYSICAL_POWER).getAttributeReliance()),
+                () -> assertEquals(StatType.DEXTERITY, StatType.fromName(AppConfig.COMBAT_STAT_ACTION_POINTS).getAttributeReliance()),
+                () -> assertEquals(StatType.INTELLIGENCE, StatType.fromName(AppConfig.COMBAT_STAT_MAGIC_POWER).getAttributeReliance()),
+                () -> assertEquals(StatType.WILLPOWER, StatType.fromName(AppConfig.COMBAT_STAT_HEALING_POWER).getAttributeReliance()),
+                () -> assertTrue(StatType.ACTION_POINTS.isCombatStat()),
+                () -> assertFalse(StatType.VITALITY.isCombatStat()),
+                () -> assertNull(StatType.STRENGTH.getAttributeReliance())
+        );
+    }
+}
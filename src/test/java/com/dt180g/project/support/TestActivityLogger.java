@@ -0,0 +1,162 @@
+package com.dt180g.project.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestActivityLogger {
+
+    private static final class CollectingSink implements LogSink {
+        private final List<String> lines = new ArrayList<>();
+        private final List<Integer> characterIds = new ArrayList<>();
+        private final List<LogEvent.Type> types = new ArrayList<>();
+        private int flushes = 0;
+
+        @Override
+        public void write(LogEvent event) {
+            lines.add(event.toPlainText());
+            characterIds.add(event.getCharacterId());
+            types.add(event.getType());
+        }
+
+        @Override
+        public void flush() {
+            ++flushes;
+        }
+    }
+
+    @Test
+    public void testRingBufferCapacityAndOrder() {
+        LogRingBuffer buffer = new LogRingBuffer(5);
+        for (int i = 0; i < buffer.getCapacity(); i++) {
+            buffer.claim().set(LogEvent.Type.ATTACK, "entry " + i);
+            buffer.publish();
+        }
+        LogEvent overflow = buffer.claim();
+        LogEvent oldest = buffer.peek(0);
+        String oldestMessage = oldest.getMessage();
+        buffer.release(1);
+
+        assertAll("Validate that the buffer is bounded and first in, first out",
+                () -> assertEquals(8, buffer.getCapacity()),
+                () -> assertNull(overflow),
+                () -> assertEquals("entry 0", oldestMessage),
+                () -> assertEquals("entry 1", buffer.peek(0).getMessage()),
+                () -> assertEquals(7, buffer.pending()),
+                () -> assertNotNull(buffer.claim())
+        );
+    }
+
+    private CollectingSink collect(Runnable logging) {
+        CollectingSink sink = new CollectingSink();
+        boolean enabled = ActivityLogger.INSTANCE.isEnabled();
+        ActivityLogger.INSTANCE.setEnabled(true);
+        LogSink previous = ActivityLogger.INSTANCE.setSink(sink);
+        try {
+            logging.run();
+            ActivityLogger.INSTANCE.flush();
+        } finally {
+            ActivityLogger.INSTANCE.setSink(previous);
+            ActivityLogger.INSTANCE.setEnabled(enabled);
+        }
+        return sink;
+    }
+
+    @Test
+    public void testEntriesReachSinkInOrder() {
+        int amount = AppConfig.LOG_BUFFER_CAPACITY * 3;  // more than fits, making the game wait for free slots
+        CollectingSink sink = collect(() -> {
+            for (int i = 0; i < amount; i++) {
+                ActivityLogger.INSTANCE.logDamage("hit " + i);
+            }
+            ActivityLogger.INSTANCE.logTurnInfo("turn");
+        });
+
+        assertAll("Validate that every entry is written once and in order",
+                () -> assertEquals(amount + 1, sink.lines.size()),
+                () -> assertEquals("\t\thit 0", sink.lines.get(0)),
+                () -> assertEquals("\t\thit " + (amount - 1), sink.lines.get(amount - 1)),
+                () -> assertEquals("\nturn", sink.lines.get(amount)),
+                () -> assertTrue(sink.flushes <= sink.lines.size())
+        );
+    }
+
+    @Test
+    public void testStructuredEntriesAreRenderedBySink() {
+        CollectingSink sink = collect(() -> {
+            ActivityLogger.INSTANCE.logTurn(2, "Kevin The Cleric", true, 14, 180, 90);
+            ActivityLogger.INSTANCE.logAbility("Group Heal", 3, true);
+            ActivityLogger.INSTANCE.logHealing(0, "Leila The Warrior", false, 25, 205);
+            ActivityLogger.INSTANCE.logHit(5, "Skeleton Mage 1", true, 12, 40, -3);
+        });
+
+        assertAll("Validate that structured entries keep their fields and render as before",
+                () -> assertEquals(List.of(LogEvent.Type.TURN, LogEvent.Type.ATTACK, LogEvent.Type.HEALING,
+                        LogEvent.Type.DEATH), sink.types),
+                () -> assertEquals(List.of(2, 5), List.of(sink.characterIds.get(0), sink.characterIds.get(3))),
+                () -> assertEquals("\n[" + AppConfig.CHARACTER_TYPE_HERO + " TURN] Kevin The Cleric | 14 AP | 180 HP | 90 Energy",
+                        sink.lines.get(0)),
+                () -> assertEquals("\tGroup Heal targeting 3 heroes", sink.lines.get(1)),
+                () -> assertEquals("\t\tLeila The Warrior receives +25 points of healing and has 205 HP left",
+                        sink.lines.get(2)),
+                () -> assertEquals("\t\t[CRITICAL HIT] Skeleton Mage 1 deflects 12 points of damage taking 40 as direct hit"
+                        + " causing death (-3 HP)", sink.lines.get(3))
+        );
+    }
+
+    @Test
+    public void testSinkFailureIsRethrown() {
+        ActivityLogger logger = new ActivityLogger(new LogSink() {
+            @Override
+            public void write(LogEvent event) {
+                throw new IllegalArgumentException("broken sink");
+            }
+
+            @Override
+            public void flush() { }
+        });
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertThrows(IllegalStateException.class, () -> {
+                for (int i = 0; i < AppConfig.LOG_BUFFER_CAPACITY * 4; i++) {
+                    logger.logAttack("attack " + i);
+                }
+                logger.flush();
+            });
+            assertThrows(IllegalStateException.class, logger::close);
+        });
+    }
+
+    @Test
+    public void testSinkIOFailureIsRethrown() {
+        ActivityLogger logger = new ActivityLogger(new LogSink() {
+            @Override
+            public void write(LogEvent event) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() { }
+        });
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            logger.logAttack("attack");
+            UncheckedIOException flushed = assertThrows(UncheckedIOException.class, logger::flush);
+            assertAll("Validate that I/O errors of the sink are rethrown with their cause",
+                    () -> assertEquals("disk full", flushed.getCause().getMessage()),
+                    () -> assertThrows(UncheckedIOException.class, () -> logger.logAttack("attack")),
+                    () -> assertThrows(UncheckedIOException.class, logger::close)
+            );
+        });
+    }
+}
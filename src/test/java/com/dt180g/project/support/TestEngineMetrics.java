@@ -0,0 +1,108 @@
+package com.dt180g.project.support;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.GameRunner;
+import com.dt180g.project.simulation.CampaignResult;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestEngineMetrics {
+
+    @Test
+    public void testHistogram() {
+        MetricsHistogram histogram = new MetricsHistogram();
+        LongStream.rangeClosed(1, 100).forEach(histogram::record);
+        histogram.record(-5);
+        assertAll("Validate that values are counted in buckets of powers of two",
+                () -> assertEquals(101, histogram.getCount()),
+                () -> assertEquals(5050, histogram.getSum()),
+                () -> assertEquals(1, histogram.getBuckets()[0]),
+                () -> assertEquals(32, histogram.getBuckets()[6]),   // 32 to 63
+                () -> assertEquals(63, histogram.getPercentile(50)),
+                () -> assertEquals(127, histogram.getPercentile(99)),
+                () -> assertEquals(0, new MetricsHistogram().getPercentile(99))
+        );
+    }
+
+    @Test
+    public void testCampaignIsRecorded() throws Exception {
+        EngineMetrics metrics = EngineMetrics.INSTANCE;
+        metrics.register();
+        metrics.reset();
+        boolean loggerEnabled = ActivityLogger.INSTANCE.isEnabled();
+        ActivityLogger.INSTANCE.setEnabled(false);
+        CampaignResult result;
+        try {
+            result = new GameRunner(new GameEngine(42L), false).runCampaign();
+        } finally {
+            ActivityLogger.INSTANCE.setEnabled(loggerEnabled);
+        }
+        long levels = LongStream.of(metrics.getLevelsPlayed()).sum();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(AppConfig.METRICS_OBJECT_NAME);
+        assertAll("Validate that the campaign is recorded and exported",
+                () -> assertTrue(metrics.getTurns() > 0),
+                () -> assertTrue(metrics.getHeroAttacks() > 0),
+                () -> assertTrue(metrics.getEnemyAttacks() > 0),
+                () -> assertTrue(metrics.getDamageDealtByHeroes() >= metrics.getDamageTakenByEnemies()),
+                () -> assertEquals(4 - result.getSurvivingHeroes(), metrics.getHeroDeaths()),
+                () -> assertEquals(metrics.getTurns(), LongStream.of(metrics.getExecuteActionsHistogram()).sum()),
+                () -> assertTrue(levels > 0),
+                () -> assertEquals(metrics.getTurns(), server.getAttribute(name, "Turns"))
+        );
+    }
+
+    @Test
+    public void testHealingIsRecordedForTheHealer() {
+        EngineMetrics metrics = EngineMetrics.INSTANCE;
+        GameEngine engine = new GameEngine(42L);
+        boolean loggerEnabled = ActivityLogger.INSTANCE.isEnabled();
+        ActivityLogger.INSTANCE.setEnabled(false);
+        metrics.reset();
+        try {
+            engine.characterAttack("Group Heal", 4, -10, false, true, true);
+        } finally {
+            ActivityLogger.INSTANCE.setEnabled(loggerEnabled);
+        }
+        assertAll("Validate that healing by a hero is recorded for the heroes",
+                () -> assertEquals(1, metrics.getHeroAttacks()),
+                () -> assertEquals(0, metrics.getEnemyAttacks()),
+                () -> assertEquals(0, metrics.getDamageTakenByHeroes())
+        );
+    }
+
+    @Test
+    public void testQueueDepthCountsAllLoggers() throws IOException {
+        CountDownLatch written = new CountDownLatch(1);
+        ActivityLogger logger = new ActivityLogger(new LogSink() {
+            @Override
+            public void write(LogEvent event) {
+                try {
+                    written.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void flush() { }
+        });
+        for (int i = 0; i < 3; i++) {
+            logger.logAttack("attack " + i);
+        }
+        long depth = EngineMetrics.INSTANCE.getLoggerQueueDepth();
+        written.countDown();
+        logger.close();
+        assertTrue(depth >= 3, "Validate that entries of a logger of its own are counted");
+    }
+}
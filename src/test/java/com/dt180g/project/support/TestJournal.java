@@ -0,0 +1,133 @@
+package com.dt180g.project.support;
+
+import com.dt180g.project.GameEngine;
+import com.dt180g.project.GameRunner;
+import com.dt180g.project.simulation.BatchRunner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestJournal {
+    private static final long SEED = 42L;
+    private static final int SEGMENT_SIZE = 512;
+
+    private static final class StructuredSink implements LogSink {
+        private final List<String> lines = new ArrayList<>();
+
+        @Override
+        public void write(LogEvent event) {
+            if (event.isStructured()) {
+                lines.add(event.toPlainText());
+            }
+        }
+
+        @Override
+        public void flush() { }
+    }
+
+    private static void runCampaign(LogSink sink) throws IOException {
+        ActivityLogger logger = new ActivityLogger(sink);
+        GameEngine engine = new GameEngine(SEED);
+        engine.setLogger(logger);
+        logger.logCampaign(0, SEED);
+        new GameRunner(engine, false).runCampaign();
+        logger.close();
+    }
+
+    @Test
+    public void testJournalReadsBackAsLogged(@TempDir Path directory) throws IOException {
+        StructuredSink logged = new StructuredSink();
+        runCampaign(logged);
+        runCampaign(new JournalSink(directory, SEGMENT_SIZE));
+
+        StructuredSink journaled = new StructuredSink();
+        long records = JournalReader.read(directory, journaled);
+        List<Path> segments = JournalReader.getSegments(directory);
+
+        assertAll("Validate that a rotated journal holds every structured entry of the campaign",
+                () -> assertFalse(logged.lines.isEmpty()),
+                () -> assertEquals(logged.lines, journaled.lines),
+                () -> assertEquals(logged.lines.size(), records),
+                () -> assertEquals("\nCAMPAIGN 0 | SEED " + SEED, journaled.lines.get(0)),
+                () -> assertTrue(segments.size() > 1),
+                () -> assertTrue(Files.size(segments.get(0)) <= SEGMENT_SIZE)
+        );
+    }
+
+    @Test
+    public void testJournalContinuesAfterExistingSegments(@TempDir Path directory) throws IOException {
+        try (JournalSink sink = new JournalSink(directory, SEGMENT_SIZE)) {
+            sink.flush();
+        }
+        try (JournalSink sink = new JournalSink(directory, SEGMENT_SIZE)) {
+            sink.flush();
+        }
+        Files.writeString(directory.resolve(JournalSink.getSegmentName(2)), "not a journal");
+
+        assertAll("Validate that existing segments are kept and foreign files rejected",
+                () -> assertEquals(3, JournalReader.getSegments(directory).size()),
+                () -> assertThrows(IOException.class, () -> JournalReader.read(directory, new StructuredSink()))
+        );
+    }
+
+    @Test
+    public void testLargeIdsAndCountsAreKept(@TempDir Path directory) throws IOException {
+        int id = 1_000_000;
+        List<String> logged = new ArrayList<>();
+        List<String> journaled = new ArrayList<>();
+        for (LogSink sink : List.of(fieldSink(logged), new JournalSink(directory, SEGMENT_SIZE))) {
+            ActivityLogger logger = new ActivityLogger(sink);
+            logger.logRound(1, 40_000, 4, id);
+            logger.logAbility("Whirlwind", 40_000, false);
+            logger.logTurn(id, "Skeleton Mage", false, 10, 80, 40);
+            logger.logHit(id + 1, "Skeleton Warrior", false, 3, 20, 60);
+            logger.close();
+        }
+        JournalReader.read(directory, fieldSink(journaled));
+        assertAll("Validate that ids and counts beyond the range of a short survive the journal",
+                () -> assertEquals(4, journaled.size()),
+                () -> assertEquals(logged, journaled),
+                () -> assertEquals(List.of("40000 " + id, "40000", Integer.toString(id), Integer.toString(id + 1)),
+                        journaled)
+        );
+    }
+
+    private static LogSink fieldSink(List<String> fields) {
+        return new LogSink() {
+            @Override
+            public void write(LogEvent event) {
+                switch (event.getType()) {
+                    case ROUND -> fields.add(event.getRound() + " " + event.getEnemies());
+                    case ATTACK -> fields.add(Integer.toString(event.getAmount()));
+                    case TURN, DAMAGE, DEATH -> fields.add(Integer.toString(event.getCharacterId()));
+                    default -> { }
+                }
+            }
+
+            @Override
+            public void flush() { }
+        };
+    }
+
+    @Test
+    public void testBatchFailsIfJournalCannotBeWritten(@TempDir Path directory) {
+        BatchRunner batch = new BatchRunner(2, 1, SEED);
+        batch.setJournalDirectory(directory, 40);  // too small for any record naming a character
+        IllegalStateException failure = assertThrows(IllegalStateException.class, batch::run);
+        assertInstanceOf(UncheckedIOException.class, failure.getCause(),
+                "Validate that the batch fails with the I/O error of the journal");
+    }
+}
@@ -0,0 +1,76 @@
+package com.dt180g.project.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestJsonReader {
+
+    private JsonFormatException readError(String json) {
+        return assertThrows(JsonFormatException.class, () -> {
+            JsonReader reader = new JsonReader(new StringReader(json));
+            reader.skipValue();
+            reader.endDocument();
+        });
+    }
+
+    @Test
+    public void testPullTokens() throws IOException {
+        JsonReader reader = new JsonReader(new StringReader(
+                "{\"name\": \"Tab\\tbed \\u00e5\", \"list\": [1, \"2\", {\"skip\": [true, null, -1.5e3]}], \"last\": 7}"));
+        reader.beginObject();
+        String firstName = reader.nextName();
+        String firstValue = reader.nextString();
+        String secondName = reader.nextName();
+        reader.beginArray();
+        int first = reader.nextInt();
+        int second = reader.nextInt();
+        reader.skipValue();
+        boolean more = reader.hasNext();
+        reader.endArray();
+        String lastName = reader.nextName();
+        int last = reader.nextInt();
+        boolean membersLeft = reader.hasNext();
+        reader.endObject();
+        reader.endDocument();
+
+        assertAll("Validate that tokens are pulled in order, with escapes resolved",
+                () -> assertEquals("name", firstName),
+                () -> assertEquals("Tab\tbed \u00e5", firstValue),
+                () -> assertEquals("list", secondName),
+                () -> assertEquals(1, first),
+                () -> assertEquals(2, second),
+                () -> assertFalse(more),
+                () -> assertEquals("last", lastName),
+                () -> assertEquals(7, last),
+                () -> assertFalse(membersLeft)
+        );
+    }
+
+    @Test
+    public void testErrorsStateLineAndColumn() {
+        JsonFormatException missingComma = readError("{\n  \"a\": 1\n  \"b\": 2\n}");
+        JsonFormatException trailingComma = readError("[1,\n 2,\n]");
+        JsonFormatException badLiteral = readError("{\"a\": tru}");
+        JsonFormatException unterminated = readError("[\"open");
+        JsonFormatException trailingText = readError("{} {}");
+
+        assertAll("Validate that malformed text is reported where it starts",
+                () -> assertEquals(3, missingComma.getLine()),
+                () -> assertEquals(3, missingComma.getColumn()),
+                () -> assertEquals(3, trailingComma.getLine()),
+                () -> assertEquals(1, trailingComma.getColumn()),
+                () -> assertEquals(7, badLiteral.getColumn()),
+                () -> assertEquals(2, unterminated.getColumn()),
+                () -> assertEquals(4, trailingText.getColumn()),
+                () -> assertTrue(missingComma.getMessage().endsWith("at line 3, column 3"))
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package com.dt180g.project.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestRandomSource {
+    private final int amount = 100;
+
+    private int[] draw(RandomSource source) {
+        return IntStream.range(0, amount).map(i -> source.getRandomValue(1, 9)).toArray();
+    }
+
+    @Test
+    public void testSeededSourceIsReproducible() {
+        assertArrayEquals(draw(new RandomSource(42)), draw(new RandomSource(42)));
+    }
+
+    @Test
+    public void testValuesWithinBounds() {
+        IntStream.of(draw(new RandomSource())).forEach(value -> assertTrue(value >= 1 && value <= 9));
+    }
+
+    @Test
+    public void testDerivedSeedsDiffer() {
+        assertNotEquals(RandomSource.deriveSeed(42, 0), RandomSource.deriveSeed(42, 1));
+        assertEquals(RandomSource.deriveSeed(42, 7), RandomSource.deriveSeed(42, 7));
+    }
+
+    @Test
+    public void testSampleDistinct() {
+        RandomSource source = new RandomSource(7);
+        int[] buffer = new int[5];
+        int[] hits = new int[6];
+        for (int i = 0; i < 6000; i++) {
+            assertEquals(3, source.sampleDistinct(buffer, 3, 6));
+            assertEquals(3, IntStream.of(buffer).limit(3).distinct().count());
+            IntStream.of(buffer).limit(3).forEach(value -> hits[value]++);
+        }
+        assertEquals(2, source.sampleDistinct(buffer, 5, 2));
+        assertEquals(1, buffer[0] + buffer[1]);
+        assertEquals(0, source.sampleDistinct(buffer, 3, 0));
+        IntStream.of(hits).forEach(count -> assertTrue(count > 2700 && count < 3300));  // each value in half the draws
+    }
+
+    @Test
+    public void testRandomizerBinding() {
+        RandomSource source = new RandomSource(1);
+        RandomSource previous = Randomizer.INSTANCE.bind(source);
+        try {
+            assertSame(source, Randomizer.INSTANCE.getSource());
+        } finally {
+            Randomizer.INSTANCE.bind(previous);
+        }
+        assertSame(previous, Randomizer.INSTANCE.getSource());
+    }
+}
@@ -0,0 +1,82 @@
+package com.dt180g.project.horde;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@code VectorHordeKernels} class applies the bulk operations of a {@link Horde} with the vector API,
+ * a whole vector of lanes at a time, using the preferred vector size of the platform. The elements left over
+ * after the last full vector are handled one at a time.
+ *
+ * <p>Only compiled by the {@code vector} profile, and only used when the {@code jdk.incubator.vector} module
+ * has been added to the running virtual machine.
+ *
+ * @author Daniel Jönsson
+ * @see HordeKernels
+ * @version 1.0
+ */
+final class VectorHordeKernels extends HordeKernels {
+
+    /**Instance field variables*/
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    /**{@inheritDoc}*/
+    @Override
+    String getName(){
+        return "vector " + SPECIES.vectorBitSize() + "-bit";
+    }
+
+    /**{@inheritDoc}*/
+    @Override
+    void replenish(int[] actionPoints, int[] energyLevels, int length, int addedActionPoints, int addedEnergy){
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()){
+            IntVector.fromArray(SPECIES, actionPoints, i).add(addedActionPoints).intoArray(actionPoints, i);
+            IntVector.fromArray(SPECIES, energyLevels, i).add(addedEnergy).intoArray(energyLevels, i);
+        }
+        for (; i < length; i++){
+            actionPoints[i] += addedActionPoints;
+            energyLevels[i] += addedEnergy;
+        }
+    }
+
+    /**{@inheritDoc}*/
+    @Override
+    void applyDamage(int[] hitPoints, int offset, int[] damage, int[] deflection, int[] directHits, int length){
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()){
+            IntVector directHit = IntVector.fromArray(SPECIES, damage, i)
+                    .sub(IntVector.fromArray(SPECIES, deflection, i))
+                    .max(0);
+            directHit.intoArray(directHits, i);
+            IntVector.fromArray(SPECIES, hitPoints, offset + i).sub(directHit).intoArray(hitPoints, offset + i);
+        }
+        for (; i < length; i++){
+            int directHit = Math.max(damage[i] - deflection[i], 0);
+            directHits[i] = directHit;
+            hitPoints[offset + i] -= directHit;
+        }
+    }
+
+    /**{@inheritDoc}*/
+    @Override
+    int collectDead(int[] hitPoints, int offset, int length, int[] into){
+        int amountOfDead = 0;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()){
+            VectorMask<Integer> dead = IntVector.fromArray(SPECIES, hitPoints, offset + i)
+                    .compare(VectorOperators.LT, 1);
+            for (long lanes = dead.toLong(); lanes != 0; lanes &= lanes - 1){
+                into[amountOfDead++] = offset + i + Long.numberOfTrailingZeros(lanes);
+            }
+        }
+        for (; i < length; i++){
+            if (hitPoints[offset + i] < 1){
+                into[amountOfDead++] = offset + i;
+            }
+        }
+        return amountOfDead;
+    }
+}